@@ -0,0 +1,187 @@
+package pl.rezerveo.booking.booking.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.properties.SlotAdmissionProperties;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05006;
+
+/**
+ * Admission layer in front of single slot bookings. Contenders for the same slot wait in a fair FIFO queue and enter one at
+ * a time; once a slot has been booked the remaining contenders are rejected without reaching the database. The slot is
+ * marked by the committed booking event only, never by the returning caller, so a release that happened in between is not
+ * overwritten. Failed attempts do not mark the slot, because a slot held by one client is unavailable only to the others.
+ * The claimed marker is only an optimisation: it is cleared when the slot is released and expires after a short time, after
+ * which requests are decided by the database again.
+ */
+@Slf4j
+@Component
+@ManagedResource(objectName = "pl.rezerveo.booking:type=SlotAdmissionGate", description = "Admission queue for slot bookings")
+public class SlotAdmissionGate {
+
+    private final SlotAdmissionProperties properties;
+    private final Map<UUID, Gate> gates = new ConcurrentHashMap<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public SlotAdmissionGate(SlotAdmissionProperties properties) {
+        this.properties = properties;
+    }
+
+    public <T> T admit(UUID slotUuid, Supplier<T> booking) {
+        if (!properties.isEnabled()) {
+            return booking.get();
+        }
+
+        Gate gate = enter(slotUuid);
+        try {
+            rejectIfClaimed(slotUuid, gate);
+            awaitTurn(slotUuid, gate);
+            try {
+                rejectIfClaimed(slotUuid, gate);
+                admitted.increment();
+                return booking.get();
+            } finally {
+                gate.semaphore.release();
+            }
+        } finally {
+            leave(slotUuid, gate);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        if (SlotChangeType.RELEASED == event.type()) {
+            gates.computeIfPresent(event.slotUuid(), (uuid, gate) -> {
+                gate.claim(0);
+                return gate.references == 0 ? null : gate;
+            });
+        } else if (SlotChangeType.BOOKED == event.type() || SlotChangeType.CANCELED == event.type()) {
+            gates.computeIfPresent(event.slotUuid(), (uuid, gate) -> {
+                gate.claim(claimedUntil());
+                return gate;
+            });
+        }
+    }
+
+    @Scheduled(cron = "0 * * * * *")
+    public void purgeExpiredClaims() {
+        long now = System.currentTimeMillis();
+        gates.forEach((uuid, gate) -> gates.computeIfPresent(uuid, (key, current) -> current.references == 0 && !current.isClaimed(now) ? null : current));
+    }
+
+    @ManagedAttribute(description = "Number of clients waiting for their turn to book a slot")
+    public int getQueueDepth() {
+        return gates.values().stream().mapToInt(gate -> gate.semaphore.getQueueLength()).sum();
+    }
+
+    @ManagedAttribute(description = "Number of slots currently tracked by the admission gate")
+    public int getTrackedSlots() {
+        return gates.size();
+    }
+
+    @ManagedAttribute(description = "Number of booking attempts let through to the booking service")
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    @ManagedAttribute(description = "Number of booking attempts rejected because the slot was already claimed")
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @ManagedAttribute(description = "Number of booking attempts rejected because the queue of a slot was full or timed out")
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    @ManagedAttribute(description = "Share of booking attempts rejected by the admission gate")
+    public double getRejectionRate() {
+        long rejectedTotal = rejected.sum() + overflowed.sum();
+        long total = rejectedTotal + admitted.sum();
+        return total == 0 ? 0 : (double) rejectedTotal / total;
+    }
+
+    private Gate enter(UUID slotUuid) {
+        return gates.compute(slotUuid, (uuid, gate) -> {
+            Gate current = gate == null ? new Gate() : gate;
+            current.references++;
+            return current;
+        });
+    }
+
+    private void leave(UUID slotUuid, Gate gate) {
+        gates.computeIfPresent(slotUuid, (uuid, current) -> {
+            if (current != gate) {
+                return current;
+            }
+            current.references--;
+            return current.references == 0 && !current.isClaimed(System.currentTimeMillis()) ? null : current;
+        });
+    }
+
+    private void awaitTurn(UUID slotUuid, Gate gate) {
+        if (gate.semaphore.getQueueLength() >= properties.getMaxWaiting()) {
+            overflowed.increment();
+            log.error("Too many clients waiting to book slot UUID: {}", slotUuid);
+            throw new ServiceException(E05006);
+        }
+
+        try {
+            if (!gate.semaphore.tryAcquire(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                overflowed.increment();
+                log.error("Timed out waiting for turn to book slot UUID: {}", slotUuid);
+                throw new ServiceException(E05006);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for turn to book slot UUID: {}", slotUuid);
+            throw new ServiceException(E00006);
+        }
+    }
+
+    private void rejectIfClaimed(UUID slotUuid, Gate gate) {
+        if (gate.isClaimed(System.currentTimeMillis())) {
+            rejected.increment();
+            log.error("Slot UUID: {} has already been claimed, rejecting without database access", slotUuid);
+            throw new ServiceException(E05004);
+        }
+    }
+
+    private long claimedUntil() {
+        return System.currentTimeMillis() + properties.getClaimedTtl().toMillis();
+    }
+
+    private static final class Gate {
+
+        private final Semaphore semaphore = new Semaphore(1, true);
+        private volatile long claimedUntil;
+        private int references;
+
+        private void claim(long until) {
+            claimedUntil = until;
+        }
+
+        private boolean isClaimed(long now) {
+            return claimedUntil > now;
+        }
+    }
+}
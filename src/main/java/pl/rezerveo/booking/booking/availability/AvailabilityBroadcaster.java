@@ -0,0 +1,176 @@
+package pl.rezerveo.booking.booking.availability;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import pl.rezerveo.booking.booking.dto.response.AvailabilityChangeResponse;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.properties.AvailabilityStreamProperties;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05008;
+
+/**
+ * Pushes availability changes to Server-Sent Events subscribers. Publishing never blocks on a subscriber: every change is put
+ * into a bounded per-subscriber buffer that drops its oldest change when full, and buffers are drained by virtual threads.
+ * Subscribers whose connection fails are removed; idle subscribers only receive a periodic heartbeat comment.
+ */
+@Slf4j
+@Component
+@ManagedResource(objectName = "pl.rezerveo.booking:type=AvailabilityBroadcaster", description = "Availability changes stream")
+public class AvailabilityBroadcaster {
+
+    private static final String EVENT_NAME = "availability";
+
+    private final AvailabilityStreamProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("availability-stream-", 0).factory());
+
+    public AvailabilityBroadcaster(AvailabilityStreamProperties properties) {
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            log.error("Rejected availability stream subscriber, limit of {} reached", properties.getMaxSubscribers());
+            throw new ServiceException(E05008);
+        }
+
+        Subscriber subscriber = new Subscriber(createEmitter());
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(ex -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+
+        log.info("New availability stream subscriber, {} subscribed", subscriberCount.get());
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Change change = new Change(sequence.incrementAndGet(), AvailabilityChangeResponse.of(event));
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(change);
+        }
+    }
+
+    @Scheduled(cron = "${application.booking.availability-stream.heartbeat}")
+    public void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            senders.execute(() -> send(subscriber, SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    @ManagedAttribute(description = "Number of connected subscribers")
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of changes dropped because a subscriber buffer was full")
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.getTimeout().toMillis());
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Change change;
+            while ((change = subscriber.poll()) != null) {
+                if (!send(subscriber, SseEmitter.event().id(String.valueOf(change.id())).name(EVENT_NAME).data(change.response()))) {
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Availability stream subscriber disconnected: {}", ex.getMessage());
+            unsubscribe(subscriber);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private record Change(long id, AvailabilityChangeResponse response) {}
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Deque<Change> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Change change) {
+            synchronized (buffer) {
+                if (buffer.size() == properties.getBufferSize()) {
+                    buffer.pollFirst();
+                    dropped.increment();
+                }
+                buffer.addLast(change);
+            }
+
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(() -> drain(this));
+            }
+        }
+
+        private Change poll() {
+            synchronized (buffer) {
+                return buffer.pollFirst();
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package pl.rezerveo.booking.booking.availability;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.common.version.ChangePartition;
+import pl.rezerveo.booking.common.version.ChangeVersions;
+import pl.rezerveo.booking.properties.AvailabilityIndexProperties;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.event.MechanicRenamedEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+
+/**
+ * In-memory index of AVAILABLE slots grouped by date and ordered by start time, with the display fields already resolved.
+ * Each service type additionally keeps its slots in chronological order, so the earliest free slots are a tail-set lookup.
+ * It is rebuilt from the database on startup, kept up to date by {@link SlotChangedEvent}s and {@link MechanicRenamedEvent}s
+ * and periodically compared with the database, which stays the source of truth. Until the first rebuild completes callers
+ * fall back to the database. The {@link ChangePartition#SLOTS} version is bumped only after a change has been applied, so
+ * pages cached under a version always contain every change that version stands for.
+ */
+@Slf4j
+@Component
+public class AvailabilityIndex {
+
+    private static final Comparator<IndexedSlot> SLOT_ORDER = Comparator.comparing(IndexedSlot::startTime)
+                                                                        .thenComparing(IndexedSlot::uuid);
+    private static final Comparator<IndexedSlot> CHRONOLOGICAL_ORDER = Comparator.comparing(IndexedSlot::date)
+                                                                                 .thenComparing(SLOT_ORDER);
+    private static final UUID LOWEST_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final Sort INDEX_SORT = Sort.by(ASC, "date", "startTime");
+
+    private final SlotRepository slotRepository;
+    private final AvailabilityIndexProperties properties;
+    private final ChangeVersions changeVersions;
+    private final List<Consumer<Snapshot>> missedDuringRebuild = new ArrayList<>();
+
+    private volatile Snapshot snapshot;
+    private boolean rebuilding;
+
+    public AvailabilityIndex(SlotRepository slotRepository, AvailabilityIndexProperties properties, ChangeVersions changeVersions) {
+        this.slotRepository = slotRepository;
+        this.properties = properties;
+        this.changeVersions = changeVersions;
+    }
+
+    public Optional<Page<AvailableSlotsResponse>> findAvailableSlots(AvailableSlotsFilter filter, Pageable pageable) {
+        Snapshot current = snapshot;
+        if (current == null || !isServedFromIndex(pageable.getSort())) {
+            return Optional.empty();
+        }
+
+        Collection<Day> days = current.daysWithin(filter.from(), filter.to());
+        boolean unfiltered = isNull(filter.serviceType()) && isNull(filter.fromTime()) && isNull(filter.toTime()) && isNull(filter.mechanicUuid());
+        long toSkip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<AvailableSlotsResponse> content = new ArrayList<>(Math.min(limit, 64));
+        long total = 0;
+
+        for (Day day : days) {
+            if (unfiltered && toSkip >= day.size.get()) {
+                toSkip -= day.size.get();
+                total += day.size.get();
+                continue;
+            }
+
+            for (IndexedSlot slot : day.slots) {
+                if (!unfiltered && !matches(filter, slot)) {
+                    continue;
+                }
+                total++;
+                if (toSkip > 0) {
+                    toSkip--;
+                } else if (content.size() < limit) {
+                    content.add(slot.response());
+                }
+            }
+        }
+
+        return Optional.of(new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * Up to {@code limit} earliest available slots of the service type starting at or after the given moment, or an empty
+     * result when the index is not built yet.
+     */
+    public Optional<List<AvailableSlotsResponse>> findEarliestAvailableSlots(ServiceType serviceType, LocalDateTime after, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        LocalTime startTime = after.toLocalTime();
+        IndexedSlot probe = new IndexedSlot(serviceType, null, new AvailableSlotsResponse(LOWEST_UUID, after.toLocalDate(), startTime, startTime, null, null));
+        List<AvailableSlotsResponse> earliest = new ArrayList<>(limit);
+
+        for (IndexedSlot slot : current.byServiceType.get(serviceType).tailSet(probe, true)) {
+            if (earliest.size() == limit) {
+                break;
+            }
+            earliest.add(slot.response());
+        }
+
+        return Optional.of(earliest);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSlotChanged(SlotChangedEvent event) {
+        applyChange(changed -> changed.apply(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMechanicRenamed(MechanicRenamedEvent event) {
+        applyChange(changed -> changed.rename(event.mechanicUuid(), event.mechanicName()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        synchronized (this) {
+            rebuilding = true;
+            missedDuringRebuild.clear();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            slotRepository.findAllIndexedAvailableSlots().forEach(rebuilt::add);
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                rebuilding = false;
+                missedDuringRebuild.clear();
+            }
+            throw ex;
+        }
+
+        synchronized (this) {
+            missedDuringRebuild.forEach(change -> change.accept(rebuilt));
+            missedDuringRebuild.clear();
+            snapshot = rebuilt;
+            rebuilding = false;
+        }
+        changeVersions.bump(ChangePartition.SLOTS);
+
+        log.info("Availability index rebuilt with {} available slots", rebuilt.bySlot.size());
+    }
+
+    @Scheduled(cron = "${application.booking.availability.consistency-check}")
+    public void verifyConsistency() {
+        if (snapshot == null) {
+            return;
+        }
+
+        Set<UUID> expected = slotRepository.findAllAvailableSlotUuids();
+        Set<UUID> indexed = snapshot.bySlot.keySet();
+
+        if (expected.size() == indexed.size() && indexed.containsAll(expected)) {
+            log.info("Availability index is consistent with database, {} available slots", expected.size());
+            return;
+        }
+
+        log.warn("Availability index diverged from database ({} indexed, {} expected), rebuilding", indexed.size(), expected.size());
+        rebuild();
+    }
+
+    private void applyChange(Consumer<Snapshot> change) {
+        if (rebuilding) {
+            missedDuringRebuild.add(change);
+        }
+        if (snapshot != null) {
+            change.accept(snapshot);
+        }
+        changeVersions.bump(ChangePartition.SLOTS);
+    }
+
+    private static boolean matches(AvailableSlotsFilter filter, IndexedSlot slot) {
+        return (isNull(filter.serviceType()) || filter.serviceType() == slot.serviceType())
+               && (isNull(filter.fromTime()) || !slot.startTime().isBefore(filter.fromTime()))
+               && (isNull(filter.toTime()) || !slot.endTime().isAfter(filter.toTime()))
+               && (isNull(filter.mechanicUuid()) || filter.mechanicUuid().equals(slot.mechanicUuid()));
+    }
+
+    private static boolean isServedFromIndex(Sort sort) {
+        return sort.isUnsorted() || INDEX_SORT.equals(sort) || Sort.by(ASC, "date").equals(sort);
+    }
+
+    private static final class Snapshot {
+
+        private final NavigableMap<LocalDate, Day> byDate = new ConcurrentSkipListMap<>();
+        private final Map<UUID, IndexedSlot> bySlot = new ConcurrentHashMap<>();
+        private final Map<ServiceType, NavigableSet<IndexedSlot>> byServiceType = new EnumMap<>(ServiceType.class);
+
+        private Snapshot() {
+            for (ServiceType serviceType : ServiceType.values()) {
+                byServiceType.put(serviceType, new ConcurrentSkipListSet<>(CHRONOLOGICAL_ORDER));
+            }
+        }
+
+        private Collection<Day> daysWithin(LocalDate from, LocalDate to) {
+            if (isNull(from) && isNull(to)) {
+                return byDate.values();
+            }
+            if (isNull(from)) {
+                return byDate.headMap(to, true).values();
+            }
+            if (isNull(to)) {
+                return byDate.tailMap(from, true).values();
+            }
+            return byDate.subMap(from, true, to, true).values();
+        }
+
+        private void apply(SlotChangedEvent event) {
+            if (SlotChangeType.CREATED == event.type() || SlotChangeType.RELEASED == event.type()) {
+                add(new IndexedSlot(event.serviceType(),
+                                    event.mechanicUuid(),
+                                    new AvailableSlotsResponse(event.slotUuid(),
+                                                               event.date(),
+                                                               event.startTime(),
+                                                               event.endTime(),
+                                                               event.serviceType().getDescription(),
+                                                               event.mechanicName())));
+            } else {
+                remove(event.slotUuid());
+            }
+        }
+
+        private void rename(UUID mechanicUuid, String mechanicName) {
+            List<IndexedSlot> renamed = bySlot.values().stream()
+                                              .filter(slot -> mechanicUuid.equals(slot.mechanicUuid()))
+                                              .toList();
+            for (IndexedSlot slot : renamed) {
+                AvailableSlotsResponse response = slot.response();
+                remove(slot.uuid());
+                add(new IndexedSlot(slot.serviceType(),
+                                    mechanicUuid,
+                                    new AvailableSlotsResponse(response.uuid(),
+                                                               response.date(),
+                                                               response.startTime(),
+                                                               response.endTime(),
+                                                               response.serviceType(),
+                                                               mechanicName)));
+            }
+        }
+
+        private void add(IndexedSlot slot) {
+            if (bySlot.putIfAbsent(slot.uuid(), slot) != null) {
+                return;
+            }
+            Day day = byDate.computeIfAbsent(slot.date(), date -> new Day());
+            day.slots.add(slot);
+            day.size.incrementAndGet();
+            byServiceType.get(slot.serviceType()).add(slot);
+        }
+
+        private void remove(UUID slotUuid) {
+            IndexedSlot slot = bySlot.remove(slotUuid);
+            if (slot == null) {
+                return;
+            }
+            byServiceType.get(slot.serviceType()).remove(slot);
+            Day day = byDate.get(slot.date());
+            day.slots.remove(slot);
+            if (day.size.decrementAndGet() == 0) {
+                byDate.remove(slot.date());
+            }
+        }
+    }
+
+    private static final class Day {
+
+        private final ConcurrentSkipListSet<IndexedSlot> slots = new ConcurrentSkipListSet<>(SLOT_ORDER);
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -0,0 +1,41 @@
+package pl.rezerveo.booking.booking.availability;
+
+import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Entry of the {@link AvailabilityIndex}: the search criteria of an available slot together with its precomputed response.
+ */
+public record IndexedSlot(ServiceType serviceType, UUID mechanicUuid, AvailableSlotsResponse response) {
+
+    public IndexedSlot(UUID uuid,
+                       LocalDate date,
+                       LocalTime startTime,
+                       LocalTime endTime,
+                       ServiceType serviceType,
+                       UUID mechanicUuid,
+                       String mechanicFirstName,
+                       String mechanicLastName) {
+        this(serviceType, mechanicUuid, new AvailableSlotsResponse(uuid, date, startTime, endTime, serviceType, mechanicFirstName, mechanicLastName));
+    }
+
+    public UUID uuid() {
+        return response.uuid();
+    }
+
+    public LocalDate date() {
+        return response.date();
+    }
+
+    public LocalTime startTime() {
+        return response.startTime();
+    }
+
+    public LocalTime endTime() {
+        return response.endTime();
+    }
+}
@@ -1,33 +1,80 @@
 package pl.rezerveo.booking.booking.controller;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.rezerveo.booking.booking.availability.AvailabilityBroadcaster;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.request.BatchBookingRequest;
 import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.booking.dto.response.BatchBookingResponse;
 import pl.rezerveo.booking.booking.dto.response.BookingListResponse;
 import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
+import pl.rezerveo.booking.booking.dto.response.MechanicCalendarResponse;
+import pl.rezerveo.booking.booking.dto.response.SlotHoldResponse;
+import pl.rezerveo.booking.booking.enumerated.ExportFormat;
+import pl.rezerveo.booking.booking.service.BookingExportService;
 import pl.rezerveo.booking.booking.service.BookingService;
+import pl.rezerveo.booking.booking.service.SlotHoldService;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.common.version.ConditionalGet;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.idempotency.service.IdempotencyService;
 import pl.rezerveo.booking.openApi.booking.ApiBookSlotResponse;
+import pl.rezerveo.booking.openApi.booking.ApiBookSlotsResponse;
 import pl.rezerveo.booking.openApi.booking.ApiCancelBookingResponse;
+import pl.rezerveo.booking.openApi.booking.ApiExportMechanicBookingHistoryResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetAvailableSlotsAfterCursorResponse;
 import pl.rezerveo.booking.openApi.booking.ApiGetAvailableSlotsResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetAvailableSlotsSliceResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetBookingListAfterCursorResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetEarliestAvailableSlotsResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetMechanicCalendarResponse;
 import pl.rezerveo.booking.openApi.booking.ApiGetBookingListResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetBookingListSliceResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetMechanicBookingHistoryAfterCursorResponse;
 import pl.rezerveo.booking.openApi.booking.ApiGetMechanicBookingHistoryResponse;
+import pl.rezerveo.booking.openApi.booking.ApiGetMechanicBookingHistorySliceResponse;
+import pl.rezerveo.booking.openApi.booking.ApiHoldSlotResponse;
+import pl.rezerveo.booking.openApi.booking.ApiReleaseSlotHoldResponse;
+import pl.rezerveo.booking.openApi.booking.ApiRescheduleBookingResponse;
+import pl.rezerveo.booking.openApi.booking.ApiStreamAvailabilityChangesResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
+import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+import static pl.rezerveo.booking.common.constant.Headers.IDEMPOTENCY_KEY;
 import static pl.rezerveo.booking.common.constant.Urls.BOOKINGS_URL;
+import static pl.rezerveo.booking.common.version.ChangePartition.BOOKINGS;
+import static pl.rezerveo.booking.common.version.ChangePartition.SLOTS;
 
 @Slf4j
 @RestController
@@ -37,35 +84,143 @@ import static pl.rezerveo.booking.common.constant.Urls.BOOKINGS_URL;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final SlotHoldService slotHoldService;
+    private final IdempotencyService idempotencyService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+    private final BookingExportService bookingExportService;
 
     @GetMapping("/available")
     @ApiGetAvailableSlotsResponse
-    public PageResponse<AvailableSlotsResponse> getAvailableSlots(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
-        return bookingService.getAvailableSlots(pageable);
+    @ConditionalGet(SLOTS)
+    public PageResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, @PageableDefault(sort = {"date", "startTime"}, direction = ASC) Pageable pageable) {
+        return bookingService.getAvailableSlots(filter, pageable);
+    }
+
+    @GetMapping(value = "/available", params = {"total=false", "!after"})
+    @ApiGetAvailableSlotsSliceResponse
+    @ConditionalGet(SLOTS)
+    public SliceResponse<AvailableSlotsResponse> getAvailableSlotsSlice(AvailableSlotsFilter filter, @PageableDefault(sort = {"date", "startTime"}, direction = ASC) Pageable pageable) {
+        return bookingService.getAvailableSlotsSlice(filter, pageable);
+    }
+
+    @GetMapping(value = "/available", params = "after")
+    @ApiGetAvailableSlotsAfterCursorResponse
+    @ConditionalGet(SLOTS)
+    public CursorResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, @RequestParam String after, @RequestParam(defaultValue = "20") int size) {
+        return bookingService.getAvailableSlots(filter, after, size);
+    }
+
+    @GetMapping("/available/earliest")
+    @ApiGetEarliestAvailableSlotsResponse
+    public List<AvailableSlotsResponse> getEarliestAvailableSlots(@RequestParam ServiceType serviceType,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) LocalDateTime after,
+                                                                  @RequestParam(defaultValue = "5") int limit) {
+        return bookingService.getEarliestAvailableSlots(serviceType, after, limit);
+    }
+
+    @GetMapping("/available/calendar")
+    @ConditionalGet(SLOTS)
+    @ApiGetMechanicCalendarResponse
+    public MechanicCalendarResponse getMechanicCalendar(@RequestParam UUID mechanicUuid,
+                                                        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+                                                        @RequestParam(defaultValue = "60") int window) {
+        return bookingService.getMechanicCalendar(mechanicUuid, month, window);
+    }
+
+    @GetMapping(value = "/available/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiStreamAvailabilityChangesResponse
+    public SseEmitter streamAvailabilityChanges() {
+        return availabilityBroadcaster.subscribe();
     }
 
     @PostMapping("/{slotUuid}")
     @ApiBookSlotResponse
-    public BaseResponse bookSlot(@PathVariable UUID slotUuid) {
-        return bookingService.bookSlot(slotUuid);
+    public BaseResponse bookSlot(@PathVariable UUID slotUuid, @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "bookSlot:" + slotUuid, () -> bookingService.bookSlot(slotUuid));
+    }
+
+    @PostMapping("/batch")
+    @ApiBookSlotsResponse
+    public BatchBookingResponse bookSlots(@RequestBody @Valid BatchBookingRequest request) {
+        return bookingService.bookSlots(request);
+    }
+
+    @PostMapping("/{slotUuid}/hold")
+    @ApiHoldSlotResponse
+    public SlotHoldResponse holdSlot(@PathVariable UUID slotUuid) {
+        return slotHoldService.holdSlot(slotUuid);
+    }
+
+    @DeleteMapping("/{slotUuid}/hold")
+    @ApiReleaseSlotHoldResponse
+    public BaseResponse releaseHold(@PathVariable UUID slotUuid) {
+        return slotHoldService.releaseHold(slotUuid);
     }
 
     @GetMapping
     @ApiGetBookingListResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
     public PageResponse<BookingListResponse> getBookingList(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
         return bookingService.getBookingList(pageable);
     }
 
+    @GetMapping(params = {"total=false", "!after"})
+    @ApiGetBookingListSliceResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
+    public SliceResponse<BookingListResponse> getBookingListSlice(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
+        return bookingService.getBookingListSlice(pageable);
+    }
+
+    @GetMapping(params = "after")
+    @ApiGetBookingListAfterCursorResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
+    public CursorResponse<BookingListResponse> getBookingList(@RequestParam String after, @RequestParam(defaultValue = "20") int size) {
+        return bookingService.getBookingList(after, size);
+    }
+
     @DeleteMapping("/{bookingUuid}")
     @ApiCancelBookingResponse
     public BaseResponse cancelBooking(@PathVariable UUID bookingUuid) {
         return bookingService.cancelBooking(bookingUuid);
     }
 
+    @PutMapping("/{bookingUuid}/slot/{newSlotUuid}")
+    @ApiRescheduleBookingResponse
+    public BaseResponse rescheduleBooking(@PathVariable UUID bookingUuid, @PathVariable UUID newSlotUuid) {
+        return bookingService.rescheduleBooking(bookingUuid, newSlotUuid);
+    }
+
     @GetMapping("/mechanic/history")
     @PreAuthorize("hasRole('MECHANIC')")
     @ApiGetMechanicBookingHistoryResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
     public PageResponse<MechanicBookingListResponse> getMechanicBookingHistory(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
         return bookingService.getMechanicBookingHistory(pageable);
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/mechanic/history", params = {"total=false", "!after"})
+    @PreAuthorize("hasRole('MECHANIC')")
+    @ApiGetMechanicBookingHistorySliceResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
+    public SliceResponse<MechanicBookingListResponse> getMechanicBookingHistorySlice(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
+        return bookingService.getMechanicBookingHistorySlice(pageable);
+    }
+
+    @GetMapping(value = "/mechanic/history", params = "after")
+    @PreAuthorize("hasRole('MECHANIC')")
+    @ApiGetMechanicBookingHistoryAfterCursorResponse
+    @ConditionalGet(value = BOOKINGS, userScoped = true)
+    public CursorResponse<MechanicBookingListResponse> getMechanicBookingHistory(@RequestParam String after, @RequestParam(defaultValue = "20") int size) {
+        return bookingService.getMechanicBookingHistory(after, size);
+    }
+
+    @GetMapping("/mechanic/history/export")
+    @PreAuthorize("hasRole('MECHANIC')")
+    @ApiExportMechanicBookingHistoryResponse
+    public ResponseEntity<StreamingResponseBody> exportMechanicBookingHistory(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.parseMediaType(format.getMediaType()))
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"booking-history." + format.getExtension() + "\"")
+                             .body(bookingExportService.exportMechanicBookingHistory(format));
+    }
+}
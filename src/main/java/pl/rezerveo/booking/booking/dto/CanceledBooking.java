@@ -0,0 +1,6 @@
+package pl.rezerveo.booking.booking.dto;
+
+import java.util.UUID;
+
+public record CanceledBooking(UUID bookingUuid, String clientEmail) {
+}
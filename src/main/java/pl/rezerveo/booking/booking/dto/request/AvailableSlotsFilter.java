@@ -0,0 +1,38 @@
+package pl.rezerveo.booking.booking.dto.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+
+/**
+ * Optional criteria of the available slots search. Every criterion left empty is not applied; the time window matches slots
+ * that start no earlier than {@code fromTime} and end no later than {@code toTime}.
+ */
+public record AvailableSlotsFilter(@DateTimeFormat(iso = DATE)
+                                   LocalDate from,
+
+                                   @DateTimeFormat(iso = DATE)
+                                   LocalDate to,
+
+                                   ServiceType serviceType,
+
+                                   @DateTimeFormat(pattern = "HH:mm")
+                                   LocalTime fromTime,
+
+                                   @DateTimeFormat(pattern = "HH:mm")
+                                   LocalTime toTime,
+
+                                   UUID mechanicUuid) {
+
+    public static final AvailableSlotsFilter NONE = new AvailableSlotsFilter(null, null, null, null, null, null);
+
+    public boolean isValid() {
+        return (isNull(from) || isNull(to) || !from.isAfter(to)) && (isNull(fromTime) || isNull(toTime) || !fromTime.isAfter(toTime));
+    }
+}
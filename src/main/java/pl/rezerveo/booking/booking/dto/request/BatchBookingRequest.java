@@ -0,0 +1,12 @@
+package pl.rezerveo.booking.booking.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchBookingRequest(@NotEmpty
+                                  @Size(max = 50)
+                                  List<@NotNull UUID> slotUuids) {}
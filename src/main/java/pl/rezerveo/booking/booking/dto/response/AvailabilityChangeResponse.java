@@ -0,0 +1,30 @@
+package pl.rezerveo.booking.booking.dto.response;
+
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record AvailabilityChangeResponse(
+        SlotChangeType type,
+        boolean available,
+        UUID uuid,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        String serviceType,
+        String mechanicName
+) {
+    public static AvailabilityChangeResponse of(SlotChangedEvent event) {
+        return new AvailabilityChangeResponse(event.type(),
+                                              SlotChangeType.CREATED == event.type() || SlotChangeType.RELEASED == event.type(),
+                                              event.slotUuid(),
+                                              event.date(),
+                                              event.startTime(),
+                                              event.endTime(),
+                                              event.serviceType().getDescription(),
+                                              event.mechanicName());
+    }
+}
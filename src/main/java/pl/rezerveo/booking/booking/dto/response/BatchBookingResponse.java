@@ -0,0 +1,6 @@
+package pl.rezerveo.booking.booking.dto.response;
+
+import java.util.List;
+
+public record BatchBookingResponse(List<BatchBookingResult> results) {
+}
@@ -0,0 +1,20 @@
+package pl.rezerveo.booking.booking.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import pl.rezerveo.booking.common.enumerated.ResponseCode;
+
+import java.util.UUID;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@JsonInclude(NON_NULL)
+public record BatchBookingResult(UUID slotUuid, ResponseCode status, String message, UUID bookingUuid) {
+
+    public static BatchBookingResult booked(UUID slotUuid, ResponseCode status, UUID bookingUuid) {
+        return new BatchBookingResult(slotUuid, status, status.getMessage(), bookingUuid);
+    }
+
+    public static BatchBookingResult rejected(UUID slotUuid, ResponseCode status) {
+        return new BatchBookingResult(slotUuid, status, status.getMessage(), null);
+    }
+}
@@ -0,0 +1,40 @@
+package pl.rezerveo.booking.booking.dto.response;
+
+import pl.rezerveo.booking.slot.calendar.MechanicDayCalendar;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Month of a mechanic's availability. {@code availableCells} is a Base64 bitmap with {@code cellMinutes} long cells of
+ * consecutive days, least significant bit first; a set cell contains available time. Bit {@code d - 1} of
+ * {@code daysWithWindow} is set when day {@code d} has {@code windowMinutes} of uninterrupted available time.
+ */
+public record MechanicCalendarResponse(
+        UUID mechanicUuid,
+        YearMonth month,
+        int cellMinutes,
+        String availableCells,
+        int windowMinutes,
+        int daysWithWindow
+) {
+    public static MechanicCalendarResponse of(UUID mechanicUuid, YearMonth month, List<MechanicDayCalendar> days, int cellMinutes, int windowMinutes) {
+        int cellsPerDay = MechanicDayCalendar.cellsPerDay(cellMinutes);
+        BitSet cells = new BitSet(days.size() * cellsPerDay);
+        int daysWithWindow = 0;
+
+        for (int day = 0; day < days.size(); day++) {
+            days.get(day).writeAvailableCells(cellMinutes, cells, day * cellsPerDay);
+            if (days.get(day).findAvailableWindow(windowMinutes).isPresent()) {
+                daysWithWindow |= 1 << day;
+            }
+        }
+
+        byte[] bitmap = Arrays.copyOf(cells.toByteArray(), (days.size() * cellsPerDay + Byte.SIZE - 1) / Byte.SIZE);
+        return new MechanicCalendarResponse(mechanicUuid, month, cellMinutes, Base64.getEncoder().encodeToString(bitmap), windowMinutes, daysWithWindow);
+    }
+}
@@ -0,0 +1,7 @@
+package pl.rezerveo.booking.booking.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record SlotHoldResponse(UUID slotUuid, LocalDateTime expiresAt) {
+}
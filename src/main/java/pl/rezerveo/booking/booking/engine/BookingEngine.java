@@ -0,0 +1,239 @@
+package pl.rezerveo.booking.booking.engine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.properties.BookingEngineProperties;
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.model.User;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.UUID.randomUUID;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004;
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE;
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.BOOKED;
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.HELD;
+
+/**
+ * Optional in-memory booking engine. Slot state is partitioned by mechanic and every partition is owned by a single writer
+ * thread, so booking decisions are made without database locks. Decided bookings are persisted in batches by
+ * {@link BookingEngineWriter} and the caller is answered once its batch has been committed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.booking.engine", name = "enabled", havingValue = "true")
+public class BookingEngine {
+
+    private final SlotRepository slotRepository;
+    private final BookingEngineWriter writer;
+    private final BookingEngineProperties properties;
+    private final Partition[] partitions;
+    private final Map<UUID, UUID> slotMechanics = new ConcurrentHashMap<>();
+
+    public BookingEngine(SlotRepository slotRepository, BookingEngineWriter writer, BookingEngineProperties properties) {
+        this.slotRepository = slotRepository;
+        this.writer = writer;
+        this.properties = properties;
+        this.partitions = new Partition[properties.getPartitions()];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i);
+        }
+        log.info("Booking engine started with {} partitions", partitions.length);
+    }
+
+    public UUID book(UUID slotUuid, User client, Authentication authentication) {
+        SlotOwnerAndStatus snapshot = null;
+        UUID mechanicUuid = slotMechanics.get(slotUuid);
+
+        if (isNull(mechanicUuid)) {
+            snapshot = loadSnapshot(slotUuid);
+            mechanicUuid = snapshot.mechanicUuid();
+            slotMechanics.putIfAbsent(slotUuid, mechanicUuid);
+        }
+
+        Partition partition = partitionOf(mechanicUuid);
+        SlotOwnerAndStatus loaded = snapshot;
+        PendingBooking pending = partition.call(() -> partition.decide(slotUuid, client, authentication, () -> isNull(loaded) ? loadSnapshot(slotUuid) : loaded));
+
+        pending.result().whenComplete((bookingUuid, ex) -> {
+            if (ex != null) {
+                partition.execute(() -> partition.evict(slotUuid));
+            }
+        });
+
+        writer.submit(pending);
+        return await(pending);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        Partition partition = partitionOf(event.mechanicUuid());
+        partition.execute(() -> partition.apply(event));
+    }
+
+    @Scheduled(cron = "${application.booking.engine.purge}")
+    public void purgePastSlots() {
+        LocalDate today = LocalDate.now();
+        for (Partition partition : partitions) {
+            partition.execute(() -> partition.purgeBefore(today));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Partition partition : partitions) {
+            partition.executor.shutdown();
+        }
+    }
+
+    private SlotOwnerAndStatus loadSnapshot(UUID slotUuid) {
+        return slotRepository.findSlotOwnerAndStatusByUuid(slotUuid)
+                             .orElseThrow(() -> {
+                                 log.error("Slot with UUID: [{}] not found", slotUuid);
+                                 return new ServiceException(E05001);
+                             });
+    }
+
+    private Partition partitionOf(UUID mechanicUuid) {
+        return partitions[Math.floorMod(mechanicUuid.hashCode(), partitions.length)];
+    }
+
+    private UUID await(PendingBooking pending) {
+        try {
+            return pending.result().get(properties.getPersistTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex);
+        } catch (TimeoutException ex) {
+            return cancelOrAwaitWriter(pending);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return cancelOrAwaitWriter(pending);
+        }
+    }
+
+    /**
+     * A booking still waiting in the queue is withdrawn, so the caller's failure is final. Once the writer took it, its
+     * transaction decides and the caller keeps waiting for that outcome instead of reporting a failure that may still commit.
+     */
+    private UUID cancelOrAwaitWriter(PendingBooking pending) {
+        if (pending.cancel()) {
+            log.error("Booking [{}] for slot [{}] was not persisted in time and has been withdrawn", pending.bookingUuid(), pending.slotUuid());
+            ServiceException failure = new ServiceException(E00006);
+            pending.result().completeExceptionally(failure);
+            throw failure;
+        }
+
+        log.warn("Booking [{}] for slot [{}] is being persisted, waiting for its outcome", pending.bookingUuid(), pending.slotUuid());
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            throw unwrap(ex);
+        }
+    }
+
+    private static RuntimeException unwrap(Exception ex) {
+        if (ex.getCause() instanceof ServiceException serviceException) {
+            return serviceException;
+        }
+        log.error("Booking engine failure: {}", ex.getMessage(), ex);
+        return new ServiceException(E00006);
+    }
+
+    private final class Partition {
+
+        private final ExecutorService executor;
+        private final Map<UUID, SlotState> states = new HashMap<>();
+
+        private Partition(int index) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "booking-engine-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private PendingBooking decide(UUID slotUuid, User client, Authentication authentication, Supplier<SlotOwnerAndStatus> loader) {
+            SlotState state = states.computeIfAbsent(slotUuid, uuid -> SlotState.of(loader.get()));
+
+            if (state.getMechanicUuid().equals(client.getUuid())) {
+                log.error("Logged-in user is the mechanic, cannot book own slot UUID: {}", slotUuid);
+                throw new ServiceException(E06004);
+            }
+
+            if (AVAILABLE != state.getStatus() && HELD != state.getStatus()) {
+                log.error("Cannot book slot UUID: {} because status is {}", slotUuid, state.getStatus());
+                throw new ServiceException(E05004);
+            }
+
+            if (HELD == state.getStatus() && !client.getUuid().equals(state.getHeldByUuid())) {
+                log.error("Cannot book slot UUID: {} because it is held by another client", slotUuid);
+                throw new ServiceException(E05004);
+            }
+
+            state.setStatus(BOOKED);
+            state.setHeldByUuid(null);
+            return PendingBooking.of(randomUUID(), slotUuid, client, authentication);
+        }
+
+        private void apply(SlotChangedEvent event) {
+            SlotState state = states.get(event.slotUuid());
+            if (state != null) {
+                state.setStatus(event.type().getStatus());
+                state.setHeldByUuid(event.heldByUuid());
+            }
+        }
+
+        private void evict(UUID slotUuid) {
+            states.remove(slotUuid);
+        }
+
+        private void purgeBefore(LocalDate date) {
+            states.values().removeIf(state -> {
+                boolean past = state.getDate().isBefore(date);
+                if (past) {
+                    slotMechanics.remove(state.getSlotUuid());
+                }
+                return past;
+            });
+        }
+
+        private <T> T call(Callable<T> task) {
+            try {
+                return executor.submit(task).get();
+            } catch (ExecutionException ex) {
+                throw unwrap(ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException(E00006);
+            }
+        }
+
+        private void execute(Runnable task) {
+            executor.execute(task);
+        }
+    }
+}
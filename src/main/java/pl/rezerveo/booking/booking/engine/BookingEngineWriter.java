@@ -0,0 +1,165 @@
+package pl.rezerveo.booking.booking.engine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.rezerveo.booking.booking.enumerated.BookingStatus;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
+import pl.rezerveo.booking.booking.model.Booking;
+import pl.rezerveo.booking.booking.repository.BookingRepository;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent;
+import pl.rezerveo.booking.properties.BookingEngineProperties;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.security.util.SecurityUtils.runAs;
+
+/**
+ * Drains bookings decided by {@link BookingEngine} and writes them to the database in batches, one transaction per batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.booking.engine", name = "enabled", havingValue = "true")
+public class BookingEngineWriter {
+
+    private final SlotRepository slotRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingEngineProperties properties;
+
+    private final BlockingQueue<PendingBooking> queue = new LinkedBlockingQueue<>();
+    private Thread worker;
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "booking-engine-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+        List<PendingBooking> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.info("Flushing {} pending bookings before shutdown", remaining.size());
+            flush(remaining);
+        }
+    }
+
+    void submit(PendingBooking pending) {
+        queue.add(pending);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingBooking> batch = new ArrayList<>();
+                batch.add(queue.take());
+                queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void flush(List<PendingBooking> batch) {
+        log.info("Persisting batch of {} bookings", batch.size());
+        Map<UUID, Slot> persisted;
+
+        try {
+            persisted = transactionTemplate.execute(status -> persist(batch));
+        } catch (Exception ex) {
+            log.error("Failed to persist batch of {} bookings: {}", batch.size(), ex.getMessage(), ex);
+            batch.forEach(pending -> pending.result().completeExceptionally(new ServiceException(E00006)));
+            return;
+        }
+
+        for (PendingBooking pending : batch) {
+            Slot slot = persisted.get(pending.bookingUuid());
+            if (slot == null) {
+                pending.result().completeExceptionally(new ServiceException(E05004));
+                continue;
+            }
+
+            pending.result().complete(pending.bookingUuid());
+            eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.BOOKED, slot));
+            eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, 1));
+            eventPublisher.publishEvent(new BookingConfirmedEvent(pending.client(), slot));
+        }
+    }
+
+    private Map<UUID, Slot> persist(List<PendingBooking> batch) {
+        List<PendingBooking> claimed = batch.stream()
+                                            .filter(this::startWriting)
+                                            .filter(this::claim)
+                                            .toList();
+
+        if (claimed.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, Slot> slots = slotRepository.findAllWithMechanicByUuidIn(claimed.stream().map(PendingBooking::slotUuid).toList())
+                                              .stream()
+                                              .collect(toMap(Slot::getUuid, Function.identity()));
+        Map<UUID, Slot> persisted = new HashMap<>();
+
+        for (PendingBooking pending : claimed) {
+            Slot slot = slots.get(pending.slotUuid());
+            Booking booking = Booking.builder()
+                                     .uuid(pending.bookingUuid())
+                                     .status(BookingStatus.CONFIRMED)
+                                     .slot(slot)
+                                     .client(pending.client())
+                                     .build();
+            runAs(pending.authentication(), () -> bookingRepository.save(booking));
+            persisted.put(pending.bookingUuid(), slot);
+        }
+
+        return persisted;
+    }
+
+    private boolean startWriting(PendingBooking pending) {
+        boolean started = pending.startWriting();
+
+        if (!started) {
+            log.warn("Booking [{}] for slot [{}] was withdrawn by its caller before it was persisted", pending.bookingUuid(), pending.slotUuid());
+        }
+
+        return started;
+    }
+
+    private boolean claim(PendingBooking pending) {
+        boolean claimed = slotRepository.claimAvailableSlot(pending.slotUuid(), pending.client().getId()) == 1;
+
+        if (!claimed) {
+            log.error("Slot UUID: {} changed in the database before booking [{}] was persisted", pending.slotUuid(), pending.bookingUuid());
+        }
+
+        return claimed;
+    }
+}
@@ -0,0 +1,38 @@
+package pl.rezerveo.booking.booking.engine;
+
+import org.springframework.security.core.Authentication;
+import pl.rezerveo.booking.user.model.User;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Booking decided by an engine partition and waiting to be written by {@link BookingEngineWriter}. It is either taken by the
+ * writer or canceled by its caller, whichever comes first, so a caller that gave up is never booked behind its back.
+ */
+record PendingBooking(UUID bookingUuid,
+                      UUID slotUuid,
+                      User client,
+                      Authentication authentication,
+                      CompletableFuture<UUID> result,
+                      AtomicReference<State> state) {
+
+    static PendingBooking of(UUID bookingUuid, UUID slotUuid, User client, Authentication authentication) {
+        return new PendingBooking(bookingUuid, slotUuid, client, authentication, new CompletableFuture<>(), new AtomicReference<>(State.QUEUED));
+    }
+
+    boolean startWriting() {
+        return state.compareAndSet(State.QUEUED, State.WRITING);
+    }
+
+    boolean cancel() {
+        return state.compareAndSet(State.QUEUED, State.CANCELED);
+    }
+
+    enum State {
+        QUEUED,
+        WRITING,
+        CANCELED
+    }
+}
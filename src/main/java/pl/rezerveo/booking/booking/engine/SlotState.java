@@ -0,0 +1,33 @@
+package pl.rezerveo.booking.booking.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * In-memory view of a single slot. Instances are owned by exactly one engine partition and must only be touched from its thread.
+ */
+@Getter
+@AllArgsConstructor
+class SlotState {
+
+    private final Long slotId;
+    private final UUID slotUuid;
+    private final UUID mechanicUuid;
+    private final LocalDate date;
+
+    @Setter
+    private SlotStatus status;
+
+    @Setter
+    private UUID heldByUuid;
+
+    static SlotState of(SlotOwnerAndStatus snapshot) {
+        return new SlotState(snapshot.id(), snapshot.uuid(), snapshot.mechanicUuid(), snapshot.date(), snapshot.status(), snapshot.heldByUuid());
+    }
+}
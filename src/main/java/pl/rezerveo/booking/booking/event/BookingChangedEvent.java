@@ -0,0 +1,15 @@
+package pl.rezerveo.booking.booking.event;
+
+import pl.rezerveo.booking.booking.enumerated.BookingStatus;
+import pl.rezerveo.booking.booking.model.Booking;
+
+/**
+ * Published whenever bookings are created, change status or are moved to another slot. Listeners should react after the
+ * surrounding transaction commits.
+ */
+public record BookingChangedEvent(BookingStatus status, int count) {
+
+    public static BookingChangedEvent of(Booking booking) {
+        return new BookingChangedEvent(booking.getStatus(), 1);
+    }
+}
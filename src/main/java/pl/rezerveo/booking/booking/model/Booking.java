@@ -3,8 +3,10 @@ package pl.rezerveo.booking.booking.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,6 +28,10 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_booking_slot_id_status", columnList = "slot_id, status"),
+        @Index(name = "idx_booking_client_id_created_date_id", columnList = "client_id, created_date, id")
+})
 public class Booking extends FullAuditEntity {
 
     @Column(nullable = false, unique = true, updatable = false)
@@ -0,0 +1,21 @@
+package pl.rezerveo.booking.booking.repository;
+
+import pl.rezerveo.booking.booking.model.Booking;
+
+import java.util.List;
+
+public interface BookingBatchRepository {
+
+    /**
+     * Inserts new bookings with a single JDBC batch, bypassing the persistence context. The bookings are audited as created by
+     * their client.
+     */
+    void insertAll(List<Booking> bookings);
+
+    /**
+     * Cancels all confirmed bookings of the slot with a single UPDATE.
+     *
+     * @return ids of the bookings that were canceled
+     */
+    List<Long> cancelAllConfirmedBySlotId(Long slotId, Long modifiedBy);
+}
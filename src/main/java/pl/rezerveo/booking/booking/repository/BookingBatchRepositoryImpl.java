@@ -0,0 +1,49 @@
+package pl.rezerveo.booking.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.rezerveo.booking.booking.model.Booking;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingBatchRepositoryImpl implements BookingBatchRepository {
+
+    private static final String INSERT_BOOKING = """
+            INSERT INTO booking (uuid, status, slot_id, client_id, created_date, created_by)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String CANCEL_CONFIRMED_BOOKINGS = """
+            UPDATE booking
+            SET status = 'CANCELED',
+                last_modified_date = ?,
+                last_modified_by = ?
+            WHERE slot_id = ?
+              AND status = 'CONFIRMED'
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Booking> bookings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, bookings, bookings.size(), (statement, booking) -> {
+            statement.setObject(1, booking.getUuid());
+            statement.setString(2, booking.getStatus().name());
+            statement.setLong(3, booking.getSlot().getId());
+            statement.setLong(4, booking.getClient().getId());
+            statement.setTimestamp(5, now);
+            statement.setLong(6, booking.getClient().getId());
+        });
+    }
+
+    @Override
+    public List<Long> cancelAllConfirmedBySlotId(Long slotId, Long modifiedBy) {
+        return jdbcTemplate.queryForList(CANCEL_CONFIRMED_BOOKINGS, Long.class, Timestamp.valueOf(LocalDateTime.now()), modifiedBy, slotId);
+    }
+}
@@ -1,21 +1,33 @@
 package pl.rezerveo.booking.booking.repository;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import pl.rezerveo.booking.booking.dto.CanceledBooking;
 import pl.rezerveo.booking.booking.dto.response.BookingListResponse;
 import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
 import pl.rezerveo.booking.booking.enumerated.BookingStatus;
 import pl.rezerveo.booking.booking.model.Booking;
+import pl.rezerveo.booking.common.dto.Cursor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingBatchRepository {
 
     @Query("""
             SELECT new pl.rezerveo.booking.booking.dto.response.BookingListResponse(
@@ -33,7 +45,42 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                      JOIN s.mechanic m
             WHERE b.client.uuid = :clientUuid
             """)
-    Page<BookingListResponse> findAllByClientUuid(Pageable pageable, UUID clientUuid);
+    Slice<BookingListResponse> findAllByClientUuid(Pageable pageable, UUID clientUuid);
+
+    @Query("""
+            SELECT COUNT(b)
+            FROM Booking b
+            WHERE b.client.uuid = :clientUuid
+            """)
+    long countByClientUuid(UUID clientUuid);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.common.dto.Cursor(b.createdDate, b.id)
+            FROM Booking b
+            WHERE b.client.uuid = :clientUuid
+              AND (b.createdDate < :afterCreatedDate OR (b.createdDate = :afterCreatedDate AND b.id < :afterId))
+            ORDER BY b.createdDate DESC, b.id DESC
+            """)
+    List<Cursor> findKeysByClientUuidAfter(UUID clientUuid, LocalDateTime afterCreatedDate, Long afterId, Limit limit);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.dto.response.BookingListResponse(
+                    b.uuid,
+                    s.date,
+                    s.startTime,
+                    s.endTime,
+                    s.serviceType,
+                    m.firstName,
+                    m.lastName,
+                    b.status
+            )
+            FROM Booking b
+                     JOIN b.slot s
+                     JOIN s.mechanic m
+            WHERE b.id IN :bookingIds
+            ORDER BY b.createdDate DESC, b.id DESC
+            """)
+    List<BookingListResponse> findBookingListByIdIn(Collection<Long> bookingIds);
 
     @Query("""
             SELECT b
@@ -44,6 +91,35 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             """)
     Optional<Booking> findBookingWithClientAndSlotByUuid(UUID bookingUuid);
 
+    /**
+     * Locks only the booking row, so concurrent changes of the same booking are serialized and each one sees the slot
+     * assigned by the previous one.
+     */
+    @Lock(PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT b
+            FROM Booking b
+            WHERE b.uuid = :bookingUuid
+            """)
+    Optional<Booking> lockBookingByUuid(UUID bookingUuid);
+
+    @Query("""
+            SELECT b
+            FROM Booking b
+                     JOIN FETCH b.client
+            WHERE b.uuid = :bookingUuid
+              AND b.slot.uuid = :slotUuid
+            """)
+    Optional<Booking> findBookingWithClientBySlotUuidAndUuid(UUID slotUuid, UUID bookingUuid);
+
+    @Query("""
+            SELECT COUNT(b) > 0
+            FROM Booking b
+            WHERE b.slot.id = :slotId
+              AND b.status = :status
+            """)
+    boolean existsBySlotIdAndStatus(Long slotId, BookingStatus status);
+
     @Query("""
                 SELECT b
                 FROM Booking b
@@ -70,5 +146,84 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                     JOIN s.mechanic m
             WHERE m.uuid = :mechanicUuid
             """)
-    Page<MechanicBookingListResponse> findAllBySlotMechanicUuid(UUID mechanicUuid, Pageable pageable);
-}
\ No newline at end of file
+    Slice<MechanicBookingListResponse> findAllBySlotMechanicUuid(UUID mechanicUuid, Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(b)
+            FROM Booking b
+                    JOIN b.slot s
+            WHERE s.mechanic.uuid = :mechanicUuid
+            """)
+    long countBySlotMechanicUuid(UUID mechanicUuid);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.common.dto.Cursor(b.createdDate, b.id)
+            FROM Booking b
+                     JOIN b.slot s
+            WHERE s.mechanic.uuid = :mechanicUuid
+              AND (b.createdDate < :afterCreatedDate OR (b.createdDate = :afterCreatedDate AND b.id < :afterId))
+            ORDER BY b.createdDate DESC, b.id DESC
+            """)
+    List<Cursor> findKeysBySlotMechanicUuidAfter(UUID mechanicUuid, LocalDateTime afterCreatedDate, Long afterId, Limit limit);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse(
+                   b.uuid,
+                   s.uuid,
+                   s.date,
+                   s.startTime,
+                   s.endTime,
+                   s.serviceType,
+                   m.firstName,
+                   m.lastName,
+                   b.status
+            )
+            FROM Booking b
+                    JOIN b.slot s
+                    JOIN s.mechanic m
+            WHERE b.id IN :bookingIds
+            ORDER BY b.createdDate DESC, b.id DESC
+            """)
+    List<MechanicBookingListResponse> findMechanicBookingListByIdIn(Collection<Long> bookingIds);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse(
+                   b.uuid,
+                   s.uuid,
+                   s.date,
+                   s.startTime,
+                   s.endTime,
+                   s.serviceType,
+                   m.firstName,
+                   m.lastName,
+                   b.status
+            )
+            FROM Booking b
+                    JOIN b.slot s
+                    JOIN s.mechanic m
+            WHERE m.uuid = :mechanicUuid
+            ORDER BY b.createdDate DESC, b.id DESC
+            """)
+    Stream<MechanicBookingListResponse> streamMechanicBookingListBySlotMechanicUuid(UUID mechanicUuid);
+
+    @Query("""
+            SELECT COUNT(b) > 0
+            FROM Booking b
+            WHERE b.slot.id = :slotId
+              AND b.client.id = :clientId
+              AND b.status = 'CONFIRMED'
+            """)
+    boolean existsConfirmedBySlotIdAndClientId(Long slotId, Long clientId);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.dto.CanceledBooking(
+                    b.uuid,
+                    c.email
+            )
+            FROM Booking b
+                     JOIN b.client c
+            WHERE b.id IN :bookingIds
+            """)
+    List<CanceledBooking> findCanceledBookingsByIdIn(Collection<Long> bookingIds);
+}
@@ -2,10 +2,12 @@ package pl.rezerveo.booking.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.rezerveo.booking.booking.enumerated.BookingStatus;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
 import pl.rezerveo.booking.booking.model.Booking;
 import pl.rezerveo.booking.booking.repository.BookingRepository;
 
@@ -19,6 +21,7 @@ import java.util.List;
 public class BookingCompletionService {
 
     private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 * * * * *")
     @Transactional
@@ -39,6 +42,10 @@ public class BookingCompletionService {
 
         bookingRepository.saveAll(bookingsToComplete);
 
+        if (!bookingsToComplete.isEmpty()) {
+            eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.COMPLETED, bookingsToComplete.size()));
+        }
+
         log.info("Booking Completion Cron finished");
     }
 }
\ No newline at end of file
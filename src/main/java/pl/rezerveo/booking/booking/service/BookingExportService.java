@@ -0,0 +1,9 @@
+package pl.rezerveo.booking.booking.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.rezerveo.booking.booking.enumerated.ExportFormat;
+
+public interface BookingExportService {
+
+    StreamingResponseBody exportMechanicBookingHistory(ExportFormat format);
+}
@@ -1,25 +1,55 @@
 package pl.rezerveo.booking.booking.service;
 
 import org.springframework.data.domain.Pageable;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.request.BatchBookingRequest;
 import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.booking.dto.response.BatchBookingResponse;
 import pl.rezerveo.booking.booking.dto.response.BookingListResponse;
 import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
+import pl.rezerveo.booking.booking.dto.response.MechanicCalendarResponse;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
 public interface BookingService {
 
-    PageResponse<AvailableSlotsResponse> getAvailableSlots(Pageable pageable);
+    PageResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, Pageable pageable);
+
+    SliceResponse<AvailableSlotsResponse> getAvailableSlotsSlice(AvailableSlotsFilter filter, Pageable pageable);
+
+    CursorResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, String after, int size);
+
+    List<AvailableSlotsResponse> getEarliestAvailableSlots(ServiceType serviceType, LocalDateTime after, int limit);
+
+    MechanicCalendarResponse getMechanicCalendar(UUID mechanicUuid, YearMonth month, int windowMinutes);
 
     BaseResponse bookSlot(UUID slotUuid);
 
+    BatchBookingResponse bookSlots(BatchBookingRequest request);
+
     PageResponse<BookingListResponse> getBookingList(Pageable pageable);
 
+    SliceResponse<BookingListResponse> getBookingListSlice(Pageable pageable);
+
+    CursorResponse<BookingListResponse> getBookingList(String after, int size);
+
     BaseResponse cancelBooking(UUID bookingUuid);
 
+    BaseResponse rescheduleBooking(UUID bookingUuid, UUID newSlotUuid);
+
     BaseResponse cancelBookingByMechanic(UUID slotUuid, UUID bookingUuid);
 
     PageResponse<MechanicBookingListResponse> getMechanicBookingHistory(Pageable pageable);
+
+    SliceResponse<MechanicBookingListResponse> getMechanicBookingHistorySlice(Pageable pageable);
+
+    CursorResponse<MechanicBookingListResponse> getMechanicBookingHistory(String after, int size);
 }
\ No newline at end of file
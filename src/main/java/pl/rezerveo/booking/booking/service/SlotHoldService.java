@@ -0,0 +1,13 @@
+package pl.rezerveo.booking.booking.service;
+
+import pl.rezerveo.booking.booking.dto.response.SlotHoldResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.util.UUID;
+
+public interface SlotHoldService {
+
+    SlotHoldResponse holdSlot(UUID slotUuid);
+
+    BaseResponse releaseHold(UUID slotUuid);
+}
@@ -0,0 +1,112 @@
+package pl.rezerveo.booking.booking.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
+import pl.rezerveo.booking.booking.enumerated.ExportFormat;
+import pl.rezerveo.booking.booking.repository.BookingRepository;
+import pl.rezerveo.booking.booking.service.BookingExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUserUUID;
+
+/**
+ * Writes the booking history straight from a forward-only database cursor to the response, flushing every
+ * {@value #FLUSH_EVERY} rows, so memory use does not depend on the size of the history.
+ */
+@Slf4j
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "bookingUuid,slotUuid,date,startTime,endTime,serviceType,mechanicName,status";
+
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BookingExportServiceImpl(BookingRepository bookingRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.bookingRepository = bookingRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportMechanicBookingHistory(ExportFormat format) {
+        UUID mechanicUuid = getLoggedUserUUID();
+        log.info("Exporting booking history of mechanic UUID: {} as {}", mechanicUuid, format);
+
+        return outputStream -> {
+            long exported = export(mechanicUuid, format, outputStream);
+            log.info("Exported {} bookings of mechanic UUID: {}", exported, mechanicUuid);
+        };
+    }
+
+    long export(UUID mechanicUuid, ExportFormat format, OutputStream outputStream) {
+        Long exported = readOnlyTransaction.execute(status -> {
+            try (Stream<MechanicBookingListResponse> bookings = bookingRepository.streamMechanicBookingListBySlotMechanicUuid(mechanicUuid)) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+                return write(bookings.iterator(), format, writer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return isNull(exported) ? 0 : exported;
+    }
+
+    private long write(Iterator<MechanicBookingListResponse> bookings, ExportFormat format, Writer writer) throws IOException {
+        if (ExportFormat.CSV == format) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (bookings.hasNext()) {
+            MechanicBookingListResponse booking = bookings.next();
+            writer.write(ExportFormat.CSV == format ? toCsv(booking) : objectMapper.writeValueAsString(booking));
+            writer.write('\n');
+
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private static String toCsv(MechanicBookingListResponse booking) {
+        return String.join(",",
+                           booking.bookingUuid().toString(),
+                           booking.slotUuid().toString(),
+                           booking.date().toString(),
+                           booking.startTime().toString(),
+                           booking.endTime().toString(),
+                           csvField(booking.serviceType()),
+                           csvField(booking.mechanicName()),
+                           booking.status().name());
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
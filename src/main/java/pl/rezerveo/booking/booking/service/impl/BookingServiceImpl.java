@@ -2,36 +2,79 @@ package pl.rezerveo.booking.booking.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.rezerveo.booking.booking.admission.SlotAdmissionGate;
+import pl.rezerveo.booking.booking.availability.AvailabilityIndex;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.request.BatchBookingRequest;
 import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.booking.dto.response.BatchBookingResponse;
+import pl.rezerveo.booking.booking.dto.response.BatchBookingResult;
 import pl.rezerveo.booking.booking.dto.response.BookingListResponse;
 import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
+import pl.rezerveo.booking.booking.dto.response.MechanicCalendarResponse;
+import pl.rezerveo.booking.booking.engine.BookingEngine;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
 import pl.rezerveo.booking.booking.enumerated.BookingStatus;
 import pl.rezerveo.booking.booking.model.Booking;
 import pl.rezerveo.booking.booking.repository.BookingRepository;
 import pl.rezerveo.booking.booking.service.BookingService;
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer;
+import pl.rezerveo.booking.common.dto.Cursor;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.common.enumerated.ResponseCode;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
 import pl.rezerveo.booking.exception.exception.ServiceException;
-import pl.rezerveo.booking.notification.NotificationPublisher;
+import pl.rezerveo.booking.notification.event.BookingCanceledByClientEvent;
+import pl.rezerveo.booking.notification.event.BookingCanceledByMechanicEvent;
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent;
+import pl.rezerveo.booking.notification.event.BookingRescheduledEvent;
+import pl.rezerveo.booking.notification.event.BookingsConfirmedEvent;
 import pl.rezerveo.booking.security.util.SecurityUtils;
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex;
+import pl.rezerveo.booking.slot.calendar.MechanicDayCalendar;
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
 import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
 import pl.rezerveo.booking.slot.model.Slot;
 import pl.rezerveo.booking.slot.repository.SlotRepository;
-
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.waitlist.service.WaitlistService;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
+import static java.util.Objects.isNull;
 import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toMap;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05002;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05007;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06000;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06001;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06003;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06005;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06006;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001;
 import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
@@ -42,39 +85,146 @@ import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUserUUID;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final int EARLIEST_SLOTS_MAX_LIMIT = 50;
+
     private final SlotRepository slotRepository;
     private final BookingRepository bookingRepository;
-    private final NotificationPublisher notificationPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final WaitlistService waitlistService;
+    private final SlotAdmissionGate admissionGate;
+    private final AvailabilityIndex availabilityIndex;
+    private final ReadCoalescer readCoalescer;
+    private final MechanicCalendarIndex mechanicCalendarIndex;
+    private final Optional<BookingEngine> bookingEngine;
 
     @Override
-    public PageResponse<AvailableSlotsResponse> getAvailableSlots(Pageable pageable) {
-        log.info("Fetching available slots, pageable: {}", pageable);
+    public PageResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, Pageable pageable) {
+        log.info("Fetching available slots, filter: {}, pageable: {}", filter, pageable);
+        validateFilter(filter);
 
-        Page<AvailableSlotsResponse> availableSlots = slotRepository.findAvailableSlots(pageable);
+        Page<AvailableSlotsResponse> availableSlots = readCoalescer.execute("getAvailableSlots", () -> findAvailableSlots(filter, pageable), filter, pageable);
 
         log.info("Found {} available slots", availableSlots.getTotalElements());
         return PageResponse.of(availableSlots);
     }
 
     @Override
-    @Transactional
+    public SliceResponse<AvailableSlotsResponse> getAvailableSlotsSlice(AvailableSlotsFilter filter, Pageable pageable) {
+        log.info("Fetching available slots without total count, filter: {}, pageable: {}", filter, pageable);
+        validateFilter(filter);
+
+        Slice<AvailableSlotsResponse> availableSlots = readCoalescer.execute("getAvailableSlotsSlice", () -> findAvailableSlotsSlice(filter, pageable), filter, pageable);
+
+        log.info("Found {} available slots, has next: {}", availableSlots.getNumberOfElements(), availableSlots.hasNext());
+        return SliceResponse.of(availableSlots);
+    }
+
+    @Override
+    public CursorResponse<AvailableSlotsResponse> getAvailableSlots(AvailableSlotsFilter filter, String after, int size) {
+        log.info("Fetching available slots after cursor [{}], filter: {}, size: {}", after, filter, size);
+        validateFilter(filter);
+        Cursor cursor = Cursor.decode(after);
+
+        CursorResponse<AvailableSlotsResponse> availableSlots = readCoalescer.execute("getAvailableSlotsAfter", () -> {
+            List<Cursor> keys = slotRepository.findAvailableSlotKeysAfter(filter, cursor, CursorResponse.keyLimit(size));
+            return CursorResponse.of(keys, size, slotRepository::findAvailableSlotsByIdIn);
+        }, filter, cursor, size);
+
+        log.info("Found {} available slots after cursor [{}]", availableSlots.content().size(), after);
+        return availableSlots;
+    }
+
+    @Override
+    public List<AvailableSlotsResponse> getEarliestAvailableSlots(ServiceType serviceType, LocalDateTime after, int limit) {
+        LocalDateTime from = isNull(after) ? LocalDateTime.now() : after;
+        int count = Math.clamp(limit, 1, EARLIEST_SLOTS_MAX_LIMIT);
+        log.info("Fetching {} earliest available slots of service type {} after {}", count, serviceType, from);
+
+        List<AvailableSlotsResponse> earliest = readCoalescer.execute("getEarliestAvailableSlots",
+                                                                      () -> availabilityIndex.findEarliestAvailableSlots(serviceType, from, count)
+                                                                                             .orElseGet(() -> slotRepository.findEarliestAvailableSlots(serviceType, from.toLocalDate(), from.toLocalTime(), Limit.of(count))),
+                                                                      serviceType, from, count);
+
+        log.info("Found {} earliest available slots of service type {}", earliest.size(), serviceType);
+        return earliest;
+    }
+
+    @Override
+    public MechanicCalendarResponse getMechanicCalendar(UUID mechanicUuid, YearMonth month, int windowMinutes) {
+        log.info("Fetching calendar of mechanic UUID: {} for {}, window: {} minutes", mechanicUuid, month, windowMinutes);
+        if (windowMinutes < 1 || windowMinutes > MechanicDayCalendar.MINUTES_PER_DAY) {
+            log.error("Invalid calendar window: {} minutes", windowMinutes);
+            throw new ServiceException(E05007);
+        }
+
+        MechanicCalendarResponse calendar = readCoalescer.execute("getMechanicCalendar",
+                                                                  () -> MechanicCalendarResponse.of(mechanicUuid,
+                                                                                                    month,
+                                                                                                    mechanicCalendarIndex.getCalendars(mechanicUuid, month.atDay(1), month.atEndOfMonth()),
+                                                                                                    mechanicCalendarIndex.getCellMinutes(),
+                                                                                                    windowMinutes),
+                                                                  mechanicUuid, month, windowMinutes);
+
+        log.info("Mechanic UUID: {} has {} days with a {} minutes window in {}", mechanicUuid, Integer.bitCount(calendar.daysWithWindow()), windowMinutes, month);
+        return calendar;
+    }
+
+    @Override
     public BaseResponse bookSlot(UUID slotUuid) {
         log.info("Attempting to book slot with UUID: {}", slotUuid);
-        Slot slot = getSlotWithMechanicAndBookingOrElseThrow(slotUuid);
 
-        validateSlot(slot);
+        return admissionGate.admit(slotUuid, () -> {
+            if (bookingEngine.isPresent()) {
+                UUID bookingUuid = bookingEngine.get().book(slotUuid, getLoggedUser(), SecurityUtils.getAuthentication());
+                log.info("Slot booked by booking engine, slot UUID: {}, booking UUID: {}", slotUuid, bookingUuid);
+                return new BaseResponse(S00000);
+            }
 
-        Booking booking = buildBooking(slot);
+            return transactionTemplate.execute(status -> bookSlotInDatabase(slotUuid));
+        });
+    }
 
-        slot.setStatus(SlotStatus.BOOKED);
-        bookingRepository.save(booking);
-        slotRepository.save(slot);
+    @Override
+    @Transactional
+    public BatchBookingResponse bookSlots(BatchBookingRequest request) {
+        User client = getLoggedUser();
+        List<UUID> slotUuids = request.slotUuids().stream().distinct().toList();
+        log.info("Attempting to book {} slots in batch for user UUID: {}", slotUuids.size(), client.getUuid());
+
+        Map<UUID, Slot> slots = slotRepository.lockAllWithMechanicByUuidIn(slotUuids)
+                                              .stream()
+                                              .collect(toMap(Slot::getUuid, Function.identity()));
+
+        List<BatchBookingResult> results = new ArrayList<>();
+        List<Booking> bookings = new ArrayList<>();
+
+        for (UUID slotUuid : slotUuids) {
+            ResponseCode rejection = batchBookingRejection(slots.get(slotUuid), client);
+
+            if (isNull(rejection)) {
+                Booking booking = buildBooking(slots.get(slotUuid), client);
+                bookings.add(booking);
+                results.add(BatchBookingResult.booked(slotUuid, S00000, booking.getUuid()));
+            }
+            else {
+                log.error("Cannot book slot UUID: {} in batch: {}", slotUuid, rejection.getMessage());
+                results.add(BatchBookingResult.rejected(slotUuid, rejection));
+            }
+        }
 
-        notificationPublisher.notifyBookingConfirmedToMechanic(booking.getClient(), slot);
-        notificationPublisher.notifyBookingConfirmedToClient(booking.getClient(), slot);
+        if (!bookings.isEmpty()) {
+            List<Slot> bookedSlots = bookings.stream().map(Booking::getSlot).toList();
 
-        log.info("Slot booked successfully, slot UUID: {}, booking UUID: {}", slot.getUuid(), booking.getUuid());
-        return new BaseResponse(S00000);
+            slotRepository.markAllBooked(bookedSlots.stream().map(Slot::getId).toList(), client.getId());
+            bookingRepository.insertAll(bookings);
+            eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, bookings.size()));
+            bookedSlots.forEach(slot -> eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.BOOKED, slot)));
+            eventPublisher.publishEvent(new BookingsConfirmedEvent(client, bookedSlots));
+        }
+
+        log.info("Batch booking finished, booked {} of {} slots for user UUID: {}", bookings.size(), slotUuids.size(), client.getUuid());
+        return new BatchBookingResponse(results);
     }
 
     @Override
@@ -82,12 +232,42 @@ public class BookingServiceImpl implements BookingService {
         UUID loggedUserUuid = getLoggedUserUUID();
         log.info("Fetching booking list for user UUID: {}, pageable: {}", loggedUserUuid, pageable);
 
-        Page<BookingListResponse> bookingList = bookingRepository.findAllByClientUuid(pageable, loggedUserUuid);
+        Page<BookingListResponse> bookingList = readCoalescer.execute("getBookingList",
+                                                                      () -> PageableExecutionUtils.getPage(bookingRepository.findAllByClientUuid(pageable, loggedUserUuid).getContent(),
+                                                                                                           pageable,
+                                                                                                           () -> bookingRepository.countByClientUuid(loggedUserUuid)),
+                                                                      loggedUserUuid, pageable);
 
         log.info("Found {} bookings for user UUID: {}", bookingList.getTotalElements(), loggedUserUuid);
         return PageResponse.of(bookingList);
     }
 
+    @Override
+    public SliceResponse<BookingListResponse> getBookingListSlice(Pageable pageable) {
+        UUID loggedUserUuid = getLoggedUserUUID();
+        log.info("Fetching booking list without total count for user UUID: {}, pageable: {}", loggedUserUuid, pageable);
+
+        Slice<BookingListResponse> bookingList = readCoalescer.execute("getBookingListSlice", () -> bookingRepository.findAllByClientUuid(pageable, loggedUserUuid), loggedUserUuid, pageable);
+
+        log.info("Found {} bookings for user UUID: {}, has next: {}", bookingList.getNumberOfElements(), loggedUserUuid, bookingList.hasNext());
+        return SliceResponse.of(bookingList);
+    }
+
+    @Override
+    public CursorResponse<BookingListResponse> getBookingList(String after, int size) {
+        UUID loggedUserUuid = getLoggedUserUUID();
+        log.info("Fetching booking list for user UUID: {} after cursor [{}], size: {}", loggedUserUuid, after, size);
+        Cursor cursor = Cursor.decode(after);
+
+        CursorResponse<BookingListResponse> bookingList = readCoalescer.execute("getBookingListAfter", () -> {
+            List<Cursor> keys = bookingRepository.findKeysByClientUuidAfter(loggedUserUuid, cursor.createdDate(), cursor.id(), CursorResponse.keyLimit(size));
+            return CursorResponse.of(keys, size, bookingRepository::findBookingListByIdIn);
+        }, loggedUserUuid, cursor, size);
+
+        log.info("Found {} bookings for user UUID: {} after cursor [{}]", bookingList.content().size(), loggedUserUuid, after);
+        return bookingList;
+    }
+
     @Override
     @Transactional
     public BaseResponse cancelBooking(UUID bookingUuid) {
@@ -99,25 +279,52 @@ public class BookingServiceImpl implements BookingService {
 
         booking.setStatus(BookingStatus.CANCELED);
         bookingRepository.save(booking);
-        notificationPublisher.notifyBookingCanceledByClientToMechanic(booking.getClient(), booking.getSlot());
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+        eventPublisher.publishEvent(new BookingCanceledByClientEvent(booking.getClient(), booking.getSlot()));
 
-        Slot slot = booking.getSlot();
+        releaseOrPromote(booking.getSlot());
 
-        boolean stillBooked = slot.getBookings()
-                                  .stream()
-                                  .anyMatch(b -> b.getStatus() == BookingStatus.CONFIRMED);
+        log.info("Booking canceled, booking UUID: {}", booking.getUuid());
+        return new BaseResponse(S00001);
+    }
 
-        if (!stillBooked) {
-            slot.setStatus(SlotStatus.AVAILABLE);
-            slotRepository.save(slot);
-            log.info("Slot set to AVAILABLE as no other confirmed bookings exist, slot UUID: {}", slot.getUuid());
-        }
-        else {
-            log.info("Slot remains BOOKED as there are other confirmed bookings, slot UUID: {}", slot.getUuid());
+    @Override
+    @Transactional
+    public BaseResponse rescheduleBooking(UUID bookingUuid, UUID newSlotUuid) {
+        log.info("Attempting to reschedule booking UUID: {} to slot UUID: {}", bookingUuid, newSlotUuid);
+        User client = getLoggedUser();
+
+        Booking booking = lockBookingOrElseThrow(bookingUuid);
+        validateBookingOwner(client.getUuid(), booking.getClient().getUuid(), bookingUuid);
+        validateReschedule(booking, newSlotUuid);
+
+        Slot previousSlot = booking.getSlot();
+        Map<UUID, Slot> lockedSlots = slotRepository.lockAllWithMechanicByUuidIn(List.of(previousSlot.getUuid(), newSlotUuid))
+                                                    .stream()
+                                                    .collect(toMap(Slot::getUuid, Function.identity()));
+        Slot newSlot = lockedSlots.get(newSlotUuid);
+
+        ResponseCode rejection = batchBookingRejection(newSlot, client);
+        if (!isNull(rejection)) {
+            log.error("Cannot reschedule booking UUID: {} to slot UUID: {}: {}", bookingUuid, newSlotUuid, rejection.getMessage());
+            throw new ServiceException(rejection);
         }
 
-        log.info("Booking canceled, booking UUID: {}", booking.getUuid());
-        return new BaseResponse(S00001);
+        newSlot.setStatus(SlotStatus.BOOKED);
+        newSlot.setHeldBy(null);
+        newSlot.setHoldExpiresAt(null);
+        slotRepository.save(newSlot);
+
+        booking.setSlot(newSlot);
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.BOOKED, newSlot));
+
+        releaseOrPromote(previousSlot);
+        eventPublisher.publishEvent(new BookingRescheduledEvent(booking.getClient(), previousSlot, newSlot));
+
+        log.info("Booking UUID: {} rescheduled from slot UUID: {} to slot UUID: {}", bookingUuid, previousSlot.getUuid(), newSlotUuid);
+        return new BaseResponse(S00000);
     }
 
     @Override
@@ -125,31 +332,21 @@ public class BookingServiceImpl implements BookingService {
     public BaseResponse cancelBookingByMechanic(UUID slotUuid, UUID bookingUuid) {
         log.info("Mechanic attempting to cancel booking [{}] in slot [{}]", bookingUuid, slotUuid);
 
-        Slot slot = getSlotWithMechanicAndBookingOrElseThrow(slotUuid);
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
 
         validateSlotOwnerForMechanicCancel(slotUuid, slot);
 
-        Booking booking = getBookingFromSlot(bookingUuid, slot);
+        Booking booking = getBookingWithClientOfSlotOrElseThrow(slotUuid, bookingUuid);
 
         validateBookingStatus(booking);
 
         booking.setStatus(BookingStatus.CANCELED);
         bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
         log.info("Booking [{}] canceled by mechanic", bookingUuid);
-        notificationPublisher.notifyBookingCanceledByMechanicToClient(booking.getClient(), slot);
-
-        boolean stillBooked = slot.getBookings()
-                                  .stream()
-                                  .anyMatch(b -> b.getStatus() == BookingStatus.CONFIRMED);
+        eventPublisher.publishEvent(new BookingCanceledByMechanicEvent(booking.getClient(), slot));
 
-        if (!stillBooked) {
-            slot.setStatus(SlotStatus.AVAILABLE);
-            slotRepository.save(slot);
-            log.info("Slot set to AVAILABLE as no other confirmed bookings exist, slot UUID: {}", slot.getUuid());
-        }
-        else {
-            log.info("Slot remains BOOKED as there are other confirmed bookings, slot UUID: {}", slot.getUuid());
-        }
+        releaseOrPromote(slot);
 
         return new BaseResponse(S00001);
     }
@@ -159,57 +356,153 @@ public class BookingServiceImpl implements BookingService {
         UUID mechanicUuid = getLoggedUserUUID();
         log.info("Fetching bookings for all slots of mechanic [{}]", mechanicUuid);
 
-        Page<MechanicBookingListResponse> bookings = bookingRepository.findAllBySlotMechanicUuid(mechanicUuid, pageable);
+        Page<MechanicBookingListResponse> bookings = readCoalescer.execute("getMechanicBookingHistory",
+                                                                           () -> PageableExecutionUtils.getPage(bookingRepository.findAllBySlotMechanicUuid(mechanicUuid, pageable).getContent(),
+                                                                                                                pageable,
+                                                                                                                () -> bookingRepository.countBySlotMechanicUuid(mechanicUuid)),
+                                                                           mechanicUuid, pageable);
 
         log.info("Found {} bookings for mechanic [{}]", bookings.getTotalElements(), mechanicUuid);
         return PageResponse.of(bookings);
     }
 
-    private Slot getSlotWithMechanicAndBookingOrElseThrow(UUID slotUuid) {
-        return slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid)
-                             .orElseThrow(() -> {
-                                 log.error("Slot with UUID: [{}] not found", slotUuid);
-                                 return new ServiceException(E05001);
-                             });
+    @Override
+    public SliceResponse<MechanicBookingListResponse> getMechanicBookingHistorySlice(Pageable pageable) {
+        UUID mechanicUuid = getLoggedUserUUID();
+        log.info("Fetching bookings without total count for all slots of mechanic [{}]", mechanicUuid);
+
+        Slice<MechanicBookingListResponse> bookings = readCoalescer.execute("getMechanicBookingHistorySlice", () -> bookingRepository.findAllBySlotMechanicUuid(mechanicUuid, pageable), mechanicUuid, pageable);
+
+        log.info("Found {} bookings for mechanic [{}], has next: {}", bookings.getNumberOfElements(), mechanicUuid, bookings.hasNext());
+        return SliceResponse.of(bookings);
+    }
+
+    @Override
+    public CursorResponse<MechanicBookingListResponse> getMechanicBookingHistory(String after, int size) {
+        UUID mechanicUuid = getLoggedUserUUID();
+        log.info("Fetching bookings for all slots of mechanic [{}] after cursor [{}], size: {}", mechanicUuid, after, size);
+        Cursor cursor = Cursor.decode(after);
+
+        CursorResponse<MechanicBookingListResponse> bookings = readCoalescer.execute("getMechanicBookingHistoryAfter", () -> {
+            List<Cursor> keys = bookingRepository.findKeysBySlotMechanicUuidAfter(mechanicUuid, cursor.createdDate(), cursor.id(), CursorResponse.keyLimit(size));
+            return CursorResponse.of(keys, size, bookingRepository::findMechanicBookingListByIdIn);
+        }, mechanicUuid, cursor, size);
+
+        log.info("Found {} bookings for mechanic [{}] after cursor [{}]", bookings.content().size(), mechanicUuid, after);
+        return bookings;
+    }
+
+    private Page<AvailableSlotsResponse> findAvailableSlots(AvailableSlotsFilter filter, Pageable pageable) {
+        return availabilityIndex.findAvailableSlots(filter, pageable)
+                                .orElseGet(() -> PageableExecutionUtils.getPage(slotRepository.findAvailableSlots(filter, pageable).getContent(),
+                                                                                pageable,
+                                                                                () -> slotRepository.countAvailableSlots(filter)));
+    }
+
+    private Slice<AvailableSlotsResponse> findAvailableSlotsSlice(AvailableSlotsFilter filter, Pageable pageable) {
+        return availabilityIndex.findAvailableSlots(filter, pageable)
+                                .<Slice<AvailableSlotsResponse>>map(Function.identity())
+                                .orElseGet(() -> slotRepository.findAvailableSlots(filter, pageable));
     }
 
-    private void validateSlot(Slot slot) {
-        validateActiveBooking(slot);
-        validateSlotStatus(slot);
-        validateSlotOwner(slot);
+    private BaseResponse bookSlotInDatabase(UUID slotUuid) {
+        User client = getLoggedUser();
+
+        if (slotRepository.claimAvailableSlot(slotUuid, client.getId()) == 0) {
+            throw bookingRejection(slotUuid, client);
+        }
+
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+        Booking booking = buildBooking(slot, client);
+
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.BOOKED, slot));
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+        eventPublisher.publishEvent(new BookingConfirmedEvent(booking.getClient(), slot));
+
+        log.info("Slot booked successfully, slot UUID: {}, booking UUID: {}", slot.getUuid(), booking.getUuid());
+        return new BaseResponse(S00000);
     }
 
-    private void validateActiveBooking(Slot slot) {
-        boolean activeBookingExists = slot.getBookings()
-                                          .stream()
-                                          .anyMatch(b -> b.getStatus() == BookingStatus.CONFIRMED);
+    private void releaseOrPromote(Slot slot) {
+        if (bookingRepository.existsBySlotIdAndStatus(slot.getId(), BookingStatus.CONFIRMED)) {
+            log.info("Slot remains BOOKED as there are other confirmed bookings, slot UUID: {}", slot.getUuid());
+            return;
+        }
+
+        Optional<User> promoted = waitlistService.promoteNext(slot);
 
-        if (activeBookingExists) {
-            log.error("Cannot book slot UUID: {} because it has an active booking", slot.getUuid());
-            throw new ServiceException(E05004);
+        if (promoted.isPresent()) {
+            Booking booking = buildBooking(slot, promoted.get());
+            bookingRepository.save(booking);
+            eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+            eventPublisher.publishEvent(new BookingConfirmedEvent(booking.getClient(), slot));
+
+            log.info("Slot remains BOOKED as it was handed over to the waitlist, slot UUID: {}, booking UUID: {}", slot.getUuid(), booking.getUuid());
+            return;
         }
+
+        slot.setStatus(SlotStatus.AVAILABLE);
+        slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.RELEASED, slot));
+        log.info("Slot set to AVAILABLE as no other confirmed bookings exist, slot UUID: {}", slot.getUuid());
     }
 
-    private void validateSlotStatus(Slot slot) {
-        if (SlotStatus.AVAILABLE != slot.getStatus()) {
-            log.error("Cannot book slot UUID: {} because status is {}", slot.getUuid(), slot.getStatus());
-            throw new ServiceException(E05004);
+    private static ResponseCode batchBookingRejection(Slot slot, User client) {
+        if (isNull(slot)) {
+            return E05001;
+        }
+
+        if (slot.getMechanic().getUuid().equals(client.getUuid())) {
+            return E06004;
+        }
+
+        boolean heldByClient = SlotStatus.HELD == slot.getStatus() && slot.getHeldBy().getId().equals(client.getId());
+
+        if (SlotStatus.AVAILABLE != slot.getStatus() && !heldByClient) {
+            return E05004;
         }
+
+        return null;
     }
 
-    private void validateSlotOwner(Slot slot) {
-        if (slot.getMechanic().getUuid().equals(getLoggedUserUUID())) {
-            log.error("Logged-in user is the mechanic, cannot book own slot UUID: {}", slot.getUuid());
-            throw new ServiceException(E06004);
+    private ServiceException bookingRejection(UUID slotUuid, User client) {
+        SlotOwnerAndStatus slot = slotRepository.findSlotOwnerAndStatusByUuid(slotUuid)
+                                                .orElse(null);
+
+        if (isNull(slot)) {
+            log.error("Slot with UUID: [{}] not found", slotUuid);
+            return new ServiceException(E05001);
+        }
+
+        if (SlotStatus.AVAILABLE != slot.status()) {
+            log.error("Cannot book slot UUID: {} because status is {}", slotUuid, slot.status());
+            return new ServiceException(E05004);
         }
+
+        if (slot.mechanicUuid().equals(client.getUuid())) {
+            log.error("Logged-in user is the mechanic, cannot book own slot UUID: {}", slotUuid);
+            return new ServiceException(E06004);
+        }
+
+        log.error("Slot UUID: {} was claimed by another client", slotUuid);
+        return new ServiceException(E05004);
+    }
+
+    private Slot getSlotWithMechanicOrElseThrow(UUID slotUuid) {
+        return slotRepository.findSlotWithMechanicByUuid(slotUuid)
+                             .orElseThrow(() -> {
+                                 log.error("Slot with UUID: [{}] not found", slotUuid);
+                                 return new ServiceException(E05001);
+                             });
     }
 
-    private static Booking buildBooking(Slot slot) {
+    private static Booking buildBooking(Slot slot, User client) {
         return Booking.builder()
                       .uuid(randomUUID())
                       .status(BookingStatus.CONFIRMED)
                       .slot(slot)
-                      .client(getLoggedUser())
+                      .client(client)
                       .build();
     }
 
@@ -221,6 +514,14 @@ public class BookingServiceImpl implements BookingService {
                                 });
     }
 
+    private Booking lockBookingOrElseThrow(UUID bookingUuid) {
+        return bookingRepository.lockBookingByUuid(bookingUuid)
+                                .orElseThrow(() -> {
+                                    log.error("Booking with UUID: [{}] not found", bookingUuid);
+                                    return new ServiceException(E06000);
+                                });
+    }
+
     private void validateBooking(Booking booking) {
         validateBookingOwner(SecurityUtils.getLoggedUserUUID(), booking.getClient().getUuid(), booking.getUuid());
         validateBookingStatus(booking);
@@ -240,6 +541,25 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    private static void validateReschedule(Booking booking, UUID newSlotUuid) {
+        if (BookingStatus.CONFIRMED != booking.getStatus()) {
+            log.error("Cannot reschedule booking UUID: {} because status is {}", booking.getUuid(), booking.getStatus());
+            throw new ServiceException(E06005);
+        }
+
+        if (booking.getSlot().getUuid().equals(newSlotUuid)) {
+            log.error("Booking UUID: {} is already assigned to slot UUID: {}", booking.getUuid(), newSlotUuid);
+            throw new ServiceException(E06006);
+        }
+    }
+
+    private static void validateFilter(AvailableSlotsFilter filter) {
+        if (!filter.isValid()) {
+            log.error("Invalid available slots filter: {}", filter);
+            throw new ServiceException(E05007);
+        }
+    }
+
     private void validateSlotOwnerForMechanicCancel(UUID slotUuid, Slot slot) {
         if (!slot.getMechanic().getUuid().equals(getLoggedUserUUID())) {
             log.error("Logged in user is not the owner of slot [{}]", slotUuid);
@@ -247,14 +567,11 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private Booking getBookingFromSlot(UUID bookingUuid, Slot slot) {
-        return slot.getBookings()
-                   .stream()
-                   .filter(b -> b.getUuid().equals(bookingUuid))
-                   .findFirst()
-                   .orElseThrow(() -> {
-                       log.error("Booking with UUID: [{}] not found", bookingUuid);
-                       return new ServiceException(E06000);
-                   });
+    private Booking getBookingWithClientOfSlotOrElseThrow(UUID slotUuid, UUID bookingUuid) {
+        return bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid)
+                                .orElseThrow(() -> {
+                                    log.error("Booking with UUID: [{}] not found", bookingUuid);
+                                    return new ServiceException(E06000);
+                                });
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package pl.rezerveo.booking.booking.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.rezerveo.booking.booking.dto.response.SlotHoldResponse;
+import pl.rezerveo.booking.booking.service.SlotHoldService;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.properties.SlotHoldProperties;
+import pl.rezerveo.booking.slot.dto.HeldSlot;
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.util.HashedTimingWheel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Objects.isNull;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05005;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
+
+/**
+ * Holds slots for a client for a limited time. Expiry is driven by an in-process {@link HashedTimingWheel}; entries are never
+ * cancelled because releasing an expired hold is a conditional update that ignores confirmed, released or renewed holds.
+ */
+@Slf4j
+@Service
+public class SlotHoldServiceImpl implements SlotHoldService {
+
+    private final SlotRepository slotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SlotHoldProperties properties;
+    private final ExecutorService expiryExecutor;
+    private final HashedTimingWheel<HeldSlot> timingWheel;
+
+    public SlotHoldServiceImpl(SlotRepository slotRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               TransactionTemplate transactionTemplate,
+                               SlotHoldProperties properties) {
+        this.slotRepository = slotRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timingWheel = new HashedTimingWheel<>("slot-hold-wheel", properties.getTick(), properties.getWheelSize(),
+                                                   heldSlot -> expiryExecutor.execute(() -> expireHold(heldSlot)));
+    }
+
+    @Override
+    @Transactional
+    public SlotHoldResponse holdSlot(UUID slotUuid) {
+        log.info("Attempting to hold slot with UUID: {}", slotUuid);
+        User client = getLoggedUser();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.getDuration()).truncatedTo(MILLIS);
+
+        if (slotRepository.holdAvailableSlot(slotUuid, client, expiresAt) == 0) {
+            throw holdRejection(slotUuid, client);
+        }
+
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.HELD, slot, client.getUuid()));
+        timingWheel.schedule(new HeldSlot(slotUuid, expiresAt), properties.getDuration());
+
+        log.info("Slot UUID: {} held by user UUID: {} until {}", slotUuid, client.getUuid(), expiresAt);
+        return new SlotHoldResponse(slotUuid, expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public BaseResponse releaseHold(UUID slotUuid) {
+        log.info("Attempting to release hold of slot with UUID: {}", slotUuid);
+        User client = getLoggedUser();
+
+        if (slotRepository.releaseHold(slotUuid, client.getId()) == 0) {
+            Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+            log.error("Slot UUID: {} is not held by user UUID: {}, status is {}", slotUuid, client.getUuid(), slot.getStatus());
+            throw new ServiceException(E05005);
+        }
+
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.RELEASED, slot));
+
+        log.info("Hold of slot UUID: {} released", slotUuid);
+        return new BaseResponse(S00001);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rescheduleHolds() {
+        List<HeldSlot> heldSlots = slotRepository.findAllHeldSlots();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (HeldSlot heldSlot : heldSlots) {
+            Duration remaining = Duration.between(now, heldSlot.holdExpiresAt());
+            timingWheel.schedule(heldSlot, remaining.isNegative() ? Duration.ZERO : remaining);
+        }
+
+        log.info("Rescheduled expiry of {} slot holds", heldSlots.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+        expiryExecutor.shutdown();
+    }
+
+    void expireHold(HeldSlot heldSlot) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (slotRepository.releaseExpiredHold(heldSlot.uuid(), heldSlot.holdExpiresAt()) == 0) {
+                    return;
+                }
+
+                slotRepository.findSlotWithMechanicByUuid(heldSlot.uuid())
+                              .ifPresent(slot -> eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.RELEASED, slot)));
+                log.info("Hold of slot UUID: {} expired", heldSlot.uuid());
+            });
+        } catch (Exception ex) {
+            log.error("Failed to release expired hold of slot UUID: {}: {}", heldSlot.uuid(), ex.getMessage(), ex);
+        }
+    }
+
+    private ServiceException holdRejection(UUID slotUuid, User client) {
+        SlotOwnerAndStatus slot = slotRepository.findSlotOwnerAndStatusByUuid(slotUuid)
+                                                .orElse(null);
+
+        if (isNull(slot)) {
+            log.error("Slot with UUID: [{}] not found", slotUuid);
+            return new ServiceException(E05001);
+        }
+
+        if (SlotStatus.AVAILABLE != slot.status()) {
+            log.error("Cannot hold slot UUID: {} because status is {}", slotUuid, slot.status());
+            return new ServiceException(E05004);
+        }
+
+        if (slot.mechanicUuid().equals(client.getUuid())) {
+            log.error("Logged-in user is the mechanic, cannot hold own slot UUID: {}", slotUuid);
+            return new ServiceException(E06004);
+        }
+
+        log.error("Slot UUID: {} was claimed by another client", slotUuid);
+        return new ServiceException(E05004);
+    }
+
+    private Slot getSlotWithMechanicOrElseThrow(UUID slotUuid) {
+        return slotRepository.findSlotWithMechanicByUuid(slotUuid)
+                             .orElseThrow(() -> {
+                                 log.error("Slot with UUID: [{}] not found", slotUuid);
+                                 return new ServiceException(E05001);
+                             });
+    }
+}
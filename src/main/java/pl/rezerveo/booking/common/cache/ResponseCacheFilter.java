@@ -0,0 +1,211 @@
+package pl.rezerveo.booking.common.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import pl.rezerveo.booking.common.version.ChangePartition;
+import pl.rezerveo.booking.common.version.ChangeVersions;
+import pl.rezerveo.booking.properties.ResponseCacheProperties;
+import pl.rezerveo.booking.util.LruCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pl.rezerveo.booking.common.constant.Urls.BOOKINGS_URL;
+
+/**
+ * Keeps the serialized bodies of the first pages of available slots in the default size and order, plain and
+ * gzip-compressed, so a hit skips the repository, column decryption and JSON serialization. Entries are keyed by the slots
+ * change version and the query parameters, which makes every slot change and mechanic rename invalidate them; outdated
+ * entries simply age out of the LRU.
+ */
+@Slf4j
+@Component
+@ManagedResource(objectName = "pl.rezerveo.booking:type=ResponseCacheFilter", description = "Serialized available slots pages")
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHED_PATH = BOOKINGS_URL + "/available";
+    private static final String GZIP = "gzip";
+    // Defaults of the @PageableDefault on the available slots endpoints of BookingController
+    private static final String DEFAULT_PAGE_SIZE = "10";
+    private static final List<String> DEFAULT_SORT = List.of("date,asc", "startTime,asc");
+
+    private final ResponseCacheProperties properties;
+    private final ChangeVersions changeVersions;
+    private final LruCache<String, CachedResponse> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCacheFilter(ResponseCacheProperties properties, ChangeVersions changeVersions) {
+        this.properties = properties;
+        this.changeVersions = changeVersions;
+        this.cache = new LruCache<>(properties.getMaxEntries());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+               || !HttpMethod.GET.matches(request.getMethod())
+               || !CACHED_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()))
+               || !isFirstPage(request)
+               || !hasDefaultSizeAndSort(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = changeVersions.current(ChangePartition.SLOTS) + "?" + canonicalQuery(request);
+
+        Optional<CachedResponse> cached = cache.get(key);
+        if (cached.isPresent()) {
+            hits.increment();
+            write(cached.get(), request, response);
+            return;
+        }
+
+        misses.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse entry = CachedResponse.of(wrapper, properties.getMinGzipSize());
+        cache.put(key, entry);
+        write(entry, request, response);
+    }
+
+    @ManagedAttribute(description = "Number of requests answered from the cache")
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of requests that reached the controller")
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of cached pages, including outdated ones")
+    public int getCachedPages() {
+        return cache.size();
+    }
+
+    private boolean isFirstPage(HttpServletRequest request) {
+        String after = request.getParameter("after");
+        if (nonNull(after) && !after.isBlank()) {
+            return false;
+        }
+
+        String page = request.getParameter("page");
+        try {
+            return isNull(page) || Integer.parseInt(page) < properties.getMaxPages();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Any size or order would otherwise fill the LRU with pages nobody asks for twice and push out the default ones.
+     */
+    private static boolean hasDefaultSizeAndSort(HttpServletRequest request) {
+        String size = request.getParameter("size");
+        String[] sort = request.getParameterValues("sort");
+        return (isNull(size) || DEFAULT_PAGE_SIZE.equals(size))
+               && (isNull(sort) || DEFAULT_SORT.equals(sortOrders(sort)));
+    }
+
+    /**
+     * Normalizes sort parameters the way Spring Data reads them, e.g. {@code date,startTime} and {@code date,asc} with
+     * {@code startTime,ASC} both become {@code [date,asc, startTime,asc]}.
+     */
+    private static List<String> sortOrders(String[] sort) {
+        List<String> orders = new ArrayList<>();
+        for (String value : sort) {
+            List<String> parts = Arrays.asList(value.split(","));
+            String last = parts.getLast();
+            boolean hasDirection = "asc".equalsIgnoreCase(last) || "desc".equalsIgnoreCase(last);
+            String direction = hasDirection ? last.toLowerCase(Locale.ROOT) : "asc";
+            for (String property : hasDirection ? parts.subList(0, parts.size() - 1) : parts) {
+                orders.add(property + "," + direction);
+            }
+        }
+        return orders;
+    }
+
+    private static String canonicalQuery(HttpServletRequest request) {
+        StringBuilder query = new StringBuilder();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            String[] sorted = values.clone();
+            Arrays.sort(sorted);
+            query.append(name).append('=').append(String.join(",", sorted)).append('&');
+        });
+        return query.toString();
+    }
+
+    private static void write(CachedResponse entry, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (nonNull(entry.etag()) && new ServletWebRequest(request, response).checkNotModified(entry.etag())) {
+            return;
+        }
+
+        if (nonNull(entry.cacheControl())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        response.setContentType(entry.contentType());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = entry.body();
+        if (nonNull(entry.gzipped()) && acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = entry.gzipped();
+        }
+
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return nonNull(acceptEncoding) && acceptEncoding.contains(GZIP);
+    }
+
+    private record CachedResponse(String contentType, String etag, String cacheControl, byte[] body, byte[] gzipped) {
+
+        private static CachedResponse of(ContentCachingResponseWrapper response, int minGzipSize) throws IOException {
+            byte[] body = response.getContentAsByteArray();
+            return new CachedResponse(response.getContentType(),
+                                      response.getHeader(HttpHeaders.ETAG),
+                                      response.getHeader(HttpHeaders.CACHE_CONTROL),
+                                      body,
+                                      body.length >= minGzipSize ? gzip(body) : null);
+        }
+
+        private static byte[] gzip(byte[] body) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            return compressed.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package pl.rezerveo.booking.common.coalescing;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import pl.rezerveo.booking.properties.ReadCoalescingProperties;
+import pl.rezerveo.booking.util.SingleFlight;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shares one in-flight computation between concurrent identical read-only calls. Calls are identical when the query name and
+ * all arguments are equal, so anything the result depends on, such as the logged-in user, has to be passed as an argument.
+ */
+@Component
+@ManagedResource(objectName = "pl.rezerveo.booking:type=ReadCoalescer", description = "Coalescing of identical concurrent reads")
+public class ReadCoalescer {
+
+    private final ReadCoalescingProperties properties;
+    private final SingleFlight<Key, Object> singleFlight = new SingleFlight<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(ReadCoalescingProperties properties) {
+        this.properties = properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String query, Supplier<T> call, Object... arguments) {
+        if (!properties.isEnabled()) {
+            return call.get();
+        }
+
+        Counters queryCounters = counters.computeIfAbsent(query, name -> new Counters());
+        queryCounters.calls.increment();
+
+        SingleFlight.Result<Object> result = singleFlight.execute(new Key(query, Arrays.asList(arguments)), call::get);
+        if (result.shared()) {
+            queryCounters.coalesced.increment();
+        }
+
+        return (T) result.value();
+    }
+
+    @ManagedAttribute(description = "Number of calls per query")
+    public Map<String, Long> getCalls() {
+        Map<String, Long> calls = new TreeMap<>();
+        counters.forEach((query, queryCounters) -> calls.put(query, queryCounters.calls.sum()));
+        return calls;
+    }
+
+    @ManagedAttribute(description = "Number of calls per query that reused a computation already in flight")
+    public Map<String, Long> getCoalescedCalls() {
+        Map<String, Long> coalesced = new TreeMap<>();
+        counters.forEach((query, queryCounters) -> coalesced.put(query, queryCounters.coalesced.sum()));
+        return coalesced;
+    }
+
+    @ManagedAttribute(description = "Number of computations currently in flight")
+    public int getInFlight() {
+        return singleFlight.size();
+    }
+
+    private record Key(String query, List<Object> arguments) {}
+
+    private static final class Counters {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+    }
+}
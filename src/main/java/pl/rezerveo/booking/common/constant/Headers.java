@@ -0,0 +1,6 @@
+package pl.rezerveo.booking.common.constant;
+
+public class Headers {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+}
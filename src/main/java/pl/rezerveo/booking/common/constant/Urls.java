@@ -8,4 +8,5 @@ public class Urls {
     public static final String USERS_URL = BASE_URL + "/users";
     public static final String SLOTS_URL = BASE_URL + "/slots";
     public static final String BOOKINGS_URL = BASE_URL + "/bookings";
+    public static final String WORKING_HOURS_URL = SLOTS_URL + "/working-hours";
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package pl.rezerveo.booking.common.dto;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00007;
+
+/**
+ * Position in a list ordered by {@code createdDate DESC, id DESC}. Clients only see it as an opaque token; the first page
+ * starts from a position that sorts after every stored row.
+ */
+@Slf4j
+public record Cursor(LocalDateTime createdDate, Long id) {
+
+    public static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String value = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            log.error("Invalid pagination cursor [{}]", token);
+            throw new ServiceException(E00007);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package pl.rezerveo.booking.common.dto;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Limit for the key query of a page: one row more than requested, so the existence of a next page is known without a count.
+     */
+    public static Limit keyLimit(int size) {
+        return Limit.of(clamp(size) + 1);
+    }
+
+    /**
+     * Builds a page from the keys returned by the key query, loading the rows of the page itself with {@code loader}.
+     */
+    public static <T> CursorResponse<T> of(List<Cursor> keys, int size, Function<List<Long>, List<T>> loader) {
+        int pageSize = clamp(size);
+        boolean hasNext = keys.size() > pageSize;
+        List<Cursor> pageKeys = hasNext ? keys.subList(0, pageSize) : keys;
+
+        if (pageKeys.isEmpty()) {
+            return new CursorResponse<>(List.of(), pageSize, false, null);
+        }
+
+        List<T> content = loader.apply(pageKeys.stream().map(Cursor::id).toList());
+        String nextCursor = hasNext ? pageKeys.getLast().encode() : null;
+        return new CursorResponse<>(content, pageSize, hasNext, nextCursor);
+    }
+
+    private static int clamp(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+}
@@ -0,0 +1,39 @@
+package pl.rezerveo.booking.common.dto;
+
+import org.springframework.data.domain.Slice;
+import pl.rezerveo.booking.common.dto.PageResponse.PageableResponse;
+import pl.rezerveo.booking.common.dto.PageResponse.SortResponse;
+
+import java.util.List;
+
+/**
+ * Count-free variant of {@link PageResponse}: the same fields without {@code totalElements} and {@code totalPages}, plus
+ * {@code hasNext}.
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        PageableResponse pageable,
+        boolean last,
+        boolean hasNext,
+        int size,
+        int number,
+        SortResponse sort,
+        boolean first,
+        int numberOfElements,
+        boolean empty
+) {
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(
+                slice.getContent(),
+                PageableResponse.of(slice.getPageable()),
+                slice.isLast(),
+                slice.hasNext(),
+                slice.getSize(),
+                slice.getNumber(),
+                SortResponse.of(slice.getSort()),
+                slice.isFirst(),
+                slice.getNumberOfElements(),
+                slice.isEmpty()
+        );
+    }
+}
@@ -13,6 +13,8 @@ import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -34,6 +36,7 @@ public enum ResponseCode {
     E00004("Invalid request format", BAD_REQUEST),
     E00005("Invalid request", BAD_REQUEST),
     E00006("Internal server error", INTERNAL_SERVER_ERROR),
+    E00007("Invalid pagination cursor", BAD_REQUEST),
 
     // JWT TOKEN ERRORS
     E01000("Missing token", UNAUTHORIZED),
@@ -68,12 +71,34 @@ public enum ResponseCode {
     E05002("Logged in user is not the owner of the slot", FORBIDDEN),
     E05003("Slot had already been canceled", UNPROCESSABLE_ENTITY),
     E05004("Slot is no longer available for booking", UNPROCESSABLE_ENTITY),
+    E05005("Slot is not held by the logged in user", UNPROCESSABLE_ENTITY),
+    E05006("Too many clients are waiting to book the slot", TOO_MANY_REQUESTS),
+    E05007("Invalid availability search criteria", BAD_REQUEST),
+    E05008("Too many subscribers of availability changes", SERVICE_UNAVAILABLE),
+    E05009("Invalid recurring slots request", BAD_REQUEST),
+    E05010("Slot must end after it starts", BAD_REQUEST),
 
     // BOOKING ERRORS
     E06000("Booking not found", NOT_FOUND),
     E06001("Booking status does not allow cancellation", UNPROCESSABLE_ENTITY),
     E06003("Logged in user is not the owner of the booking", FORBIDDEN),
-    E06004("Cannot book your own slot", UNPROCESSABLE_ENTITY);
+    E06004("Cannot book your own slot", UNPROCESSABLE_ENTITY),
+    E06005("Booking status does not allow rescheduling", UNPROCESSABLE_ENTITY),
+    E06006("Booking is already assigned to the selected slot", UNPROCESSABLE_ENTITY),
+
+    // IDEMPOTENCY ERRORS
+    E07000("Idempotency key has already been used for a different request", UNPROCESSABLE_ENTITY),
+    E07001("Request with the same idempotency key is still in progress", CONFLICT),
+
+    // WAITLIST ERRORS
+    E08000("User is already on the waitlist for the slot", CONFLICT),
+    E08001("Waitlist is only available for booked slots", UNPROCESSABLE_ENTITY),
+    E08002("User is not on the waitlist for the slot", NOT_FOUND),
+    E08003("User has already booked the slot", UNPROCESSABLE_ENTITY),
+
+    // WORKING HOURS ERRORS
+    E09000("Invalid working hours", BAD_REQUEST),
+    E09001("Virtual slot not found", NOT_FOUND);
 
     private final String message;
     private final HttpStatus httpStatus;
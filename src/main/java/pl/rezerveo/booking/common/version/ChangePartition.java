@@ -0,0 +1,14 @@
+package pl.rezerveo.booking.common.version;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ChangePartition {
+
+    SLOTS("s"),
+    BOOKINGS("b");
+
+    private final String tag;
+}
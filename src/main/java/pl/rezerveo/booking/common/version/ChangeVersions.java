@@ -0,0 +1,41 @@
+package pl.rezerveo.booking.common.version;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonically increasing change version of every {@link ChangePartition}. Versions are bumped only after the change has
+ * been committed and start from the startup time, so a restarted instance never reissues a version of the previous run.
+ * {@link ChangePartition#SLOTS} is bumped by the in-memory slot views once they applied a change or a mechanic rename, so a new
+ * version is never observed together with data that does not contain the change yet.
+ */
+@Component
+public class ChangeVersions {
+
+    private final Map<ChangePartition, AtomicLong> versions = new EnumMap<>(ChangePartition.class);
+
+    public ChangeVersions() {
+        long initial = System.currentTimeMillis();
+        for (ChangePartition partition : ChangePartition.values()) {
+            versions.put(partition, new AtomicLong(initial));
+        }
+    }
+
+    public long current(ChangePartition partition) {
+        return versions.get(partition).get();
+    }
+
+    public void bump(ChangePartition partition) {
+        versions.get(partition).incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        bump(ChangePartition.BOOKINGS);
+    }
+}
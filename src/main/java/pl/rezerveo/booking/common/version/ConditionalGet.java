@@ -0,0 +1,19 @@
+package pl.rezerveo.booking.common.version;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose response depends only on the given partition (and on the logged-in user when
+ * {@code userScoped} is set), so it can be answered with {@code 304 Not Modified} before the handler runs.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    ChangePartition value();
+
+    boolean userScoped() default false;
+}
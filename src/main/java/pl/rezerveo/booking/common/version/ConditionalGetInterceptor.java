@@ -0,0 +1,61 @@
+package pl.rezerveo.booking.common.version;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import static java.util.Objects.isNull;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUserUUID;
+
+/**
+ * Answers requests to {@link ConditionalGet} endpoints with {@code 304 Not Modified} when the {@code If-None-Match} header
+ * carries the current weak ETag. The version is read before the handler runs, so a change committed in between only makes
+ * the ETag older than the data and the next request fetches it again. Tags of user scoped endpoints carry the whole user
+ * UUID, so two users can never share a tag.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String REVALIDATE = "private, no-cache";
+
+    private final ChangeVersions changeVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (isNull(conditionalGet)) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        if (new ServletWebRequest(request, response).checkNotModified(etag(conditionalGet))) {
+            log.debug("Resource {} not modified", request.getRequestURI());
+            return false;
+        }
+
+        return true;
+    }
+
+    private String etag(ConditionalGet conditionalGet) {
+        ChangePartition partition = conditionalGet.value();
+        StringBuilder etag = new StringBuilder("W/\"").append(partition.getTag())
+                                                      .append('-')
+                                                      .append(Long.toHexString(changeVersions.current(partition)));
+        if (conditionalGet.userScoped()) {
+            etag.append('-').append(getLoggedUserUUID());
+        }
+        return etag.append('"').toString();
+    }
+}
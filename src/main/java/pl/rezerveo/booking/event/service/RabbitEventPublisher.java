@@ -8,6 +8,8 @@ import pl.rezerveo.booking.config.RabbitConfig;
 import pl.rezerveo.booking.event.BookingEvent;
 import pl.rezerveo.booking.event.MailEvent;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,6 +22,14 @@ public class RabbitEventPublisher {
         rabbitTemplate.convertAndSend(RabbitConfig.BOOKING_EXCHANGE, RabbitConfig.BOOKING_EVENT_ROUTING_KEY, event);
     }
 
+    public void sendBookingEvents(List<BookingEvent> events) {
+        log.info("Sending {} BookingEvents to RabbitMQ", events.size());
+        rabbitTemplate.invoke(operations -> {
+            events.forEach(event -> operations.convertAndSend(RabbitConfig.BOOKING_EXCHANGE, RabbitConfig.BOOKING_EVENT_ROUTING_KEY, event));
+            return null;
+        });
+    }
+
     public void sendMailEvent(MailEvent event) {
         log.info("Sending MailEvent to RabbitMQ: {}", event);
         rabbitTemplate.convertAndSend(RabbitConfig.BOOKING_EXCHANGE, RabbitConfig.MAIL_EVENT_ROUTING_KEY, event);
@@ -8,6 +8,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -52,6 +53,12 @@ public class BaseControllerAdvice {
         return new BaseResponse(E00005).get();
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<BaseResponse> handleException(MissingServletRequestParameterException ex) {
+        log.error("MissingServletRequestParameterException error: {}", ex.getMessage(), ex);
+        return new BaseResponse(E00005).get();
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<BaseResponse> handleException(HttpRequestMethodNotSupportedException ex) {
         log.error("HttpRequestMethodNotSupportedException error: {}", ex.getMessage(), ex);
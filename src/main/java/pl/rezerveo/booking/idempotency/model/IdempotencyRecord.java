@@ -0,0 +1,47 @@
+package pl.rezerveo.booking.idempotency.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import pl.rezerveo.booking.common.entity.auditable.DateAuditEntity;
+import pl.rezerveo.booking.common.enumerated.ResponseCode;
+
+import java.util.UUID;
+
+import static jakarta.persistence.EnumType.STRING;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_uuid", "idempotency_key"}))
+public class IdempotencyRecord extends DateAuditEntity {
+
+    @Column(nullable = false, updatable = false)
+    private UUID userUuid;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(nullable = false, updatable = false)
+    private String request;
+
+    /**
+     * Outcome of the request, {@code null} while the key is claimed and the request is still running.
+     */
+    @Enumerated(STRING)
+    private ResponseCode responseCode;
+
+    public boolean isPending() {
+        return responseCode == null;
+    }
+}
@@ -0,0 +1,44 @@
+package pl.rezerveo.booking.idempotency.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import pl.rezerveo.booking.common.enumerated.ResponseCode;
+import pl.rezerveo.booking.idempotency.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserUuidAndIdempotencyKey(UUID userUuid, String idempotencyKey);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.responseCode = :responseCode
+            WHERE r.id = :id
+            """)
+    int completeClaim(Long id, ResponseCode responseCode);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM IdempotencyRecord r
+            WHERE r.userUuid = :userUuid
+            AND r.idempotencyKey = :idempotencyKey
+            AND ((r.responseCode IS NULL AND r.createdDate < :claimedBefore) OR r.createdDate < :createdBefore)
+            """)
+    int deleteExpired(UUID userUuid, String idempotencyKey, LocalDateTime claimedBefore, LocalDateTime createdBefore);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            DELETE FROM IdempotencyRecord r
+            WHERE r.createdDate < :createdBefore
+            """)
+    int deleteAllCreatedBefore(LocalDateTime createdBefore);
+}
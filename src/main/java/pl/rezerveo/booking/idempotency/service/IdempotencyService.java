@@ -0,0 +1,20 @@
+package pl.rezerveo.booking.idempotency.service;
+
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs the action once per idempotency key of the logged-in user. Retries with the same key replay the original outcome
+     * without running the action again. When no key is given the action is simply executed. The key is claimed in its own short
+     * transaction before the action runs, so retries arriving on other instances see it as in progress. The action runs outside
+     * of any transaction opened here and its outcome is stored on the claim afterwards. A claim left pending by a crashed
+     * instance is taken over after the claim timeout.
+     *
+     * @param idempotencyKey key sent by the client, may be {@code null}
+     * @param request        description of the request the key is bound to, e.g. {@code "bookSlot:<slotUuid>"}
+     */
+    BaseResponse execute(String idempotencyKey, String request, Supplier<BaseResponse> action);
+}
@@ -0,0 +1,242 @@
+package pl.rezerveo.booking.idempotency.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import pl.rezerveo.booking.common.enumerated.ResponseCode;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.idempotency.model.IdempotencyRecord;
+import pl.rezerveo.booking.idempotency.repository.IdempotencyRecordRepository;
+import pl.rezerveo.booking.idempotency.service.IdempotencyService;
+import pl.rezerveo.booking.properties.IdempotencyProperties;
+import pl.rezerveo.booking.util.LruCache;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00005;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E07000;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E07001;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUserUUID;
+
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final LruCache<String, StoredResponse> cache;
+    private final Map<String, CountDownLatch> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository, IdempotencyProperties properties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.cache = new LruCache<>(properties.getCacheSize());
+    }
+
+    @Override
+    public BaseResponse execute(String idempotencyKey, String request, Supplier<BaseResponse> action) {
+        if (isNull(idempotencyKey)) {
+            return action.get();
+        }
+
+        validateKey(idempotencyKey);
+
+        UUID userUuid = getLoggedUserUUID();
+        String cacheKey = userUuid + ":" + idempotencyKey;
+
+        while (true) {
+            Optional<StoredResponse> stored = findStoredResponse(cacheKey, userUuid, idempotencyKey);
+            if (stored.isPresent()) {
+                log.info("Replaying response for idempotency key [{}] of user [{}]", idempotencyKey, userUuid);
+                return replay(stored.get(), request, idempotencyKey);
+            }
+
+            CountDownLatch execution = new CountDownLatch(1);
+            CountDownLatch running = inFlight.putIfAbsent(cacheKey, execution);
+            if (isNull(running)) {
+                try {
+                    Optional<BaseResponse> response = claimAndExecute(userUuid, idempotencyKey, cacheKey, request, action);
+                    if (response.isPresent()) {
+                        return response.get();
+                    }
+                } finally {
+                    inFlight.remove(cacheKey);
+                    execution.countDown();
+                }
+                continue;
+            }
+
+            log.info("Request with idempotency key [{}] is already in progress, waiting for its result", idempotencyKey);
+            awaitInFlight(running, idempotencyKey);
+        }
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredRecords() {
+        int deleted = idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        log.info("Purged {} expired idempotency records", deleted);
+    }
+
+    /**
+     * Claims the key with a pending record, runs the action outside of any transaction and completes the record with its
+     * outcome. Returns an empty result when the key was held by an expired record that has just been removed.
+     */
+    private Optional<BaseResponse> claimAndExecute(UUID userUuid, String idempotencyKey, String cacheKey, String request, Supplier<BaseResponse> action) {
+        Optional<IdempotencyRecord> claim = claim(userUuid, idempotencyKey, request);
+        if (claim.isEmpty()) {
+            return replayClaimed(userUuid, idempotencyKey, cacheKey, request);
+        }
+
+        BaseResponse response;
+        try {
+            response = action.get();
+        } catch (ServiceException ex) {
+            if (isRetryable(ex.getStatus())) {
+                release(claim.get());
+            } else {
+                complete(claim.get(), cacheKey, ex.getStatus());
+            }
+            throw ex;
+        } catch (RuntimeException ex) {
+            release(claim.get());
+            throw ex;
+        }
+
+        complete(claim.get(), cacheKey, response.getStatus());
+        return Optional.of(response);
+    }
+
+    private Optional<IdempotencyRecord> claim(UUID userUuid, String idempotencyKey, String request) {
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                                                    .userUuid(userUuid)
+                                                    .idempotencyKey(idempotencyKey)
+                                                    .request(request)
+                                                    .build();
+        try {
+            return Optional.of(idempotencyRecordRepository.saveAndFlush(record));
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Idempotency key [{}] of user [{}] has already been claimed", idempotencyKey, userUuid);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The outcome has already happened, so failing to store it must not replace it. The claim then stays pending and is taken
+     * over once it expires.
+     */
+    private void complete(IdempotencyRecord claim, String cacheKey, ResponseCode responseCode) {
+        try {
+            idempotencyRecordRepository.completeClaim(claim.getId(), responseCode);
+        } catch (DataAccessException ex) {
+            log.error("Failed to store outcome of idempotency key [{}] of user [{}]: {}", claim.getIdempotencyKey(), claim.getUserUuid(), ex.getMessage(), ex);
+            return;
+        }
+
+        cache.put(cacheKey, new StoredResponse(claim.getRequest(), responseCode, claim.getCreatedDate()));
+    }
+
+    private void release(IdempotencyRecord claim) {
+        try {
+            idempotencyRecordRepository.deleteById(claim.getId());
+        } catch (DataAccessException ex) {
+            log.error("Failed to release idempotency key [{}] of user [{}]: {}", claim.getIdempotencyKey(), claim.getUserUuid(), ex.getMessage(), ex);
+        }
+    }
+
+    private Optional<BaseResponse> replayClaimed(UUID userUuid, String idempotencyKey, String cacheKey, String request) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<IdempotencyRecord> claimed = idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(userUuid, idempotencyKey);
+        if (claimed.isEmpty() || idempotencyRecordRepository.deleteExpired(userUuid, idempotencyKey, now.minus(properties.getClaimTimeout()), now.minus(properties.getRetention())) > 0) {
+            return Optional.empty();
+        }
+
+        if (claimed.get().isPending()) {
+            log.error("Request with idempotency key [{}] of user [{}] is in progress elsewhere", idempotencyKey, userUuid);
+            throw new ServiceException(E07001);
+        }
+
+        StoredResponse stored = StoredResponse.of(claimed.get());
+        cache.put(cacheKey, stored);
+        return Optional.of(replay(stored, request, idempotencyKey));
+    }
+
+    private void awaitInFlight(CountDownLatch running, String idempotencyKey) {
+        try {
+            if (!running.await(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.error("Request with idempotency key [{}] is still in progress", idempotencyKey);
+                throw new ServiceException(E07001);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for request with idempotency key [{}]", idempotencyKey);
+            throw new ServiceException(E00006);
+        }
+    }
+
+    private Optional<StoredResponse> findStoredResponse(String cacheKey, UUID userUuid, String idempotencyKey) {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(properties.getRetention());
+
+        Optional<StoredResponse> cached = cache.get(cacheKey)
+                                               .filter(response -> response.createdDate().isAfter(expiredBefore));
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<StoredResponse> persisted = idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(userUuid, idempotencyKey)
+                                                                        .filter(record -> !record.isPending())
+                                                                        .map(StoredResponse::of)
+                                                                        .filter(response -> response.createdDate().isAfter(expiredBefore));
+        persisted.ifPresent(response -> cache.put(cacheKey, response));
+        return persisted;
+    }
+
+    private static BaseResponse replay(StoredResponse stored, String request, String idempotencyKey) {
+        if (!stored.request().equals(request)) {
+            log.error("Idempotency key [{}] was used for [{}] and cannot be reused for [{}]", idempotencyKey, stored.request(), request);
+            throw new ServiceException(E07000);
+        }
+
+        if (stored.responseCode().getHttpStatus().isError()) {
+            throw new ServiceException(stored.responseCode());
+        }
+
+        return new BaseResponse(stored.responseCode());
+    }
+
+    /**
+     * Server errors and rejections for load, like a full admission queue, say nothing about the request itself, so a retry with
+     * the same key must run the action again instead of replaying them.
+     */
+    private static boolean isRetryable(ResponseCode responseCode) {
+        return responseCode.getHttpStatus().is5xxServerError() || responseCode.getHttpStatus() == TOO_MANY_REQUESTS;
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            log.error("Invalid idempotency key: [{}]", idempotencyKey);
+            throw new ServiceException(E00005);
+        }
+    }
+
+    private record StoredResponse(String request, ResponseCode responseCode, LocalDateTime createdDate) {
+
+        private static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getRequest(), record.getResponseCode(), record.getCreatedDate());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package pl.rezerveo.booking.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.notification.event.BookingCanceledByClientEvent;
+import pl.rezerveo.booking.notification.event.BookingCanceledByMechanicEvent;
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent;
+import pl.rezerveo.booking.notification.event.BookingRescheduledEvent;
+import pl.rezerveo.booking.notification.event.BookingsConfirmedEvent;
+import pl.rezerveo.booking.notification.event.SlotCanceledEvent;
+
+import java.util.LinkedHashMap;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Sends notifications about booking changes once the transaction that made them has committed, so a change that is rolled
+ * back is never announced. Events published outside of a transaction, like by the booking engine writer after its own
+ * commit, are sent right away.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationPublisher notificationPublisher;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingConfirmed(BookingConfirmedEvent event) {
+        notificationPublisher.notifyBookingConfirmedToMechanic(event.client(), event.slot());
+        notificationPublisher.notifyBookingConfirmedToClient(event.client(), event.slot());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsConfirmed(BookingsConfirmedEvent event) {
+        event.slots()
+             .stream()
+             .collect(groupingBy(slot -> slot.getMechanic().getUuid(), LinkedHashMap::new, toList()))
+             .values()
+             .forEach(mechanicSlots -> notificationPublisher.notifyBookingsConfirmedToMechanic(event.client(), mechanicSlots));
+        notificationPublisher.notifyBookingsConfirmedToClient(event.client(), event.slots());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCanceledByClient(BookingCanceledByClientEvent event) {
+        notificationPublisher.notifyBookingCanceledByClientToMechanic(event.client(), event.slot());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCanceledByMechanic(BookingCanceledByMechanicEvent event) {
+        notificationPublisher.notifyBookingCanceledByMechanicToClient(event.client(), event.slot());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingRescheduled(BookingRescheduledEvent event) {
+        notificationPublisher.notifyBookingRescheduled(event.client(), event.previousSlot(), event.newSlot());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotCanceled(SlotCanceledEvent event) {
+        notificationPublisher.notifySlotCanceledToClients(event.slot(), event.bookings());
+    }
+}
@@ -2,13 +2,17 @@ package pl.rezerveo.booking.notification;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import pl.rezerveo.booking.booking.model.Booking;
+import pl.rezerveo.booking.booking.dto.CanceledBooking;
 import pl.rezerveo.booking.event.BookingEvent;
 import pl.rezerveo.booking.event.service.RabbitEventPublisher;
 import pl.rezerveo.booking.security.encryption.EncryptionService;
 import pl.rezerveo.booking.slot.model.Slot;
 import pl.rezerveo.booking.user.model.User;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class NotificationPublisher {
@@ -34,6 +38,22 @@ public class NotificationPublisher {
         eventPublisher.sendBookingEvent(event);
     }
 
+    public void notifyBookingsConfirmedToClient(User client, List<Slot> slots) {
+        BookingEvent event = new BookingEvent(client.getEmail(),
+                                              "Rezerwacje potwierdzone",
+                                              "Twoje rezerwacje zostały pomyślnie utworzone na sloty:\n" + describe(slots),
+                                              encryptionService);
+        eventPublisher.sendBookingEvent(event);
+    }
+
+    public void notifyBookingsConfirmedToMechanic(User client, List<Slot> slots) {
+        BookingEvent event = new BookingEvent(slots.getFirst().getMechanic().getEmail(),
+                                              "Nowe rezerwacje na Twoje sloty",
+                                              "Klient " + client.getFirstName() + " " + client.getLastName() + " zarezerwował Twoje sloty:\n" + describe(slots),
+                                              encryptionService);
+        eventPublisher.sendBookingEvent(event);
+    }
+
     public void notifyBookingCanceledByClientToMechanic(User client, Slot slot) {
         BookingEvent event = new BookingEvent(slot.getMechanic().getEmail(),
                                               "Rezerwacja anulowana przez klienta",
@@ -52,13 +72,51 @@ public class NotificationPublisher {
         eventPublisher.sendBookingEvent(event);
     }
 
-    public void notifySlotCanceledToClients(Booking booking) {
-        BookingEvent event = new BookingEvent(booking.getClient().getEmail(),
-                                              "Slot anulowany przez mechanika",
-                                              "Mechanik " + booking.getSlot().getMechanic().getFirstName() + " " +
-                                              booking.getSlot().getMechanic().getLastName() + " anulował slot dnia " + booking.getSlot().getDate() + " od " +
-                                              booking.getSlot().getStartTime() + " do " + booking.getSlot().getEndTime() + ". Twoja rezerwacja została anulowana.",
-                                              encryptionService);
-        eventPublisher.sendBookingEvent(event);
+    public void notifyBookingRescheduled(User client, Slot previousSlot, Slot newSlot) {
+        String clientName = client.getFirstName() + " " + client.getLastName();
+        List<BookingEvent> events = new ArrayList<>();
+
+        events.add(new BookingEvent(client.getEmail(),
+                                    "Rezerwacja przeniesiona",
+                                    "Twoja rezerwacja na slot " + describe(previousSlot) + " została przeniesiona na slot " + describe(newSlot) + ".",
+                                    encryptionService));
+
+        if (previousSlot.getMechanic().getUuid().equals(newSlot.getMechanic().getUuid())) {
+            events.add(new BookingEvent(newSlot.getMechanic().getEmail(),
+                                        "Rezerwacja przeniesiona przez klienta",
+                                        "Klient " + clientName + " przeniósł swoją rezerwację ze slotu " + describe(previousSlot) + " na slot " + describe(newSlot) + ".",
+                                        encryptionService));
+        }
+        else {
+            events.add(new BookingEvent(previousSlot.getMechanic().getEmail(),
+                                        "Rezerwacja przeniesiona przez klienta",
+                                        "Klient " + clientName + " przeniósł swoją rezerwację z Twojego slotu " + describe(previousSlot) + " do innego mechanika.",
+                                        encryptionService));
+            events.add(new BookingEvent(newSlot.getMechanic().getEmail(),
+                                        "Nowa rezerwacja na Twój slot",
+                                        "Klient " + clientName + " przeniósł swoją rezerwację na Twój slot " + describe(newSlot) + ".",
+                                        encryptionService));
+        }
+
+        eventPublisher.sendBookingEvents(events);
+    }
+
+    public void notifySlotCanceledToClients(Slot slot, List<CanceledBooking> bookings) {
+        String message = "Mechanik " + slot.getMechanic().getFirstName() + " " + slot.getMechanic().getLastName() + " anulował slot dnia " + slot.getDate() +
+                         " od " + slot.getStartTime() + " do " + slot.getEndTime() + ". Twoja rezerwacja została anulowana.";
+        List<BookingEvent> events = bookings.stream()
+                                            .map(booking -> new BookingEvent(booking.clientEmail(), "Slot anulowany przez mechanika", message, encryptionService))
+                                            .toList();
+        eventPublisher.sendBookingEvents(events);
+    }
+
+    private static String describe(List<Slot> slots) {
+        return slots.stream()
+                    .map(slot -> "- " + describe(slot))
+                    .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(Slot slot) {
+        return slot.getDate() + " od " + slot.getStartTime() + " do " + slot.getEndTime();
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+/**
+ * Published when a client has canceled their booking, so the mechanic gets notified.
+ */
+public record BookingCanceledByClientEvent(User client, Slot slot) {
+}
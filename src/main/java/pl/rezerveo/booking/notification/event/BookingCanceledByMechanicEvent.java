@@ -0,0 +1,10 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+/**
+ * Published when a mechanic has canceled a booking of their slot, so the client gets notified.
+ */
+public record BookingCanceledByMechanicEvent(User client, Slot slot) {
+}
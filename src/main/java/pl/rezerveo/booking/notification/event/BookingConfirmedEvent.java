@@ -0,0 +1,10 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+/**
+ * Published when a client has booked a slot, so both the client and the mechanic get notified.
+ */
+public record BookingConfirmedEvent(User client, Slot slot) {
+}
@@ -0,0 +1,10 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+/**
+ * Published when a client has moved their booking to another slot.
+ */
+public record BookingRescheduledEvent(User client, Slot previousSlot, Slot newSlot) {
+}
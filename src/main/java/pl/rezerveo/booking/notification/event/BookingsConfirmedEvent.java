@@ -0,0 +1,12 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+import java.util.List;
+
+/**
+ * Published when a client has booked several slots at once. Every mechanic is notified about their own slots only.
+ */
+public record BookingsConfirmedEvent(User client, List<Slot> slots) {
+}
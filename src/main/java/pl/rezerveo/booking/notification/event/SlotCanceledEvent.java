@@ -0,0 +1,12 @@
+package pl.rezerveo.booking.notification.event;
+
+import pl.rezerveo.booking.booking.dto.CanceledBooking;
+import pl.rezerveo.booking.slot.model.Slot;
+
+import java.util.List;
+
+/**
+ * Published when a mechanic has canceled a slot, so every client whose booking was canceled with it gets notified.
+ */
+public record SlotCanceledEvent(Slot slot, List<CanceledBooking> bookings) {
+}
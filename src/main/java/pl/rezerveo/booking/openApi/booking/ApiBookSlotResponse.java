@@ -16,7 +16,8 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Operation(
         summary = "Zarezerwuj wybrany slot",
-        description = "Pozwala użytkownikowi zarezerwować dostępny slot",
+        description = "Pozwala użytkownikowi zarezerwować dostępny slot lub potwierdzić slot wstrzymany wcześniej przez tego samego użytkownika. Opcjonalny nagłówek Idempotency-Key pozwala bezpiecznie ponowić żądanie - " +
+                      "ponowienie z tym samym kluczem zwraca pierwotną odpowiedź bez ponownej rezerwacji",
         responses = {
                 @ApiResponse(
                         responseCode = "200",
@@ -70,16 +71,48 @@ import java.lang.annotation.Target;
                 ),
                 @ApiResponse(
                         responseCode = "422",
-                        description = "Rezerwacja nie może zostać dokonana (np. slot został wcześniej zarezerwowany przez innego użytkownika lub slot został odwołany)",
+                        description = "Rezerwacja nie może zostać dokonana (np. slot został wcześniej zarezerwowany przez innego użytkownika lub slot został odwołany) " +
+                                      "albo klucz Idempotency-Key został już użyty dla innego żądania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = {
+                                        @ExampleObject(
+                                                name = "Slot niedostępny",
+                                                value = """
+                                                        {
+                                                            "status": "E05004",
+                                                            "message": "Slot is no longer available for booking",
+                                                            "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                            "traceId": "1f90b54e-b212-4e40-a68d-992cb1e1e4f6"
+                                                        }
+                                                        """
+                                        ),
+                                        @ExampleObject(
+                                                name = "Klucz idempotencji użyty ponownie",
+                                                value = """
+                                                        {
+                                                            "status": "E07000",
+                                                            "message": "Idempotency key has already been used for a different request",
+                                                            "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                            "traceId": "5b0e0a0c-8d3e-4b8e-9a57-0c2d1b7f6a11"
+                                                        }
+                                                        """
+                                        )
+                                }
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "429",
+                        description = "Zbyt wielu użytkowników oczekuje w kolejce na rezerwację tego slotu",
                         content = @Content(
                                 schema = @Schema(implementation = BaseResponse.class),
                                 examples = @ExampleObject(
                                         value = """
                                                 {
-                                                    "status": "E05004",
-                                                    "message": "Slot is no longer available for booking",
-                                                    "httpStatus": "UNPROCESSABLE_ENTITY",
-                                                    "traceId": "1f90b54e-b212-4e40-a68d-992cb1e1e4f6"
+                                                    "status": "E05006",
+                                                    "message": "Too many clients are waiting to book the slot",
+                                                    "httpStatus": "TOO_MANY_REQUESTS",
+                                                    "traceId": "8d2c6f3a-41b7-4e0a-9c55-7f1e2b3a9d64"
                                                 }
                                                 """
                                 )
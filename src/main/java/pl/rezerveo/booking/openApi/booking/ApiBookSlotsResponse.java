@@ -0,0 +1,107 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.booking.dto.response.BatchBookingResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Zarezerwuj wiele slotów jednocześnie",
+        description = "Pozwala użytkownikowi zarezerwować do 50 slotów w jednym żądaniu. Każdy slot jest rozpatrywany osobno - odpowiedź zawiera wynik dla każdego slotu, a powiadomienia są wysyłane zbiorczo, jedno na mechanika",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Żądanie zostało przetworzone, wynik rezerwacji każdego slotu znajduje się w odpowiedzi",
+                        content = @Content(
+                                schema = @Schema(implementation = BatchBookingResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "results": [
+                                                        {
+                                                            "slotUuid": "5f1c7d2e-8a43-4b6e-9f0d-2c7a1e3b4d55",
+                                                            "status": "S00000",
+                                                            "message": "Success",
+                                                            "bookingUuid": "a3e9b1c4-6d2f-4e8a-b7c5-1f0d9e8a7b66"
+                                                        },
+                                                        {
+                                                            "slotUuid": "c8d4e2f1-3b5a-4c7d-8e9f-0a1b2c3d4e77",
+                                                            "status": "E05004",
+                                                            "message": "Slot is no longer available for booking"
+                                                        }
+                                                    ]
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawne dane wejściowe (np. pusta lub zbyt długa lista slotów)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00000",
+                                                    "message": "Bad Request",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "166b23eb-8642-4bd3-9cae-86e1a4fd2e6d",
+                                                    "errors": [
+                                                        {
+                                                            "field": "slotUuids",
+                                                            "message": "wielkość musi należeć do zakresu od 0 do 50"
+                                                        }
+                                                    ]
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "33643ce9-7d05-4921-8c1f-d0d755f0a019"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "6465a343-4e2b-4084-9f17-86efb0a0d470"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiBookSlotsResponse {}
\ No newline at end of file
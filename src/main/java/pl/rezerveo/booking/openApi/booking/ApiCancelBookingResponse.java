@@ -16,7 +16,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Operation(
         summary = "Anuluj rezerwację",
-        description = "Pozwala użytkownikowi anulować swoją rezerwację. Jeżeli nie ma innych potwierdzonych rezerwacji na slot, slot stanie się ponownie dostępny",
+        description = "Pozwala użytkownikowi anulować swoją rezerwację. Jeżeli nie ma innych potwierdzonych rezerwacji na slot, slot zostaje przekazany pierwszemu użytkownikowi z listy oczekujących, a gdy lista jest pusta - staje się ponownie dostępny",
         responses = {
                 @ApiResponse(
                         responseCode = "200",
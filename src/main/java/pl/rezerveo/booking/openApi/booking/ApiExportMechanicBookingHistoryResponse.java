@@ -0,0 +1,105 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Eksportuj historię rezerwacji mechanika",
+        description = "Strumieniuje całą historię rezerwacji zalogowanego mechanika, od najnowszych, w formacie wskazanym parametrem format: NDJSON (domyślnie, jeden obiekt JSON w wierszu) lub CSV z wierszem nagłówka. Odpowiedź jest zapisywana porcjami w trakcie odczytu z bazy danych",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie wyeksportowano historię rezerwacji",
+                        content = @Content(
+                                mediaType = "application/x-ndjson",
+                                schema = @Schema(implementation = MechanicBookingListResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {"bookingUuid":"0d8f2c4e-2a61-4d4f-9c55-1f0f3f7b2a10","slotUuid":"b05b23d1-f661-4bef-ba3e-63565c8bb217","date":"2025-10-15","startTime":"19:55:00","endTime":"21:55:00","serviceType":"Wymiana oleju silnikowego","mechanicName":"John Doe","status":"COMPLETED"}
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny format eksportu",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00005",
+                                                    "message": "Invalid request",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "f7f664b3-a95d-4eff-b0f5-8a3af21011f8"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "5d4a93b4-37dc-4bda-b2cd-97762fc8299f"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Brak uprawnień do wykonania operacji",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "49ba842a-5cf0-41cc-81a4-93484ee3c8ba"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "401492a2-16ef-4a7a-8ac5-0f05369769a0"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiExportMechanicBookingHistoryResponse {}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.CursorResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz kolejną porcję dostępnych slotów",
+        description = "Zwraca dostępne sloty od najnowszych, począwszy od pozycji wskazanej kursorem z parametru after. Pusty parametr after zwraca pierwszą porcję. Czas odpowiedzi nie zależy od głębokości przewijania, a odpowiedź nie zawiera liczby wszystkich elementów. Obsługuje te same filtry co podstawowe wyszukiwanie dostępnych slotów",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono porcję dostępnych slotów",
+                        content = @Content(
+                                schema = @Schema(implementation = CursorResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "b05b23d1-f661-4bef-ba3e-63565c8bb217",
+                                                            "date": "2025-10-15",
+                                                            "startTime": "19:55:00",
+                                                            "endTime": "21:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "John Doe"
+                                                        }
+                                                    ],
+                                                    "size": 1,
+                                                    "hasNext": true,
+                                                    "nextCursor": "MjAyNS0xMC0xOFQxOTo1NTowMC4xMjM0NTZ8NDI"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny kursor stronicowania lub kryteria wyszukiwania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = {
+                                        @ExampleObject(
+                                                name = "Niepoprawny kursor",
+                                                value = """
+                                                        {
+                                                            "status": "E00007",
+                                                            "message": "Invalid pagination cursor",
+                                                            "httpStatus": "BAD_REQUEST",
+                                                            "traceId": "13399bfc-236d-4d76-8db2-8a5e9ed97f3c"
+                                                        }
+                                                        """
+                                        ),
+                                        @ExampleObject(
+                                                name = "Niepoprawne kryteria wyszukiwania",
+                                                value = """
+                                                        {
+                                                            "status": "E05007",
+                                                            "message": "Invalid availability search criteria",
+                                                            "httpStatus": "BAD_REQUEST",
+                                                            "traceId": "dd1dd290-ad9c-4bce-b5e1-302428d92d83"
+                                                        }
+                                                        """
+                                        )
+                                }
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "303d719a-a38f-4a98-8ada-2eb28d95278f"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "dfa964b7-72c2-4726-94e1-e59660851f93"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetAvailableSlotsAfterCursorResponse {}
\ No newline at end of file
@@ -17,7 +17,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Operation(
         summary = "Pobierz dostępne sloty do rezerwacji",
-        description = "Zwraca listę wszystkich dostępnych slotów, które użytkownik może zarezerwować",
+        description = "Zwraca listę wszystkich dostępnych slotów, które użytkownik może zarezerwować, domyślnie posortowaną według daty i godziny rozpoczęcia. Opcjonalnie zawęża wyniki parametrami from i to (zakres dat), serviceType, fromTime i toTime (przedział godzin w formacie HH:mm) oraz mechanicUuid",
         responses = {
                 @ApiResponse(
                         responseCode = "200",
@@ -67,6 +67,27 @@ import java.lang.annotation.Target;
                                 )
                         )
                 ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawne kryteria wyszukiwania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05007",
+                                                    "message": "Invalid availability search criteria",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "f8b67b56-83e9-4b7e-9d41-2a09391a5b3b"
+                                                }
+                                                """
+                                )
+                        )
+                ),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Użytkownik nieuwierzytelniony",
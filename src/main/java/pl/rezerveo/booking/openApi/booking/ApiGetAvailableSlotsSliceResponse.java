@@ -0,0 +1,126 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz dostępne sloty do rezerwacji bez liczenia wszystkich elementów",
+        description = "Zwraca stronę dostępnych slotów wraz z informacją, czy istnieje kolejna strona. Wybierany parametrem total=false, pomija zliczanie wszystkich dostępnych slotów. Obsługuje te same filtry co podstawowe wyszukiwanie dostępnych slotów",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono stronę dostępnych slotów",
+                        content = @Content(
+                                schema = @Schema(implementation = SliceResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "b05b23d1-f661-4bef-ba3e-63565c8bb217",
+                                                            "date": "2025-10-15",
+                                                            "startTime": "19:55:00",
+                                                            "endTime": "21:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "John Doe"
+                                                        }
+                                                    ],
+                                                    "pageable": {
+                                                        "pageNumber": 0,
+                                                        "pageSize": 10,
+                                                        "sort": {
+                                                            "empty": false,
+                                                            "sorted": true,
+                                                            "unsorted": false
+                                                        },
+                                                        "offset": 0,
+                                                        "paged": true,
+                                                        "unpaged": false
+                                                    },
+                                                    "last": true,
+                                                    "hasNext": false,
+                                                    "size": 10,
+                                                    "number": 0,
+                                                    "sort": {
+                                                        "empty": false,
+                                                        "sorted": true,
+                                                        "unsorted": false
+                                                    },
+                                                    "first": true,
+                                                    "numberOfElements": 1,
+                                                    "empty": false
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawne kryteria wyszukiwania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05007",
+                                                    "message": "Invalid availability search criteria",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "de7281aa-d82e-4c5c-a832-b074fb8ca8d3"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "3073f3a5-f8be-44c3-8447-0a7b752111e9"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "649ea1d2-01a3-4de2-b57f-7f21bdb0b978"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetAvailableSlotsSliceResponse {}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.CursorResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz kolejną porcję rezerwacji użytkownika",
+        description = "Zwraca rezerwacje zalogowanego użytkownika od najnowszych, począwszy od pozycji wskazanej kursorem z parametru after. Pusty parametr after zwraca pierwszą porcję",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono porcję rezerwacji",
+                        content = @Content(
+                                schema = @Schema(implementation = CursorResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "32c5d469-f38f-413d-9c5e-978e372cfe4f",
+                                                            "date": "2025-10-18",
+                                                            "startTime": "19:55:00",
+                                                            "endTime": "20:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "John Doe",
+                                                            "status": "CANCELED"
+                                                        }
+                                                    ],
+                                                    "size": 1,
+                                                    "hasNext": true,
+                                                    "nextCursor": "MjAyNS0xMC0xOFQxOTo1NTowMC4xMjM0NTZ8NDI"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny kursor stronicowania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00007",
+                                                    "message": "Invalid pagination cursor",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "a8975744-a8fe-462d-b657-96299a48a0ea"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "645d244a-348d-4a08-8f0f-afc9aecc8a0f"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "1af9734d-3273-4ef2-8510-2a873ce51ae7"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetBookingListAfterCursorResponse {}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz listę rezerwacji użytkownika bez liczenia wszystkich elementów",
+        description = "Zwraca stronę rezerwacji zalogowanego użytkownika wraz z informacją, czy istnieje kolejna strona. Wybierany parametrem total=false, pomija zliczanie wszystkich rezerwacji",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono stronę rezerwacji",
+                        content = @Content(
+                                schema = @Schema(implementation = SliceResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "32c5d469-f38f-413d-9c5e-978e372cfe4f",
+                                                            "date": "2025-10-18",
+                                                            "startTime": "19:55:00",
+                                                            "endTime": "20:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "John Doe",
+                                                            "status": "CANCELED"
+                                                        }
+                                                    ],
+                                                    "pageable": {
+                                                        "pageNumber": 0,
+                                                        "pageSize": 1,
+                                                        "sort": {
+                                                            "empty": false,
+                                                            "sorted": true,
+                                                            "unsorted": false
+                                                        },
+                                                        "offset": 0,
+                                                        "paged": true,
+                                                        "unpaged": false
+                                                    },
+                                                    "last": false,
+                                                    "hasNext": true,
+                                                    "size": 1,
+                                                    "number": 0,
+                                                    "sort": {
+                                                        "empty": false,
+                                                        "sorted": true,
+                                                        "unsorted": false
+                                                    },
+                                                    "first": true,
+                                                    "numberOfElements": 1,
+                                                    "empty": false
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "5bae260a-6cb0-4bdf-9a7d-ee688af89f21"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "f7ecd6f3-c75e-4424-8927-5ce7862adc87"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetBookingListSliceResponse {}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz najwcześniejsze dostępne sloty dla rodzaju usługi",
+        description = "Zwraca do limit (domyślnie 5, maksymalnie 50) najwcześniejszych dostępnych slotów danego rodzaju usługi, rozpoczynających się nie wcześniej niż wskazany parametrem after moment (domyślnie teraz), posortowanych według daty i godziny rozpoczęcia",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono najwcześniejsze dostępne sloty",
+                        content = @Content(
+                                schema = @Schema(implementation = AvailableSlotsResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                [
+                                                    {
+                                                        "uuid": "b05b23d1-f661-4bef-ba3e-63565c8bb217",
+                                                        "date": "2025-10-16",
+                                                        "startTime": "08:00:00",
+                                                        "endTime": "09:00:00",
+                                                        "serviceType": "Wymiana opon / kół",
+                                                        "mechanicName": "John Doe"
+                                                    }
+                                                ]
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Brak lub niepoprawny rodzaj usługi albo data",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00005",
+                                                    "message": "Invalid request",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "7bec36a6-1ce1-4b66-a775-ca0353c7b8cd"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "0e835f15-9d44-4e59-87d2-efb50a341272"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "2ab55c5f-8134-4201-adf6-db4d37350150"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetEarliestAvailableSlotsResponse {}
\ No newline at end of file
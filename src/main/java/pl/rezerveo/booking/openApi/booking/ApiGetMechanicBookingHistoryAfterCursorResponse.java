@@ -0,0 +1,107 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.CursorResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz kolejną porcję historii rezerwacji mechanika",
+        description = "Zwraca rezerwacje wszystkich slotów zalogowanego mechanika od najnowszych, począwszy od pozycji wskazanej kursorem z parametru after. Pusty parametr after zwraca pierwszą porcję",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono porcję historii rezerwacji",
+                        content = @Content(
+                                schema = @Schema(implementation = CursorResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "bookingUuid": "45292f9d-052d-471c-b248-fb9cd7de9027",
+                                                            "slotUuid": "f8a90fac-0ad6-4862-b89b-88dca1d1e6e3",
+                                                            "date": "2025-10-18",
+                                                            "startTime": "17:55:00",
+                                                            "endTime": "20:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "Dog Mechanic",
+                                                            "status": "CONFIRMED"
+                                                        }
+                                                    ],
+                                                    "size": 1,
+                                                    "hasNext": true,
+                                                    "nextCursor": "MjAyNS0xMC0xOFQxOTo1NTowMC4xMjM0NTZ8NDI"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny kursor stronicowania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00007",
+                                                    "message": "Invalid pagination cursor",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "cec60b04-2fd6-4186-9b6b-3a756d104d40"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "ee371702-3188-43ad-aa71-b0cda6009812"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "6ac33f03-45b4-4066-8bde-26fd9332a64c"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetMechanicBookingHistoryAfterCursorResponse {}
\ No newline at end of file
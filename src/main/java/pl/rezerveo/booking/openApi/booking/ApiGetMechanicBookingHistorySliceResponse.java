@@ -0,0 +1,111 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz historię rezerwacji mechanika bez liczenia wszystkich elementów",
+        description = "Zwraca stronę rezerwacji wszystkich slotów zalogowanego mechanika wraz z informacją, czy istnieje kolejna strona. Wybierany parametrem total=false, pomija zliczanie wszystkich rezerwacji",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono stronę historii rezerwacji",
+                        content = @Content(
+                                schema = @Schema(implementation = SliceResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "bookingUuid": "45292f9d-052d-471c-b248-fb9cd7de9027",
+                                                            "slotUuid": "f8a90fac-0ad6-4862-b89b-88dca1d1e6e3",
+                                                            "date": "2025-10-18",
+                                                            "startTime": "17:55:00",
+                                                            "endTime": "20:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "mechanicName": "Dog Mechanic",
+                                                            "status": "CONFIRMED"
+                                                        }
+                                                    ],
+                                                    "pageable": {
+                                                        "pageNumber": 0,
+                                                        "pageSize": 1,
+                                                        "sort": {
+                                                            "empty": false,
+                                                            "sorted": true,
+                                                            "unsorted": false
+                                                        },
+                                                        "offset": 0,
+                                                        "paged": true,
+                                                        "unpaged": false
+                                                    },
+                                                    "last": false,
+                                                    "hasNext": true,
+                                                    "size": 1,
+                                                    "number": 0,
+                                                    "sort": {
+                                                        "empty": false,
+                                                        "sorted": true,
+                                                        "unsorted": false
+                                                    },
+                                                    "first": true,
+                                                    "numberOfElements": 1,
+                                                    "empty": false
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "8e379c52-e13b-4776-9e0f-835e236ba3c7"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "84a88915-e0ca-4339-aea8-43894e27322f"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetMechanicBookingHistorySliceResponse {}
\ No newline at end of file
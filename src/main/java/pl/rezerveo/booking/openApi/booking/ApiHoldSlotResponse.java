@@ -0,0 +1,107 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.booking.dto.response.SlotHoldResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Wstrzymaj wybrany slot",
+        description = "Pozwala użytkownikowi wstrzymać dostępny slot na określony czas, np. na czas uzupełniania szczegółów rezerwacji. Wstrzymany slot potwierdza się rezerwacją tego samego slotu; po upływie czasu wstrzymania slot automatycznie staje się ponownie dostępny",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Slot został wstrzymany",
+                        content = @Content(
+                                schema = @Schema(implementation = SlotHoldResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "slotUuid": "8b0e4f5a-2a47-4d8e-9a0b-6d6f0d2c4a11",
+                                                    "expiresAt": "2025-10-21T14:35:00.000"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "c3e58858-965e-4800-a88f-392fc404f19f"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Slot o podanym UUID nie istnieje",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05001",
+                                                    "message": "Slot not found",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "696fb37d-8187-4f50-89a3-e9006ef791b2"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Slot nie może zostać wstrzymany (np. został już zarezerwowany lub wstrzymany przez innego użytkownika)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05004",
+                                                    "message": "Slot is no longer available for booking",
+                                                    "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                    "traceId": "d56aa3cb-e0b0-4fc7-8524-6184c258a3ed"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "57896618-141d-4f23-aa1c-de1cf273e7b1"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiHoldSlotResponse {}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Zwolnij wstrzymany slot",
+        description = "Pozwala użytkownikowi zwolnić wstrzymany przez siebie slot przed upływem czasu wstrzymania. Slot staje się ponownie dostępny",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Wstrzymanie slotu zostało zwolnione",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "S00001",
+                                                    "message": "Success",
+                                                    "httpStatus": "NO_CONTENT"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "2469b807-cffc-4cb7-abca-09ec1b8c4db0"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Slot o podanym UUID nie istnieje",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05001",
+                                                    "message": "Slot not found",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "ef72dab4-98e1-4939-9ac7-df24afeda4c9"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Slot nie jest wstrzymany przez zalogowanego użytkownika",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05005",
+                                                    "message": "Slot is not held by the logged in user",
+                                                    "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                    "traceId": "9c082ad2-403c-4020-a91f-13cdc2ec2c3c"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "8de4b302-9613-4797-a48a-10faa4c11715"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiReleaseSlotHoldResponse {}
\ No newline at end of file
@@ -0,0 +1,149 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Przenieś rezerwację na inny slot",
+        description = "Pozwala użytkownikowi przenieść swoją potwierdzoną rezerwację na inny dostępny slot w ramach jednej operacji. Oba sloty są blokowane w stałej kolejności, a zwolniony slot zostaje przekazany pierwszemu użytkownikowi z listy oczekujących lub staje się ponownie dostępny",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Rezerwacja została przeniesiona",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "S00000",
+                                                    "message": "Success",
+                                                    "httpStatus": "OK"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "3a7397f4-6def-4c9c-b369-8ea34babed55"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik nie jest właścicielem rezerwacji",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E06003",
+                                                    "message": "Logged in user is not the owner of the booking",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "6dd9569a-ffdb-446a-b611-33902bb50efc"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Rezerwacja lub slot o podanym UUID nie istnieje",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E06000",
+                                                    "message": "Booking not found",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "2d50589f-f72a-4181-9477-ffbe30bf1d63"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Rezerwacja nie może zostać przeniesiona (np. rezerwacja została anulowana, nowy slot jest niedostępny lub należy do użytkownika)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = {
+                                        @ExampleObject(
+                                                name = "Slot niedostępny",
+                                                value = """
+                                                        {
+                                                            "status": "E05004",
+                                                            "message": "Slot is no longer available for booking",
+                                                            "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                            "traceId": "fca383b1-44a9-41e3-b8d4-0f82e3f60834"
+                                                        }
+                                                        """
+                                        ),
+                                        @ExampleObject(
+                                                name = "Status rezerwacji nie pozwala na przeniesienie",
+                                                value = """
+                                                        {
+                                                            "status": "E06005",
+                                                            "message": "Booking status does not allow rescheduling",
+                                                            "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                            "traceId": "5c4573d5-1180-476a-a8be-0f375ffc28c4"
+                                                        }
+                                                        """
+                                        ),
+                                        @ExampleObject(
+                                                name = "Rezerwacja jest już przypisana do slotu",
+                                                value = """
+                                                        {
+                                                            "status": "E06006",
+                                                            "message": "Booking is already assigned to the selected slot",
+                                                            "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                            "traceId": "dee4700d-ee31-4bad-badb-2275a3e55e27"
+                                                        }
+                                                        """
+                                        )
+                                }
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "7b25c99a-23f9-4732-8d34-88a7617fd7fc"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiRescheduleBookingResponse {}
\ No newline at end of file
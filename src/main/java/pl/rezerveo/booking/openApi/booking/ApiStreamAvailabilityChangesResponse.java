@@ -0,0 +1,90 @@
+package pl.rezerveo.booking.openApi.booking;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.booking.dto.response.AvailabilityChangeResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Subskrybuj zmiany dostępności slotów",
+        description = "Otwiera strumień Server-Sent Events, w którym serwer wysyła zdarzenia availability przy każdej zmianie statusu slotu (utworzenie, blokada, rezerwacja, zwolnienie, anulowanie). Pole available określa, czy slot jest teraz dostępny. Po ponownym połączeniu należy pobrać listę dostępnych slotów, ponieważ pominięte zdarzenia nie są odtwarzane",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Otwarto strumień zmian dostępności",
+                        content = @Content(
+                                mediaType = "text/event-stream",
+                                schema = @Schema(implementation = AvailabilityChangeResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                id: 42
+                                                event: availability
+                                                data: {"type":"BOOKED","available":false,"uuid":"b05b23d1-f661-4bef-ba3e-63565c8bb217","date":"2025-10-15","startTime":"19:55:00","endTime":"21:55:00","serviceType":"Wymiana oleju silnikowego","mechanicName":"John Doe"}
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "0e957428-f844-47cc-afb1-9afa20853ace"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "ad6b6256-ad48-4412-be0b-ac435d3d0994"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Przekroczono limit subskrybentów strumienia",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05008",
+                                                    "message": "Too many subscribers of availability changes",
+                                                    "httpStatus": "SERVICE_UNAVAILABLE",
+                                                    "traceId": "e3fd73d3-3fa4-4109-a5a2-1d65ae3eb2c4"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiStreamAvailabilityChangesResponse {}
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.lang.annotation.Target;
 @Operation(
         summary = "Anuluj rezerwację przez mechanika",
         description = "Pozwala mechanikowi anulować rezerwację w swoim slocie. "
-                      + "Jeżeli po anulowaniu nie pozostaną inne potwierdzone rezerwacje w slocie, jego status zostanie zmieniony na AVAILABLE.",
+                      + "Jeżeli po anulowaniu nie pozostaną inne potwierdzone rezerwacje w slocie, slot zostanie przekazany pierwszemu użytkownikowi z listy oczekujących, "
+                      + "a gdy lista jest pusta - jego status zostanie zmieniony na AVAILABLE.",
         responses = {
                 @ApiResponse(
                         responseCode = "200",
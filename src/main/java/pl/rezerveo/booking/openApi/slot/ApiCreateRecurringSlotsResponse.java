@@ -0,0 +1,124 @@
+package pl.rezerveo.booking.openApi.slot;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.slot.dto.response.RecurringSlotsResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Utwórz cykliczne sloty wizyt według szablonów",
+        description = "Pozwala mechanikowi utworzyć jednym żądaniem sloty dla każdego dnia z zakresu from - to (maksymalnie 366 dni) zgodnego z dniem tygodnia szablonu. Sloty pokrywające się z istniejącymi lub z innymi szablonami są pomijane i zliczane w polu skipped",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Sloty zostały pomyślnie utworzone",
+                        content = @Content(
+                                schema = @Schema(implementation = RecurringSlotsResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "created": 52,
+                                                    "skipped": 2
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawne dane wejściowe (np. zakres dat lub szablon kończący się przed rozpoczęciem)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05009",
+                                                    "message": "Invalid recurring slots request",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "2dd24709-27ee-494e-b017-4dadcd52659d"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "9cd0e103-c190-4867-86c7-83d87b3d1736"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik bez dostępu do zarządzania slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "8c3b0a9f-2b61-4b1a-88da-88b3b8d7667b"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "409",
+                        description = "Slot utworzony w międzyczasie pokrywa się z generowanymi slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05000",
+                                                    "message": "Selected time slot overlaps with an existing slot",
+                                                    "httpStatus": "CONFLICT",
+                                                    "traceId": "7825d8b8-dea9-487c-951e-51784c46f5ce"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "c243006d-bb34-4a0a-9c28-9bdf0eb46273"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiCreateRecurringSlotsResponse {}
\ No newline at end of file
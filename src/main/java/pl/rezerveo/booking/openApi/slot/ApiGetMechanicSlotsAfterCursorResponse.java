@@ -0,0 +1,122 @@
+package pl.rezerveo.booking.openApi.slot;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.CursorResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz kolejną porcję slotów mechanika",
+        description = "Zwraca sloty zalogowanego mechanika od najnowszych, począwszy od pozycji wskazanej kursorem z parametru after. Pusty parametr after zwraca pierwszą porcję",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono porcję slotów",
+                        content = @Content(
+                                schema = @Schema(implementation = CursorResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "76e591b4-aa56-46e1-ae76-92b0fb39fe9d",
+                                                            "date": "2025-10-16",
+                                                            "startTime": "21:55:00",
+                                                            "endTime": "23:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "status": "AVAILABLE"
+                                                        }
+                                                    ],
+                                                    "size": 1,
+                                                    "hasNext": true,
+                                                    "nextCursor": "MjAyNS0xMC0xOFQxOTo1NTowMC4xMjM0NTZ8NDI"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny kursor stronicowania",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00007",
+                                                    "message": "Invalid pagination cursor",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "0c789f16-8d5a-4b42-9c05-76e9ca28d2eb"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "28f7b3f0-c54f-4780-8a92-a8867f370ad4"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik bez dostępu do zarządzania slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "1b7ae3ba-32be-4394-8963-ed21ecdaae39"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "252ffd4e-1be5-4c93-8610-724fe14190d4"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetMechanicSlotsAfterCursorResponse {}
\ No newline at end of file
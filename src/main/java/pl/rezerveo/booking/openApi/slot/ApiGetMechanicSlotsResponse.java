@@ -67,6 +67,10 @@ import java.lang.annotation.Target;
                                 )
                         )
                 ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
                 @ApiResponse(
                         responseCode = "401",
                         description = "Użytkownik nieuwierzytelniony",
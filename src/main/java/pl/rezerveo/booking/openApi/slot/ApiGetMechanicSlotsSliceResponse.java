@@ -0,0 +1,126 @@
+package pl.rezerveo.booking.openApi.slot;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz sloty mechanika bez liczenia wszystkich elementów",
+        description = "Zwraca stronę slotów zalogowanego mechanika wraz z informacją, czy istnieje kolejna strona. Wybierany parametrem total=false, pomija zliczanie wszystkich slotów",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono stronę slotów",
+                        content = @Content(
+                                schema = @Schema(implementation = SliceResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "content": [
+                                                        {
+                                                            "uuid": "76e591b4-aa56-46e1-ae76-92b0fb39fe9d",
+                                                            "date": "2025-10-16",
+                                                            "startTime": "21:55:00",
+                                                            "endTime": "23:55:00",
+                                                            "serviceType": "Wymiana oleju silnikowego",
+                                                            "status": "AVAILABLE"
+                                                        }
+                                                    ],
+                                                    "pageable": {
+                                                        "pageNumber": 0,
+                                                        "pageSize": 10,
+                                                        "sort": {
+                                                            "empty": false,
+                                                            "sorted": true,
+                                                            "unsorted": false
+                                                        },
+                                                        "offset": 0,
+                                                        "paged": true,
+                                                        "unpaged": false
+                                                    },
+                                                    "last": true,
+                                                    "hasNext": false,
+                                                    "size": 10,
+                                                    "number": 0,
+                                                    "sort": {
+                                                        "empty": false,
+                                                        "sorted": true,
+                                                        "unsorted": false
+                                                    },
+                                                    "first": true,
+                                                    "numberOfElements": 1,
+                                                    "empty": false
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dane nie zmieniły się od wersji wskazanej nagłówkiem If-None-Match (słaby ETag)"
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "37b04bc1-d8bc-45e4-a5c1-242914bb2441"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik bez dostępu do zarządzania slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "4620c05f-2e38-4c2d-bd3d-d6f5bebb1389"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "c17c3746-efda-431c-a2f3-8ff2f36dda01"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetMechanicSlotsSliceResponse {}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package pl.rezerveo.booking.openApi.waitlist;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Dołącz do listy oczekujących",
+        description = "Pozwala użytkownikowi zapisać się na listę oczekujących na zarezerwowany slot. Gdy rezerwacja slotu zostanie anulowana, najdłużej oczekujący użytkownik otrzymuje rezerwację automatycznie i zostaje o tym powiadomiony",
+        responses = {
+                @ApiResponse(
+                        responseCode = "201",
+                        description = "Użytkownik został zapisany na listę oczekujących",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "S00003",
+                                                    "message": "Success",
+                                                    "httpStatus": "CREATED"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "54779e90-df83-4859-868e-2f9228330126"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Slot o podanym UUID nie istnieje",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05001",
+                                                    "message": "Slot not found",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "ad98de5e-8e72-4570-9560-2c328309165b"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "409",
+                        description = "Użytkownik jest już na liście oczekujących",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E08000",
+                                                    "message": "User is already on the waitlist for the slot",
+                                                    "httpStatus": "CONFLICT",
+                                                    "traceId": "33acee5d-40b4-4741-b91c-561b8eea062b"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Nie można dołączyć do listy oczekujących (np. slot jest dostępny do rezerwacji, został odwołany lub użytkownik już go zarezerwował)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E08001",
+                                                    "message": "Waitlist is only available for booked slots",
+                                                    "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                    "traceId": "d3ff8439-7284-47f7-9588-ef35e817da66"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "9989fd98-1933-4260-9353-7d460893b2b9"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiJoinWaitlistResponse {}
\ No newline at end of file
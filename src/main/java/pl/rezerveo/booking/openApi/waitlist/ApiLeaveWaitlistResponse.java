@@ -0,0 +1,90 @@
+package pl.rezerveo.booking.openApi.waitlist;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Opuść listę oczekujących",
+        description = "Pozwala użytkownikowi wypisać się z listy oczekujących na slot",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Użytkownik został wypisany z listy oczekujących",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "S00001",
+                                                    "message": "Success",
+                                                    "httpStatus": "NO_CONTENT"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "36d15487-5793-4765-b245-a3644f9bc173"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Slot nie istnieje lub użytkownik nie jest na liście oczekujących",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E08002",
+                                                    "message": "User is not on the waitlist for the slot",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "d380dba8-8907-4715-8780-81471b0e79d2"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "61b46370-7e74-431b-b4e9-4c3bbec76836"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiLeaveWaitlistResponse {}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package pl.rezerveo.booking.openApi.workinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Zarezerwuj wirtualny slot",
+        description = "Tworzy slot wyznaczony z godzin pracy mechanika i od razu go rezerwuje dla zalogowanego użytkownika. Opcjonalny nagłówek Idempotency-Key pozwala bezpiecznie ponowić żądanie",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Slot został pomyślnie zarezerwowany",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "S00000",
+                                                    "message": "Success",
+                                                    "httpStatus": "OK"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "2e34d84e-33f4-4728-a6a9-b2c8927d4239"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Wirtualny slot o podanym kluczu nie istnieje",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E09001",
+                                                    "message": "Virtual slot not found",
+                                                    "httpStatus": "NOT_FOUND",
+                                                    "traceId": "c07744b5-2afc-4b6b-98f1-b10dd4e0dcac"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Rezerwacja nie może zostać dokonana (np. slot został zajęty w międzyczasie lub godziny pracy mechanika uległy zmianie)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05004",
+                                                    "message": "Slot is no longer available for booking",
+                                                    "httpStatus": "UNPROCESSABLE_ENTITY",
+                                                    "traceId": "a8dc175a-005f-436a-a922-3d4940875991"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "78780485-1fc0-4b8c-bdb2-f4d9c2bd319e"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiBookVirtualSlotResponse {}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package pl.rezerveo.booking.openApi.workinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.workinghours.dto.response.VirtualSlotResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz dostępne wirtualne sloty",
+        description = "Zwraca najwcześniejsze (maksymalnie size, domyślnie 20, nie więcej niż 100) wolne sloty danego rodzaju usługi wyznaczone z godzin pracy mechaników w zakresie from - to (domyślnie 14 dni od dziś, maksymalnie 62 dni), z pominięciem czasu zajętego przez istniejące sloty. Pole key służy do rezerwacji slotu",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono wirtualne sloty",
+                        content = @Content(
+                                schema = @Schema(implementation = VirtualSlotResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                [
+                                                    {
+                                                        "key": "OGIyZjZjMWUtNGEzZC00ZjdiLTllMmEtMWM1ZDdmOWIzYTYwfDIwMjUtMTEtMDN8MDg6MzA",
+                                                        "date": "2025-11-03",
+                                                        "startTime": "08:30:00",
+                                                        "endTime": "09:00:00",
+                                                        "serviceType": "Wymiana oleju silnikowego",
+                                                        "mechanicName": "Jan Kowalski"
+                                                    }
+                                                ]
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawny zakres dat",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E05007",
+                                                    "message": "Invalid availability search criteria",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "81af8ca7-1a1a-4f8f-bef7-6f693ec7c323"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "ead475d6-db2d-41b7-ba31-a30075afc0cb"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "8709cf50-ecc4-4ce8-a7a2-6c6c61a11954"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetAvailableVirtualSlotsResponse {}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package pl.rezerveo.booking.openApi.workinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.workinghours.dto.response.WorkingHoursResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Pobierz godziny pracy mechanika",
+        description = "Zwraca tygodniowe godziny pracy zalogowanego mechanika, z których wyznaczane są wirtualne sloty wizyt",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Pomyślnie zwrócono godziny pracy",
+                        content = @Content(
+                                schema = @Schema(implementation = WorkingHoursResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                [
+                                                    {
+                                                        "uuid": "8b2f6c1e-4a3d-4f7b-9e2a-1c5d7f9b3a60",
+                                                        "dayOfWeek": "MONDAY",
+                                                        "startTime": "08:00:00",
+                                                        "endTime": "16:00:00",
+                                                        "serviceType": "Wymiana oleju silnikowego",
+                                                        "slotMinutes": 30
+                                                    }
+                                                ]
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "eb9e853f-1943-483b-8545-515f290c8848"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik bez dostępu do zarządzania slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "d2a9c2a4-2776-4051-a9ad-0be34d27cd8e"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "868938a8-a233-4b90-8999-1fddd04d3cf9"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiGetWorkingHoursResponse {}
\ No newline at end of file
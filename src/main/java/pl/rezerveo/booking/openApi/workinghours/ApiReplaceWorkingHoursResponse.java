@@ -0,0 +1,113 @@
+package pl.rezerveo.booking.openApi.workinghours;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.workinghours.dto.response.WorkingHoursResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "Zastąp godziny pracy mechanika",
+        description = "Zastępuje wszystkie tygodniowe godziny pracy zalogowanego mechanika. Każda reguła oferuje kolejne sloty po slotMinutes minut dla wskazanego rodzaju usługi; slot jest zapisywany w bazie dopiero w momencie rezerwacji. Wcześniej zarezerwowane sloty pozostają bez zmian",
+        responses = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Godziny pracy zostały pomyślnie zastąpione",
+                        content = @Content(
+                                schema = @Schema(implementation = WorkingHoursResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                [
+                                                    {
+                                                        "uuid": "8b2f6c1e-4a3d-4f7b-9e2a-1c5d7f9b3a60",
+                                                        "dayOfWeek": "MONDAY",
+                                                        "startTime": "08:00:00",
+                                                        "endTime": "16:00:00",
+                                                        "serviceType": "Wymiana oleju silnikowego",
+                                                        "slotMinutes": 30
+                                                    }
+                                                ]
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Niepoprawne dane wejściowe (np. godziny nakładające się w tym samym dniu lub krótsze niż jeden slot)",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E09000",
+                                                    "message": "Invalid working hours",
+                                                    "httpStatus": "BAD_REQUEST",
+                                                    "traceId": "ef2d531b-85a9-47a6-b054-064b4091b2a7"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "Użytkownik nieuwierzytelniony",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E01002",
+                                                    "message": "Invalid token",
+                                                    "httpStatus": "UNAUTHORIZED",
+                                                    "traceId": "3026f211-f97a-4f95-b2b7-f2ce68299d79"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "403",
+                        description = "Użytkownik bez dostępu do zarządzania slotami",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00001",
+                                                    "message": "Forbidden",
+                                                    "httpStatus": "FORBIDDEN",
+                                                    "traceId": "9036a4f7-821e-4ce5-b2a7-af3706a80636"
+                                                }
+                                                """
+                                )
+                        )
+                ),
+                @ApiResponse(
+                        responseCode = "500",
+                        description = "Wystąpił wewnętrzny błąd serwera",
+                        content = @Content(
+                                schema = @Schema(implementation = BaseResponse.class),
+                                examples = @ExampleObject(
+                                        value = """
+                                                {
+                                                    "status": "E00006",
+                                                    "message": "Internal server error",
+                                                    "httpStatus": "INTERNAL_SERVER_ERROR",
+                                                    "traceId": "a6d60101-6486-4a5e-b3a5-0fb456b00846"
+                                                }
+                                                """
+                                )
+                        )
+                )
+        }
+)
+public @interface ApiReplaceWorkingHoursResponse {}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.availability")
+public class AvailabilityIndexProperties {
+
+    private boolean enabled;
+
+    @NotBlank
+    private String consistencyCheck;
+}
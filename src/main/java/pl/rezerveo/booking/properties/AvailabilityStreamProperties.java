@@ -0,0 +1,32 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.availability-stream")
+public class AvailabilityStreamProperties {
+
+    @Min(1)
+    private int maxSubscribers;
+
+    @Min(1)
+    private int bufferSize;
+
+    @NotNull
+    private Duration timeout;
+
+    @NotBlank
+    private String heartbeat;
+}
@@ -0,0 +1,34 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.engine")
+public class BookingEngineProperties {
+
+    private boolean enabled;
+
+    @Min(1)
+    private int partitions;
+
+    @Min(1)
+    private int maxBatchSize;
+
+    @NotNull
+    private Duration persistTimeout;
+
+    @NotBlank
+    private String purge;
+}
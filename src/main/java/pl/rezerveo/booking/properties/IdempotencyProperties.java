@@ -0,0 +1,31 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.idempotency")
+public class IdempotencyProperties {
+
+    @Min(1)
+    private int cacheSize;
+
+    @NotNull
+    private Duration retention;
+
+    @NotNull
+    private Duration inFlightTimeout;
+
+    @NotNull
+    private Duration claimTimeout;
+}
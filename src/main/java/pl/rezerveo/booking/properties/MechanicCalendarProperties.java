@@ -0,0 +1,30 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.calendar")
+public class MechanicCalendarProperties {
+
+    private boolean enabled;
+
+    @Min(1)
+    private int maxEntries;
+
+    @NotBlank
+    private String eviction;
+
+    @Min(1)
+    @Max(60)
+    private int cellMinutes;
+}
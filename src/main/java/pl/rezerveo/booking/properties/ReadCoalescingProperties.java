@@ -0,0 +1,15 @@
+package pl.rezerveo.booking.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.read-coalescing")
+public class ReadCoalescingProperties {
+
+    private boolean enabled;
+}
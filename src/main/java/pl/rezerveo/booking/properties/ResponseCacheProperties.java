@@ -0,0 +1,27 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled;
+
+    @Min(1)
+    private int maxEntries;
+
+    @Min(1)
+    private int maxPages;
+
+    @Min(0)
+    private int minGzipSize;
+}
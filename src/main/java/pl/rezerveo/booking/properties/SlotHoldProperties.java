@@ -0,0 +1,28 @@
+package pl.rezerveo.booking.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "application.booking.hold")
+public class SlotHoldProperties {
+
+    @NotNull
+    private Duration duration;
+
+    @NotNull
+    private Duration tick;
+
+    @Min(1)
+    private int wheelSize;
+}
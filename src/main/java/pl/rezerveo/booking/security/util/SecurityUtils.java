@@ -4,6 +4,7 @@ import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import pl.rezerveo.booking.exception.exception.ServiceException;
 import pl.rezerveo.booking.user.model.User;
@@ -47,4 +48,17 @@ public class SecurityUtils {
     public static UUID getLoggedUserUUID() {
         return getLoggedUser().getUuid();
     }
+
+    public static void runAs(Authentication authentication, Runnable action) {
+        final SecurityContext previous = SecurityContextHolder.getContext();
+        final SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        try {
+            action.run();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
 }
\ No newline at end of file
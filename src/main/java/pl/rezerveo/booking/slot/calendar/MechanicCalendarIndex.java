@@ -0,0 +1,164 @@
+package pl.rezerveo.booking.slot.calendar;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.common.version.ChangePartition;
+import pl.rezerveo.booking.common.version.ChangeVersions;
+import pl.rezerveo.booking.properties.MechanicCalendarProperties;
+import pl.rezerveo.booking.slot.dto.CalendarSlot;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.util.LruCache;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * In-memory {@link MechanicDayCalendar} per mechanic and day, loaded on first use and kept up to date by
+ * {@link SlotChangedEvent}s. At most {@code max-entries} days are held, the least recently used one is evicted first. The
+ * exclusion constraint on the slot table stays the source of truth for overlaps: a slot created concurrently is still
+ * rejected on insert, after which the day is reloaded. Like the availability index, it bumps the slots change version only
+ * after applying a change, so calendar ETags never get ahead of the calendars.
+ */
+@Slf4j
+@Component
+@ManagedResource(objectName = "pl.rezerveo.booking:type=MechanicCalendarIndex", description = "Per mechanic and day slot calendars")
+public class MechanicCalendarIndex {
+
+    private final SlotRepository slotRepository;
+    private final MechanicCalendarProperties properties;
+    private final ChangeVersions changeVersions;
+    private final LruCache<Key, MechanicDayCalendar> days;
+    private final AtomicLong changes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MechanicCalendarIndex(SlotRepository slotRepository, MechanicCalendarProperties properties, ChangeVersions changeVersions) {
+        this.slotRepository = slotRepository;
+        this.properties = properties;
+        this.changeVersions = changeVersions;
+        this.days = new LruCache<>(properties.getMaxEntries());
+    }
+
+    /**
+     * Whether the time range overlaps any not canceled slot of the mechanic on that date.
+     */
+    public boolean overlaps(User mechanic, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        Key key = new Key(mechanic.getUuid(), date);
+        Optional<MechanicDayCalendar> day = days.get(key);
+
+        if (day.isPresent()) {
+            hits.increment();
+            return day.get().overlaps(startTime, endTime);
+        }
+
+        misses.increment();
+        if (!properties.isEnabled()) {
+            return slotRepository.existsByMechanicAndDateAndTimeOverlap(mechanic.getId(), date, startTime, endTime);
+        }
+
+        long changesBeforeLoad = changes.get();
+        MechanicDayCalendar built = MechanicDayCalendar.of(slotRepository.findCalendarSlots(mechanic.getUuid(), date, date));
+        return cache(key, built, changesBeforeLoad).overlaps(startTime, endTime);
+    }
+
+    /**
+     * Calendars of every day from {@code from} to {@code to} inclusive. Days not held in memory are loaded with one query and
+     * cached only if no slot changed while it ran, since its result may already be outdated by then.
+     */
+    public List<MechanicDayCalendar> getCalendars(UUID mechanicUuid, LocalDate from, LocalDate to) {
+        List<MechanicDayCalendar> calendars = new ArrayList<>();
+        Map<LocalDate, List<CalendarSlot>> loaded = null;
+        long changesBeforeLoad = 0;
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Key key = new Key(mechanicUuid, date);
+            Optional<MechanicDayCalendar> day = days.get(key);
+
+            if (day.isPresent()) {
+                hits.increment();
+                calendars.add(day.get());
+                continue;
+            }
+
+            misses.increment();
+            if (loaded == null) {
+                changesBeforeLoad = changes.get();
+                loaded = slotRepository.findCalendarSlots(mechanicUuid, date, to)
+                                       .stream()
+                                       .collect(groupingBy(CalendarSlot::date));
+            }
+
+            MechanicDayCalendar built = MechanicDayCalendar.of(loaded.getOrDefault(date, List.of()));
+            calendars.add(cache(key, built, changesBeforeLoad));
+        }
+
+        return calendars;
+    }
+
+    public int getCellMinutes() {
+        return properties.getCellMinutes();
+    }
+
+    public void invalidate(UUID mechanicUuid, LocalDate date) {
+        days.remove(new Key(mechanicUuid, date));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotChanged(SlotChangedEvent event) {
+        changes.incrementAndGet();
+        days.computeIfPresent(new Key(event.mechanicUuid(), event.date()), (key, day) -> day.apply(event));
+        changeVersions.bump(ChangePartition.SLOTS);
+    }
+
+    @Scheduled(cron = "${application.booking.calendar.eviction}")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        int evicted = days.removeIf(key -> key.date().isBefore(today));
+        log.info("Evicted {} past days from mechanic calendar index", evicted);
+    }
+
+    @ManagedAttribute(description = "Number of mechanic days answered from memory")
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of mechanic days that had to be read from the database")
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of mechanic days held in memory")
+    public int getSize() {
+        return days.size();
+    }
+
+    private MechanicDayCalendar cache(Key key, MechanicDayCalendar built, long changesBeforeLoad) {
+        if (!properties.isEnabled()) {
+            return built;
+        }
+        MechanicDayCalendar cached = days.compute(key, (k, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return changes.get() == changesBeforeLoad ? built : null;
+        });
+        return cached != null ? cached : built;
+    }
+
+    private record Key(UUID mechanicUuid, LocalDate date) {}
+}
@@ -0,0 +1,150 @@
+package pl.rezerveo.booking.slot.calendar;
+
+import pl.rezerveo.booking.slot.dto.CalendarSlot;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * One mechanic's day as two bitmaps with a bit per minute: minutes taken by any not canceled slot and minutes of AVAILABLE
+ * slots. A slot takes the minutes from its start up to, but excluding, its end, rounded outwards to whole minutes, so
+ * adjacent slots never share a bit and clearing a slot cannot clear its neighbour. Instances are immutable.
+ */
+public final class MechanicDayCalendar {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] occupied;
+    private final long[] available;
+
+    private MechanicDayCalendar(long[] occupied, long[] available) {
+        this.occupied = occupied;
+        this.available = available;
+    }
+
+    public static MechanicDayCalendar of(List<CalendarSlot> slots) {
+        long[] occupied = new long[WORDS];
+        long[] available = new long[WORDS];
+        for (CalendarSlot slot : slots) {
+            set(occupied, startMinute(slot.startTime()), endMinute(slot.endTime()), true);
+            set(available, startMinute(slot.startTime()), endMinute(slot.endTime()), SlotStatus.AVAILABLE == slot.status());
+        }
+        return new MechanicDayCalendar(occupied, available);
+    }
+
+    /**
+     * Whether the time range overlaps any not canceled slot. Like the slot table exclusion constraint, ranges are half-open, so
+     * a range may start exactly where another slot ends.
+     */
+    public boolean overlaps(LocalTime startTime, LocalTime endTime) {
+        return anySet(occupied, startMinute(startTime), endMinute(endTime));
+    }
+
+    /**
+     * Start minute of the earliest run of at least {@code minutes} available minutes, possibly spanning adjacent slots.
+     */
+    public OptionalInt findAvailableWindow(int minutes) {
+        long[] runs = available.clone();
+        int covered = 1;
+        while (covered < minutes) {
+            int step = Math.min(covered, minutes - covered);
+            andShiftedDown(runs, step);
+            covered += step;
+        }
+
+        for (int word = 0; word < WORDS; word++) {
+            if (runs[word] != 0) {
+                return OptionalInt.of(word * Long.SIZE + Long.numberOfTrailingZeros(runs[word]));
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Writes the available bitmap downsampled to cells of {@code cellMinutes}; a cell is set when any of its minutes is
+     * available.
+     */
+    public void writeAvailableCells(int cellMinutes, BitSet target, int offset) {
+        int cells = cellsPerDay(cellMinutes);
+        for (int cell = 0; cell < cells; cell++) {
+            int from = cell * cellMinutes;
+            if (anySet(available, from, Math.min(from + cellMinutes, MINUTES_PER_DAY))) {
+                target.set(offset + cell);
+            }
+        }
+    }
+
+    public MechanicDayCalendar apply(SlotChangedEvent event) {
+        long[] changedOccupied = occupied.clone();
+        long[] changedAvailable = available.clone();
+        int from = startMinute(event.startTime());
+        int to = endMinute(event.endTime());
+
+        set(changedOccupied, from, to, SlotStatus.CANCELED != event.type().getStatus());
+        set(changedAvailable, from, to, SlotStatus.AVAILABLE == event.type().getStatus());
+        return new MechanicDayCalendar(changedOccupied, changedAvailable);
+    }
+
+    public static int cellsPerDay(int cellMinutes) {
+        return (MINUTES_PER_DAY + cellMinutes - 1) / cellMinutes;
+    }
+
+    private static int startMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static int endMinute(LocalTime time) {
+        return (time.toSecondOfDay() + 59) / 60;
+    }
+
+    /**
+     * Sets or clears the bits of minutes {@code [from, to)}.
+     */
+    private static void set(long[] bits, int from, int to, boolean value) {
+        for (int word = from / Long.SIZE; from < to; word++) {
+            int end = Math.min(to, (word + 1) * Long.SIZE);
+            long mask = mask(from, end);
+            bits[word] = value ? bits[word] | mask : bits[word] & ~mask;
+            from = end;
+        }
+    }
+
+    private static boolean anySet(long[] bits, int from, int to) {
+        for (int word = from / Long.SIZE; from < to; word++) {
+            int end = Math.min(to, (word + 1) * Long.SIZE);
+            if ((bits[word] & mask(from, end)) != 0) {
+                return true;
+            }
+            from = end;
+        }
+        return false;
+    }
+
+    /**
+     * Mask of bits {@code [from, to)} within the single word containing them.
+     */
+    private static long mask(int from, int to) {
+        long upTo = to % Long.SIZE == 0 ? -1L : (1L << (to % Long.SIZE)) - 1;
+        return upTo & (-1L << (from % Long.SIZE));
+    }
+
+    /**
+     * {@code bits[i] &= bits[i + shift]} for every bit, so after a few rounds a bit survives only if it starts a long enough run.
+     */
+    private static void andShiftedDown(long[] bits, int shift) {
+        int wordShift = shift / Long.SIZE;
+        int bitShift = shift % Long.SIZE;
+        for (int word = 0; word < WORDS; word++) {
+            long low = word + wordShift < WORDS ? bits[word + wordShift] : 0;
+            long high = word + wordShift + 1 < WORDS ? bits[word + wordShift + 1] : 0;
+            long shifted = bitShift == 0 ? low : (low >>> bitShift) | (high << (Long.SIZE - bitShift));
+            bits[word] &= shifted;
+        }
+    }
+}
@@ -12,22 +12,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import pl.rezerveo.booking.booking.service.BookingService;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
+import pl.rezerveo.booking.common.version.ConditionalGet;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
 import pl.rezerveo.booking.openApi.slot.ApiCancelBookingByMechanicResponse;
 import pl.rezerveo.booking.openApi.slot.ApiCancelSlotResponse;
+import pl.rezerveo.booking.openApi.slot.ApiCreateRecurringSlotsResponse;
 import pl.rezerveo.booking.openApi.slot.ApiCreateSlotResponse;
+import pl.rezerveo.booking.openApi.slot.ApiGetMechanicSlotsAfterCursorResponse;
 import pl.rezerveo.booking.openApi.slot.ApiGetMechanicSlotsResponse;
+import pl.rezerveo.booking.openApi.slot.ApiGetMechanicSlotsSliceResponse;
+import pl.rezerveo.booking.slot.dto.request.CreateRecurringSlotsRequest;
 import pl.rezerveo.booking.slot.dto.request.CreateSlotRequest;
 import pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse;
+import pl.rezerveo.booking.slot.dto.response.RecurringSlotsResponse;
 import pl.rezerveo.booking.slot.service.SlotService;
 
 import java.util.UUID;
 
 import static org.springframework.data.domain.Sort.Direction.DESC;
 import static pl.rezerveo.booking.common.constant.Urls.SLOTS_URL;
+import static pl.rezerveo.booking.common.version.ChangePartition.SLOTS;
 
 @Slf4j
 @RestController
@@ -45,12 +55,33 @@ public class SlotController {
         return slotService.createSlot(request);
     }
 
+    @PostMapping("/recurring")
+    @ApiCreateRecurringSlotsResponse
+    public RecurringSlotsResponse createRecurringSlots(@RequestBody @Valid CreateRecurringSlotsRequest request) {
+        return slotService.createRecurringSlots(request);
+    }
+
     @GetMapping
     @ApiGetMechanicSlotsResponse
+    @ConditionalGet(value = SLOTS, userScoped = true)
     public PageResponse<MechanicSlotsResponse> getMechanicSlots(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
         return slotService.getMechanicSlots(pageable);
     }
 
+    @GetMapping(params = {"total=false", "!after"})
+    @ApiGetMechanicSlotsSliceResponse
+    @ConditionalGet(value = SLOTS, userScoped = true)
+    public SliceResponse<MechanicSlotsResponse> getMechanicSlotsSlice(@PageableDefault(sort = "createdDate", direction = DESC) Pageable pageable) {
+        return slotService.getMechanicSlotsSlice(pageable);
+    }
+
+    @GetMapping(params = "after")
+    @ApiGetMechanicSlotsAfterCursorResponse
+    @ConditionalGet(value = SLOTS, userScoped = true)
+    public CursorResponse<MechanicSlotsResponse> getMechanicSlots(@RequestParam String after, @RequestParam(defaultValue = "20") int size) {
+        return slotService.getMechanicSlots(after, size);
+    }
+
     @DeleteMapping("/{slotUuid}")
     @ApiCancelSlotResponse
     public BaseResponse cancelSlot(@PathVariable UUID slotUuid) {
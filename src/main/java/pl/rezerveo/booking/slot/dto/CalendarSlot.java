@@ -0,0 +1,9 @@
+package pl.rezerveo.booking.slot.dto;
+
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record CalendarSlot(LocalDate date, LocalTime startTime, LocalTime endTime, SlotStatus status) {
+}
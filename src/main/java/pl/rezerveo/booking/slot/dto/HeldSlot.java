@@ -0,0 +1,7 @@
+package pl.rezerveo.booking.slot.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record HeldSlot(UUID uuid, LocalDateTime holdExpiresAt) {
+}
@@ -0,0 +1,9 @@
+package pl.rezerveo.booking.slot.dto;
+
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SlotOwnerAndStatus(Long id, UUID uuid, UUID mechanicUuid, LocalDate date, SlotStatus status, UUID heldByUuid) {
+}
@@ -0,0 +1,21 @@
+package pl.rezerveo.booking.slot.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record CreateRecurringSlotsRequest(@NotNull
+                                          @FutureOrPresent
+                                          LocalDate from,
+
+                                          @NotNull
+                                          LocalDate to,
+
+                                          @NotEmpty
+                                          @Size(max = 50)
+                                          List<@NotNull @Valid RecurringSlotTemplate> templates) {}
@@ -0,0 +1,19 @@
+package pl.rezerveo.booking.slot.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record RecurringSlotTemplate(@NotNull
+                                    DayOfWeek dayOfWeek,
+
+                                    @NotNull
+                                    LocalTime startTime,
+
+                                    @NotNull
+                                    LocalTime endTime,
+
+                                    @NotNull
+                                    ServiceType serviceType) {}
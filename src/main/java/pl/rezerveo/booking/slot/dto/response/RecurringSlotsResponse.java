@@ -0,0 +1,4 @@
+package pl.rezerveo.booking.slot.dto.response;
+
+public record RecurringSlotsResponse(int created, int skipped) {
+}
@@ -2,6 +2,7 @@ package pl.rezerveo.booking.slot.enumerate;
 
 public enum SlotStatus {
     AVAILABLE,
+    HELD,
     BOOKED,
     CANCELED,
 }
\ No newline at end of file
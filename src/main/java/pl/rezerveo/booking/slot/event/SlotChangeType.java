@@ -0,0 +1,18 @@
+package pl.rezerveo.booking.slot.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum SlotChangeType {
+
+    CREATED(SlotStatus.AVAILABLE),
+    HELD(SlotStatus.HELD),
+    BOOKED(SlotStatus.BOOKED),
+    RELEASED(SlotStatus.AVAILABLE),
+    CANCELED(SlotStatus.CANCELED);
+
+    private final SlotStatus status;
+}
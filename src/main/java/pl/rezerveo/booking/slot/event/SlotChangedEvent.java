@@ -0,0 +1,39 @@
+package pl.rezerveo.booking.slot.event;
+
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.slot.model.Slot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Published whenever a slot changes its status. Listeners should react after the surrounding transaction commits. The holder
+ * is only set for {@link SlotChangeType#HELD}.
+ */
+public record SlotChangedEvent(SlotChangeType type,
+                               UUID slotUuid,
+                               UUID mechanicUuid,
+                               LocalDate date,
+                               LocalTime startTime,
+                               LocalTime endTime,
+                               ServiceType serviceType,
+                               String mechanicName,
+                               UUID heldByUuid) {
+
+    public static SlotChangedEvent of(SlotChangeType type, Slot slot) {
+        return of(type, slot, null);
+    }
+
+    public static SlotChangedEvent of(SlotChangeType type, Slot slot, UUID heldByUuid) {
+        return new SlotChangedEvent(type,
+                                    slot.getUuid(),
+                                    slot.getMechanic().getUuid(),
+                                    slot.getDate(),
+                                    slot.getStartTime(),
+                                    slot.getEndTime(),
+                                    slot.getServiceType(),
+                                    slot.getMechanic().getFirstName() + " " + slot.getMechanic().getLastName(),
+                                    heldByUuid);
+    }
+}
@@ -3,9 +3,11 @@ package pl.rezerveo.booking.slot.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +20,7 @@ import pl.rezerveo.booking.slot.enumerate.SlotStatus;
 import pl.rezerveo.booking.user.model.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +36,12 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_slot_mechanic_id_created_date_id", columnList = "mechanic_id, created_date, id"),
+        @Index(name = "idx_slot_mechanic_id_date", columnList = "mechanic_id, date"),
+        @Index(name = "idx_slot_status_created_date_id", columnList = "status, created_date, id"),
+        @Index(name = "idx_slot_status_date_service_type_start_time", columnList = "status, date, service_type, start_time")
+})
 public class Slot extends FullAuditEntity {
 
     @Column(nullable = false, unique = true, updatable = false)
@@ -59,6 +68,12 @@ public class Slot extends FullAuditEntity {
     @JoinColumn(name = "mechanic_id", nullable = false)
     private User mechanic;
 
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "held_by_id")
+    private User heldBy;
+
+    private LocalDateTime holdExpiresAt;
+
     @OneToMany(mappedBy = "slot", cascade = ALL, orphanRemoval = true)
     private List<Booking> bookings = new ArrayList<>();
 }
\ No newline at end of file
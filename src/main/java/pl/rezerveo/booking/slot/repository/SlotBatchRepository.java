@@ -0,0 +1,14 @@
+package pl.rezerveo.booking.slot.repository;
+
+import pl.rezerveo.booking.slot.model.Slot;
+
+import java.util.List;
+
+public interface SlotBatchRepository {
+
+    /**
+     * Inserts new slots with JDBC batches, bypassing the persistence context. The slots are audited as created by their
+     * mechanic.
+     */
+    void insertAll(List<Slot> slots);
+}
@@ -0,0 +1,41 @@
+package pl.rezerveo.booking.slot.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import pl.rezerveo.booking.slot.model.Slot;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SlotBatchRepositoryImpl implements SlotBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SLOT = """
+            INSERT INTO slot (uuid, date, start_time, end_time, service_type, status, mechanic_id, created_date, created_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Slot> slots) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SLOT, slots, BATCH_SIZE, (statement, slot) -> {
+            statement.setObject(1, slot.getUuid());
+            statement.setDate(2, Date.valueOf(slot.getDate()));
+            statement.setTime(3, Time.valueOf(slot.getStartTime()));
+            statement.setTime(4, Time.valueOf(slot.getEndTime()));
+            statement.setString(5, slot.getServiceType().name());
+            statement.setString(6, slot.getStatus().name());
+            statement.setLong(7, slot.getMechanic().getId());
+            statement.setTimestamp(8, now);
+            statement.setLong(9, slot.getMechanic().getId());
+        });
+    }
+}
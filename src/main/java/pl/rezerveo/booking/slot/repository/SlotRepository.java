@@ -1,35 +1,58 @@
 package pl.rezerveo.booking.slot.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import pl.rezerveo.booking.booking.availability.IndexedSlot;
 import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.common.dto.Cursor;
+import pl.rezerveo.booking.slot.dto.CalendarSlot;
+import pl.rezerveo.booking.slot.dto.HeldSlot;
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus;
 import pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
 import pl.rezerveo.booking.slot.model.Slot;
 import pl.rezerveo.booking.user.model.User;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface SlotRepository extends JpaRepository<Slot, Long> {
+import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
+
+public interface SlotRepository extends JpaRepository<Slot, Long>, SlotSearchRepository, SlotBatchRepository {
+
+    @Query(value = """
+            SELECT EXISTS(SELECT 1
+                          FROM slot s
+                          WHERE s.mechanic_id = :mechanicId
+                            AND s.time_range && tsrange(CAST(:date AS date) + CAST(:startTime AS time), CAST(:date AS date) + CAST(:endTime AS time), '[)')
+                            AND s.status <> 'CANCELED')
+            """, nativeQuery = true)
+    boolean existsByMechanicAndDateAndTimeOverlap(Long mechanicId, LocalDate date, LocalTime startTime, LocalTime endTime);
 
     @Query("""
-            SELECT COUNT(s) > 0
+            SELECT new pl.rezerveo.booking.slot.dto.CalendarSlot(
+                    s.date,
+                    s.startTime,
+                    s.endTime,
+                    s.status
+            )
             FROM Slot s
-            WHERE s.mechanic = :mechanic
-              AND s.date = :date
-              AND (
-                (:startTime BETWEEN s.startTime AND s.endTime)
-                    OR (:endTime BETWEEN s.startTime AND s.endTime)
-                    OR (s.startTime BETWEEN :startTime AND :endTime)
-                    OR (s.endTime BETWEEN :startTime AND :endTime)
-                )
+            WHERE s.mechanic.uuid = :mechanicUuid
+              AND s.date BETWEEN :from AND :to
               AND s.status != 'CANCELED'
             """)
-    boolean existsByMechanicAndDateAndTimeOverlap(User mechanic, LocalDate date, LocalTime startTime, LocalTime endTime);
+    List<CalendarSlot> findCalendarSlots(UUID mechanicUuid, LocalDate from, LocalDate to);
 
     @Query("""
             SELECT new pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse(
@@ -43,16 +66,168 @@ public interface SlotRepository extends JpaRepository<Slot, Long> {
             FROM Slot s
             WHERE s.mechanic.uuid = :mechanicUuid
             """)
-    Page<MechanicSlotsResponse> getMechanicSlots(Pageable pageable, UUID mechanicUuid);
+    Slice<MechanicSlotsResponse> getMechanicSlots(Pageable pageable, UUID mechanicUuid);
+
+    @Query("""
+            SELECT COUNT(s)
+            FROM Slot s
+            WHERE s.mechanic.uuid = :mechanicUuid
+            """)
+    long countByMechanicUuid(UUID mechanicUuid);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.common.dto.Cursor(s.createdDate, s.id)
+            FROM Slot s
+            WHERE s.mechanic.uuid = :mechanicUuid
+              AND (s.createdDate < :afterCreatedDate OR (s.createdDate = :afterCreatedDate AND s.id < :afterId))
+            ORDER BY s.createdDate DESC, s.id DESC
+            """)
+    List<Cursor> findKeysByMechanicUuidAfter(UUID mechanicUuid, LocalDateTime afterCreatedDate, Long afterId, Limit limit);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse(
+                   s.uuid,
+                   s.date,
+                   s.startTime,
+                   s.endTime,
+                   s.serviceType,
+                   s.status
+            )
+            FROM Slot s
+            WHERE s.id IN :slotIds
+            ORDER BY s.createdDate DESC, s.id DESC
+            """)
+    List<MechanicSlotsResponse> findMechanicSlotsByIdIn(Collection<Long> slotIds);
 
     @Query("""
             SELECT s
             FROM Slot s
                      JOIN FETCH s.mechanic
-                     LEFT JOIN FETCH s.bookings
             WHERE s.uuid = :slotUuid
             """)
-    Optional<Slot> findSlotWithMechanicAndBookingByUuid(UUID slotUuid);
+    Optional<Slot> findSlotWithMechanicByUuid(UUID slotUuid);
+
+    @Lock(PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s
+            FROM Slot s
+                     JOIN FETCH s.mechanic
+            WHERE s.uuid = :slotUuid
+            """)
+    Optional<Slot> lockSlotWithMechanicByUuid(UUID slotUuid);
+
+    /**
+     * Claims an available slot, or a slot held by the same client, in a single conditional statement.
+     *
+     * @return 1 when the client won the slot, 0 when it is missing, no longer available or owned by the client
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Slot s
+            SET s.status = 'BOOKED',
+                s.heldBy = NULL,
+                s.holdExpiresAt = NULL,
+                s.lastModifiedDate = CURRENT_TIMESTAMP,
+                s.lastModifiedBy = :clientId
+            WHERE s.uuid = :slotUuid
+              AND (s.status = 'AVAILABLE' OR (s.status = 'HELD' AND s.heldBy.id = :clientId))
+              AND s.mechanic.id <> :clientId
+            """)
+    int claimAvailableSlot(UUID slotUuid, Long clientId);
+
+    /**
+     * Holds an available slot for the given client until {@code expiresAt}.
+     *
+     * @return 1 when the slot was held, 0 when it is missing, no longer available or owned by the client
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Slot s
+            SET s.status = 'HELD',
+                s.heldBy = :client,
+                s.holdExpiresAt = :expiresAt,
+                s.lastModifiedDate = CURRENT_TIMESTAMP,
+                s.lastModifiedBy = :#{#client.id}
+            WHERE s.uuid = :slotUuid
+              AND s.status = 'AVAILABLE'
+              AND s.mechanic <> :client
+            """)
+    int holdAvailableSlot(UUID slotUuid, User client, LocalDateTime expiresAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Slot s
+            SET s.status = 'AVAILABLE',
+                s.heldBy = NULL,
+                s.holdExpiresAt = NULL,
+                s.lastModifiedDate = CURRENT_TIMESTAMP,
+                s.lastModifiedBy = :clientId
+            WHERE s.uuid = :slotUuid
+              AND s.status = 'HELD'
+              AND s.heldBy.id = :clientId
+            """)
+    int releaseHold(UUID slotUuid, Long clientId);
+
+    /**
+     * Releases a hold whose expiry is not later than {@code expiredAt}. A hold that was confirmed, released or taken again
+     * in the meantime is left untouched.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Slot s
+            SET s.status = 'AVAILABLE',
+                s.heldBy = NULL,
+                s.holdExpiresAt = NULL,
+                s.lastModifiedDate = CURRENT_TIMESTAMP
+            WHERE s.uuid = :slotUuid
+              AND s.status = 'HELD'
+              AND s.holdExpiresAt <= :expiredAt
+            """)
+    int releaseExpiredHold(UUID slotUuid, LocalDateTime expiredAt);
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.slot.dto.HeldSlot(
+                    s.uuid,
+                    s.holdExpiresAt
+            )
+            FROM Slot s
+            WHERE s.status = 'HELD'
+            """)
+    List<HeldSlot> findAllHeldSlots();
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.availability.IndexedSlot(
+                    s.uuid,
+                    s.date,
+                    s.startTime,
+                    s.endTime,
+                    s.serviceType,
+                    m.uuid,
+                    m.firstName,
+                    m.lastName
+            )
+            FROM Slot s
+                     JOIN s.mechanic m
+            WHERE s.status = 'AVAILABLE'
+            """)
+    List<IndexedSlot> findAllIndexedAvailableSlots();
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse(
+                    s.uuid,
+                    s.date,
+                    s.startTime,
+                    s.endTime,
+                    s.serviceType,
+                    m.firstName,
+                    m.lastName
+            )
+            FROM Slot s
+                     JOIN s.mechanic m
+            WHERE s.id IN :slotIds
+            ORDER BY s.createdDate DESC, s.id DESC
+            """)
+    List<AvailableSlotsResponse> findAvailableSlotsByIdIn(Collection<Long> slotIds);
 
     @Query("""
             SELECT new pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse(
@@ -67,6 +242,65 @@ public interface SlotRepository extends JpaRepository<Slot, Long> {
             FROM Slot s
                      JOIN s.mechanic m
             WHERE s.status = 'AVAILABLE'
+              AND s.serviceType = :serviceType
+              AND (s.date > :date OR (s.date = :date AND s.startTime >= :startTime))
+            ORDER BY s.date ASC, s.startTime ASC, s.uuid ASC
+            """)
+    List<AvailableSlotsResponse> findEarliestAvailableSlots(ServiceType serviceType, LocalDate date, LocalTime startTime, Limit limit);
+
+    @Query("""
+            SELECT s.uuid
+            FROM Slot s
+            WHERE s.status = 'AVAILABLE'
+            """)
+    Set<UUID> findAllAvailableSlotUuids();
+
+    @Query("""
+            SELECT new pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus(
+                    s.id,
+                    s.uuid,
+                    m.uuid,
+                    s.date,
+                    s.status,
+                    h.uuid
+            )
+            FROM Slot s
+                     JOIN s.mechanic m
+                     LEFT JOIN s.heldBy h
+            WHERE s.uuid = :slotUuid
+            """)
+    Optional<SlotOwnerAndStatus> findSlotOwnerAndStatusByUuid(UUID slotUuid);
+
+    @Query("""
+            SELECT s
+            FROM Slot s
+                     JOIN FETCH s.mechanic
+            WHERE s.uuid IN :slotUuids
+            """)
+    List<Slot> findAllWithMechanicByUuidIn(Collection<UUID> slotUuids);
+
+    /**
+     * Locks the given slots in id order, so concurrent batches cannot deadlock each other.
+     */
+    @Lock(PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s
+            FROM Slot s
+                     JOIN FETCH s.mechanic
+            WHERE s.uuid IN :slotUuids
+            ORDER BY s.id
+            """)
+    List<Slot> lockAllWithMechanicByUuidIn(Collection<UUID> slotUuids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Slot s
+            SET s.status = 'BOOKED',
+                s.heldBy = NULL,
+                s.holdExpiresAt = NULL,
+                s.lastModifiedDate = CURRENT_TIMESTAMP,
+                s.lastModifiedBy = :clientId
+            WHERE s.id IN :slotIds
             """)
-    Page<AvailableSlotsResponse> findAvailableSlots(Pageable pageable);
+    int markAllBooked(Collection<Long> slotIds, Long clientId);
 }
\ No newline at end of file
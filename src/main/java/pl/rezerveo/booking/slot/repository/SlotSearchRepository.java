@@ -0,0 +1,26 @@
+package pl.rezerveo.booking.slot.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.common.dto.Cursor;
+
+import java.util.List;
+
+public interface SlotSearchRepository {
+
+    /**
+     * Searches available slots. Only the criteria present in the filter end up in the query, so the planner can use the
+     * (status, date, service_type, start_time) index instead of evaluating optional predicates for every available slot.
+     */
+    Slice<AvailableSlotsResponse> findAvailableSlots(AvailableSlotsFilter filter, Pageable pageable);
+
+    long countAvailableSlots(AvailableSlotsFilter filter);
+
+    /**
+     * Keys of the available slots matching the filter that follow the cursor in {@code createdDate DESC, id DESC} order.
+     */
+    List<Cursor> findAvailableSlotKeysAfter(AvailableSlotsFilter filter, Cursor after, Limit limit);
+}
@@ -0,0 +1,111 @@
+package pl.rezerveo.booking.slot.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter;
+import pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse;
+import pl.rezerveo.booking.common.dto.Cursor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+@RequiredArgsConstructor
+public class SlotSearchRepositoryImpl implements SlotSearchRepository {
+
+    private static final String SELECT_AVAILABLE_SLOTS = """
+            SELECT new pl.rezerveo.booking.booking.dto.response.AvailableSlotsResponse(
+                    s.uuid,
+                    s.date,
+                    s.startTime,
+                    s.endTime,
+                    s.serviceType,
+                    m.firstName,
+                    m.lastName
+            )
+            FROM Slot s
+                     JOIN s.mechanic m
+            """;
+
+    private static final String COUNT_AVAILABLE_SLOTS = """
+            SELECT COUNT(s)
+            FROM Slot s
+            """;
+
+    private static final String SELECT_AVAILABLE_SLOT_KEYS = """
+            SELECT new pl.rezerveo.booking.common.dto.Cursor(s.createdDate, s.id)
+            FROM Slot s
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<AvailableSlotsResponse> findAvailableSlots(AvailableSlotsFilter filter, Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String jpql = QueryUtils.applySorting(SELECT_AVAILABLE_SLOTS + where(filter, parameters), pageable.getSort(), "s");
+
+        TypedQuery<AvailableSlotsResponse> query = entityManager.createQuery(jpql, AvailableSlotsResponse.class);
+        parameters.forEach(query::setParameter);
+
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        List<AvailableSlotsResponse> content = query.setFirstResult((int) pageable.getOffset())
+                                                    .setMaxResults(pageable.getPageSize() + 1)
+                                                    .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public long countAvailableSlots(AvailableSlotsFilter filter) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        TypedQuery<Long> query = entityManager.createQuery(COUNT_AVAILABLE_SLOTS + where(filter, parameters), Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public List<Cursor> findAvailableSlotKeysAfter(AvailableSlotsFilter filter, Cursor after, Limit limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String jpql = SELECT_AVAILABLE_SLOT_KEYS + where(filter, parameters) + """
+                  AND (s.createdDate < :afterCreatedDate OR (s.createdDate = :afterCreatedDate AND s.id < :afterId))
+                ORDER BY s.createdDate DESC, s.id DESC
+                """;
+        parameters.put("afterCreatedDate", after.createdDate());
+        parameters.put("afterId", after.id());
+
+        TypedQuery<Cursor> query = entityManager.createQuery(jpql, Cursor.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit.max()).getResultList();
+    }
+
+    private static String where(AvailableSlotsFilter filter, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder("WHERE s.status = 'AVAILABLE'\n");
+
+        appendIfPresent(where, parameters, "s.date >= :from", "from", filter.from());
+        appendIfPresent(where, parameters, "s.date <= :to", "to", filter.to());
+        appendIfPresent(where, parameters, "s.serviceType = :serviceType", "serviceType", filter.serviceType());
+        appendIfPresent(where, parameters, "s.startTime >= :fromTime", "fromTime", filter.fromTime());
+        appendIfPresent(where, parameters, "s.endTime <= :toTime", "toTime", filter.toTime());
+        appendIfPresent(where, parameters, "s.mechanic.uuid = :mechanicUuid", "mechanicUuid", filter.mechanicUuid());
+
+        return where.toString();
+    }
+
+    private static void appendIfPresent(StringBuilder where, Map<String, Object> parameters, String condition, String name, Object value) {
+        if (nonNull(value)) {
+            where.append("  AND ").append(condition).append('\n');
+            parameters.put(name, value);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package pl.rezerveo.booking.slot.service;
 
 import org.springframework.data.domain.Pageable;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.slot.dto.request.CreateRecurringSlotsRequest;
 import pl.rezerveo.booking.slot.dto.request.CreateSlotRequest;
 import pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse;
+import pl.rezerveo.booking.slot.dto.response.RecurringSlotsResponse;
 
 import java.util.UUID;
 
@@ -12,7 +16,13 @@ public interface SlotService {
 
     BaseResponse createSlot(CreateSlotRequest request);
 
+    RecurringSlotsResponse createRecurringSlots(CreateRecurringSlotsRequest request);
+
     PageResponse<MechanicSlotsResponse> getMechanicSlots(Pageable pageable);
 
+    SliceResponse<MechanicSlotsResponse> getMechanicSlotsSlice(Pageable pageable);
+
+    CursorResponse<MechanicSlotsResponse> getMechanicSlots(String after, int size);
+
     BaseResponse cancelSlot(UUID slotUuid);
 }
\ No newline at end of file
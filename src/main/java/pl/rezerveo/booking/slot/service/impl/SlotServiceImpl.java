@@ -2,25 +2,47 @@ package pl.rezerveo.booking.slot.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pl.rezerveo.booking.booking.dto.CanceledBooking;
 import pl.rezerveo.booking.booking.enumerated.BookingStatus;
-import pl.rezerveo.booking.booking.model.Booking;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
 import pl.rezerveo.booking.booking.repository.BookingRepository;
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer;
+import pl.rezerveo.booking.common.dto.Cursor;
+import pl.rezerveo.booking.common.dto.CursorResponse;
 import pl.rezerveo.booking.common.dto.PageResponse;
+import pl.rezerveo.booking.common.dto.SliceResponse;
 import pl.rezerveo.booking.exception.dto.response.BaseResponse;
 import pl.rezerveo.booking.exception.exception.ServiceException;
-import pl.rezerveo.booking.notification.NotificationPublisher;
+import pl.rezerveo.booking.notification.event.SlotCanceledEvent;
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex;
+import pl.rezerveo.booking.slot.calendar.MechanicDayCalendar;
+import pl.rezerveo.booking.slot.dto.request.CreateRecurringSlotsRequest;
 import pl.rezerveo.booking.slot.dto.request.CreateSlotRequest;
+import pl.rezerveo.booking.slot.dto.request.RecurringSlotTemplate;
 import pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse;
+import pl.rezerveo.booking.slot.dto.response.RecurringSlotsResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
 import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
 import pl.rezerveo.booking.slot.model.Slot;
 import pl.rezerveo.booking.slot.repository.SlotRepository;
 import pl.rezerveo.booking.slot.service.SlotService;
 import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.waitlist.service.WaitlistService;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +51,8 @@ import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05000;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05002;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05003;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05009;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05010;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00003;
 import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
@@ -40,86 +64,200 @@ import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE;
 @RequiredArgsConstructor
 public class SlotServiceImpl implements SlotService {
 
+    private static final int RECURRING_SLOTS_MAX_DAYS = 366;
+
     private final SlotRepository slotRepository;
     private final BookingRepository bookingRepository;
-    private final NotificationPublisher notificationPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WaitlistService waitlistService;
+    private final ReadCoalescer readCoalescer;
+    private final MechanicCalendarIndex mechanicCalendarIndex;
 
     @Override
     public BaseResponse createSlot(CreateSlotRequest request) {
         log.info("Starting slot creation for request: {}", request);
         User loggedUser = getLoggedUser();
 
+        validateTimeRange(request);
         validateOverlapping(request, loggedUser);
 
-        Slot slot = buildSlot(request, loggedUser);
+        Slot slot = buildSlot(request.date(), request.startTime(), request.endTime(), request.serviceType(), loggedUser);
 
-        slotRepository.save(slot);
+        try {
+            slotRepository.saveAndFlush(slot);
+        } catch (DataIntegrityViolationException ex) {
+            log.error("Overlapping slot created concurrently for user: {}", loggedUser.getUuid());
+            mechanicCalendarIndex.invalidate(loggedUser.getUuid(), request.date());
+            throw new ServiceException(E05000);
+        }
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.CREATED, slot));
 
         log.info("Slot successfully created with UUID: {}", slot.getUuid());
         return new BaseResponse(S00003);
     }
 
+    @Override
+    @Transactional
+    public RecurringSlotsResponse createRecurringSlots(CreateRecurringSlotsRequest request) {
+        log.info("Starting recurring slots creation from {} to {} for {} templates", request.from(), request.to(), request.templates().size());
+        User loggedUser = getLoggedUser();
+
+        validateRecurring(request);
+
+        List<MechanicDayCalendar> calendars = mechanicCalendarIndex.getCalendars(loggedUser.getUuid(), request.from(), request.to());
+        List<Slot> slots = new ArrayList<>();
+        List<SlotChangedEvent> events = new ArrayList<>();
+        int skipped = 0;
+
+        for (int day = 0; day < calendars.size(); day++) {
+            LocalDate date = request.from().plusDays(day);
+            MechanicDayCalendar calendar = calendars.get(day);
+
+            for (RecurringSlotTemplate template : request.templates()) {
+                if (template.dayOfWeek() != date.getDayOfWeek()) {
+                    continue;
+                }
+                if (calendar.overlaps(template.startTime(), template.endTime())) {
+                    skipped++;
+                    continue;
+                }
+
+                Slot slot = buildSlot(date, template.startTime(), template.endTime(), template.serviceType(), loggedUser);
+                SlotChangedEvent event = SlotChangedEvent.of(SlotChangeType.CREATED, slot);
+                calendar = calendar.apply(event);
+                slots.add(slot);
+                events.add(event);
+            }
+        }
+
+        try {
+            slotRepository.insertAll(slots);
+        } catch (DataIntegrityViolationException ex) {
+            log.error("Overlapping slots created concurrently for user: {}", loggedUser.getUuid());
+            slots.stream()
+                 .map(Slot::getDate)
+                 .distinct()
+                 .forEach(date -> mechanicCalendarIndex.invalidate(loggedUser.getUuid(), date));
+            throw new ServiceException(E05000);
+        }
+        events.forEach(eventPublisher::publishEvent);
+
+        log.info("Created {} recurring slots, skipped {} overlapping ones for mechanic UUID: {}", slots.size(), skipped, loggedUser.getUuid());
+        return new RecurringSlotsResponse(slots.size(), skipped);
+    }
+
     @Override
     public PageResponse<MechanicSlotsResponse> getMechanicSlots(Pageable pageable) {
         log.info("Fetching slots for mechanic, pageable: {}", pageable);
         UUID userUuid = getLoggedUserUUID();
 
-        Page<MechanicSlotsResponse> slots = slotRepository.getMechanicSlots(pageable, userUuid);
+        Page<MechanicSlotsResponse> slots = readCoalescer.execute("getMechanicSlots",
+                                                                  () -> PageableExecutionUtils.getPage(slotRepository.getMechanicSlots(pageable, userUuid).getContent(),
+                                                                                                       pageable,
+                                                                                                       () -> slotRepository.countByMechanicUuid(userUuid)),
+                                                                  userUuid, pageable);
 
         log.info("Found {} slots for mechanic UUID: {}", slots.getTotalElements(), userUuid);
         return PageResponse.of(slots);
     }
 
+    @Override
+    public SliceResponse<MechanicSlotsResponse> getMechanicSlotsSlice(Pageable pageable) {
+        log.info("Fetching slots for mechanic without total count, pageable: {}", pageable);
+        UUID userUuid = getLoggedUserUUID();
+
+        Slice<MechanicSlotsResponse> slots = readCoalescer.execute("getMechanicSlotsSlice", () -> slotRepository.getMechanicSlots(pageable, userUuid), userUuid, pageable);
+
+        log.info("Found {} slots for mechanic UUID: {}, has next: {}", slots.getNumberOfElements(), userUuid, slots.hasNext());
+        return SliceResponse.of(slots);
+    }
+
+    @Override
+    public CursorResponse<MechanicSlotsResponse> getMechanicSlots(String after, int size) {
+        UUID userUuid = getLoggedUserUUID();
+        log.info("Fetching slots for mechanic UUID: {} after cursor [{}], size: {}", userUuid, after, size);
+        Cursor cursor = Cursor.decode(after);
+
+        CursorResponse<MechanicSlotsResponse> slots = readCoalescer.execute("getMechanicSlotsAfter", () -> {
+            List<Cursor> keys = slotRepository.findKeysByMechanicUuidAfter(userUuid, cursor.createdDate(), cursor.id(), CursorResponse.keyLimit(size));
+            return CursorResponse.of(keys, size, slotRepository::findMechanicSlotsByIdIn);
+        }, userUuid, cursor, size);
+
+        log.info("Found {} slots for mechanic UUID: {} after cursor [{}]", slots.content().size(), userUuid, after);
+        return slots;
+    }
+
     @Override
     @Transactional
     public BaseResponse cancelSlot(UUID slotUuid) {
         log.info("Request to cancel slot UUID: {}", slotUuid);
-        Slot slot = getSlotWithUserAndBookingOrElseThrow(slotUuid);
+        Slot slot = lockSlotWithMechanicOrElseThrow(slotUuid);
 
         validate(slot);
 
         if (SlotStatus.BOOKED == slot.getStatus()) {
-            log.info("Canceling confirmed bookings for slot UUID: {}", slotUuid);
-            List<Booking> bookings = slot.getBookings();
-            bookings.stream()
-                    .filter(b -> b.getStatus() == BookingStatus.CONFIRMED)
-                    .forEach(b -> {
-                        log.info("Canceling booking UUID: {}", b.getUuid());
-                        b.setStatus(BookingStatus.CANCELED);
-                        notificationPublisher.notifySlotCanceledToClients(b);
-                    });
-            bookingRepository.saveAll(bookings);
+            List<Long> canceledBookingIds = bookingRepository.cancelAllConfirmedBySlotId(slot.getId(), getLoggedUser().getId());
+            log.info("Canceled {} confirmed bookings for slot UUID: {}", canceledBookingIds.size(), slotUuid);
+
+            if (!canceledBookingIds.isEmpty()) {
+                eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CANCELED, canceledBookingIds.size()));
+                List<CanceledBooking> canceledBookings = bookingRepository.findCanceledBookingsByIdIn(canceledBookingIds);
+                eventPublisher.publishEvent(new SlotCanceledEvent(slot, canceledBookings));
+            }
         }
 
+        waitlistService.clearWaitlist(slot);
+
         slot.setStatus(SlotStatus.CANCELED);
         slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.CANCELED, slot));
 
         log.info("Slot UUID: {} successfully canceled", slotUuid);
         return new BaseResponse(S00001);
     }
 
     private void validateOverlapping(CreateSlotRequest request, User loggedUser) {
-        boolean overlapping = slotRepository.existsByMechanicAndDateAndTimeOverlap(loggedUser, request.date(), request.startTime(), request.endTime());
+        boolean overlapping = mechanicCalendarIndex.overlaps(loggedUser, request.date(), request.startTime(), request.endTime());
         if (overlapping) {
             log.error("Overlapping slot detected for user: {}", loggedUser.getUuid());
             throw new ServiceException(E05000);
         }
     }
 
-    private Slot buildSlot(CreateSlotRequest request, User loggedUser) {
+    private void validateTimeRange(CreateSlotRequest request) {
+        if (!request.startTime().isBefore(request.endTime())) {
+            log.error("Slot does not end after it starts: {} - {}", request.startTime(), request.endTime());
+            throw new ServiceException(E05010);
+        }
+    }
+
+    private void validateRecurring(CreateRecurringSlotsRequest request) {
+        if (request.to().isBefore(request.from()) || ChronoUnit.DAYS.between(request.from(), request.to()) >= RECURRING_SLOTS_MAX_DAYS) {
+            log.error("Invalid recurring slots date range from {} to {}", request.from(), request.to());
+            throw new ServiceException(E05009);
+        }
+
+        boolean invalidTemplate = request.templates().stream().anyMatch(template -> !template.startTime().isBefore(template.endTime()));
+        if (invalidTemplate) {
+            log.error("Recurring slot template does not end after it starts: {}", request.templates());
+            throw new ServiceException(E05009);
+        }
+    }
+
+    private Slot buildSlot(LocalDate date, LocalTime startTime, LocalTime endTime, ServiceType serviceType, User loggedUser) {
         return Slot.builder()
                    .uuid(randomUUID())
-                   .date(request.date())
-                   .startTime(request.startTime())
-                   .endTime(request.endTime())
-                   .serviceType(request.serviceType())
+                   .date(date)
+                   .startTime(startTime)
+                   .endTime(endTime)
+                   .serviceType(serviceType)
                    .status(AVAILABLE)
                    .mechanic(loggedUser)
                    .build();
     }
 
-    private Slot getSlotWithUserAndBookingOrElseThrow(UUID slotUuid) {
-        return slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid)
+    private Slot lockSlotWithMechanicOrElseThrow(UUID slotUuid) {
+        return slotRepository.lockSlotWithMechanicByUuid(slotUuid)
                              .orElseThrow(() -> {
                                  log.error("Slot with UUID: [{}] not found", slotUuid);
                                  return new ServiceException(E05001);
@@ -144,4 +282,4 @@ public class SlotServiceImpl implements SlotService {
             throw new ServiceException(E05003);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package pl.rezerveo.booking.user.event;
+
+import pl.rezerveo.booking.user.model.User;
+
+import java.util.UUID;
+
+/**
+ * Published when a mechanic changes their first or last name. Listeners that keep the mechanic name of slots precomputed
+ * should refresh it after the surrounding transaction commits.
+ */
+public record MechanicRenamedEvent(UUID mechanicUuid, String mechanicName) {
+
+    public static MechanicRenamedEvent of(User mechanic) {
+        return new MechanicRenamedEvent(mechanic.getUuid(), mechanic.getFirstName() + " " + mechanic.getLastName());
+    }
+}
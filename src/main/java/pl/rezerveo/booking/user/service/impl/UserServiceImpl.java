@@ -2,6 +2,7 @@ package pl.rezerveo.booking.user.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import pl.rezerveo.booking.exception.dto.BaseApiValidationError;
@@ -13,6 +14,7 @@ import pl.rezerveo.booking.security.util.SecurityUtils;
 import pl.rezerveo.booking.user.dto.request.ChangePasswordRequest;
 import pl.rezerveo.booking.user.dto.request.UpdateUserRequest;
 import pl.rezerveo.booking.user.dto.response.UserDetailsResponse;
+import pl.rezerveo.booking.user.event.MechanicRenamedEvent;
 import pl.rezerveo.booking.user.model.User;
 import pl.rezerveo.booking.user.repository.UserRepository;
 import pl.rezerveo.booking.user.service.UserService;
@@ -24,6 +26,7 @@ import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00000;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E03001;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E03006;
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000;
+import static pl.rezerveo.booking.user.enumerated.Role.MECHANIC;
 import static pl.rezerveo.booking.user.mapper.UserMapper.buildUserDetailsResponse;
 import static pl.rezerveo.booking.util.MaskingUtil.maskEmail;
 import static pl.rezerveo.booking.util.StringUtil.notEquals;
@@ -36,6 +39,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EncryptionService encryptionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User getUserByEmail(String email) {
@@ -94,12 +98,18 @@ public class UserServiceImpl implements UserService {
     }
 
     private void updateUser(UpdateUserRequest request, User user) {
+        boolean isNameChanged = notEquals(request.firstName(), user.getFirstName()) || notEquals(request.lastName(), user.getLastName());
+
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setEmail(request.email());
         user.setPhoneNumber(request.phoneNumber());
 
         userRepository.save(user);
+
+        if (isNameChanged && MECHANIC == user.getRole()) {
+            eventPublisher.publishEvent(MechanicRenamedEvent.of(user));
+        }
     }
 
     private void validatePasswordChangeRequest(ChangePasswordRequest request, User user) {
@@ -0,0 +1,123 @@
+package pl.rezerveo.booking.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel. Scheduling and expiring a timeout are O(1) regardless of how many timeouts are pending; a timeout
+ * fires on the first tick at or after its deadline. Expired items are handed to the callback on the wheel thread, so the
+ * callback must not block.
+ */
+@Slf4j
+public final class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Queue<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> onExpiry;
+    private final Thread worker;
+    private final long startTime;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<T> onExpiry) {
+        this.tickNanos = tickDuration.toNanos();
+        this.buckets = new Queue[powerOfTwo(wheelSize)];
+        this.mask = buckets.length - 1;
+        this.onExpiry = onExpiry;
+
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public void schedule(T item, Duration delay) {
+        pending.add(new Timeout<>(item, System.nanoTime() + Math.max(0, delay.toNanos())));
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            waitForTick(tick);
+            transferPending();
+            expire(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void waitForTick(long currentTick) {
+        long deadline = startTime + (currentTick + 1) * tickNanos;
+        long sleep;
+        while (running && (sleep = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            long deadlineTick = ceilDiv(timeout.deadline - startTime, tickNanos);
+            long targetTick = Math.max(deadlineTick, tick);
+            timeout.rounds = (targetTick - tick) / buckets.length;
+            buckets[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout<T>> bucket) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                continue;
+            }
+
+            iterator.remove();
+            try {
+                onExpiry.accept(timeout.item);
+            } catch (RuntimeException ex) {
+                log.error("Timing wheel callback failed for [{}]: {}", timeout.item, ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static int powerOfTwo(int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static final class Timeout<T> {
+
+        private final T item;
+        private final long deadline;
+        private long rounds;
+
+        private Timeout(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package pl.rezerveo.booking.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Small thread-safe cache that evicts the least recently used entry once {@code maxSize} is exceeded.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    public LruCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(K key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Same as {@link Map#compute}, atomic with respect to the other operations of this cache.
+     */
+    public synchronized V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return entries.compute(key, remappingFunction);
+    }
+
+    /**
+     * Same as {@link Map#computeIfPresent}, atomic with respect to the other operations of this cache.
+     */
+    public synchronized V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return entries.computeIfPresent(key, remappingFunction);
+    }
+
+    /**
+     * Removes every entry whose key matches the predicate and returns how many were removed.
+     */
+    public synchronized int removeIf(Predicate<? super K> predicate) {
+        int before = entries.size();
+        entries.keySet().removeIf(predicate);
+        return before - entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,59 @@
+package pl.rezerveo.booking.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into one computation: the first caller computes the value and every caller
+ * that arrives while it is in flight waits for that value or exception instead of computing its own. Nothing is cached; a
+ * call that starts after the computation finished computes again.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Result<V> execute(K key, Supplier<V> call) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+
+        if (existing != null) {
+            return new Result<>(await(existing), true);
+        }
+
+        V value;
+        try {
+            value = call.get();
+        } catch (RuntimeException | Error ex) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(ex);
+            throw ex;
+        }
+
+        inFlight.remove(key, own);
+        own.complete(value);
+        return new Result<>(value, false);
+    }
+
+    public int size() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public record Result<V>(V value, boolean shared) {}
+}
@@ -0,0 +1,40 @@
+package pl.rezerveo.booking.waitlist.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.openApi.waitlist.ApiJoinWaitlistResponse;
+import pl.rezerveo.booking.openApi.waitlist.ApiLeaveWaitlistResponse;
+import pl.rezerveo.booking.waitlist.service.WaitlistService;
+
+import java.util.UUID;
+
+import static pl.rezerveo.booking.common.constant.Urls.BOOKINGS_URL;
+
+@Slf4j
+@RestController
+@RequestMapping(BOOKINGS_URL)
+@RequiredArgsConstructor
+@Tag(name = "Lista oczekujących", description = "Operacje związane z listą oczekujących na zarezerwowane sloty")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping("/{slotUuid}/waitlist")
+    @ApiJoinWaitlistResponse
+    public BaseResponse joinWaitlist(@PathVariable UUID slotUuid) {
+        return waitlistService.joinWaitlist(slotUuid);
+    }
+
+    @DeleteMapping("/{slotUuid}/waitlist")
+    @ApiLeaveWaitlistResponse
+    public BaseResponse leaveWaitlist(@PathVariable UUID slotUuid) {
+        return waitlistService.leaveWaitlist(slotUuid);
+    }
+}
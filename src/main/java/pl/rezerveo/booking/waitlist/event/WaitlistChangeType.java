@@ -0,0 +1,9 @@
+package pl.rezerveo.booking.waitlist.event;
+
+public enum WaitlistChangeType {
+
+    JOINED,
+    LEFT,
+    PROMOTED,
+    CLEARED
+}
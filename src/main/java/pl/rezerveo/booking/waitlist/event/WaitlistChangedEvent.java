@@ -0,0 +1,12 @@
+package pl.rezerveo.booking.waitlist.event;
+
+/**
+ * Published whenever waitlist entries of a slot are added or removed. The entry id is only set for
+ * {@link WaitlistChangeType#JOINED} and {@link WaitlistChangeType#LEFT}.
+ */
+public record WaitlistChangedEvent(WaitlistChangeType type, Long slotId, Long entryId) {
+
+    public static WaitlistChangedEvent of(WaitlistChangeType type, Long slotId) {
+        return new WaitlistChangedEvent(type, slotId, null);
+    }
+}
@@ -0,0 +1,35 @@
+package pl.rezerveo.booking.waitlist.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import pl.rezerveo.booking.common.entity.auditable.DateAuditEntity;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"slot_id", "client_id"}))
+public class WaitlistEntry extends DateAuditEntity {
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "slot_id", nullable = false, updatable = false)
+    private Slot slot;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "client_id", nullable = false, updatable = false)
+    private User client;
+}
@@ -0,0 +1,123 @@
+package pl.rezerveo.booking.waitlist.queue;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.rezerveo.booking.waitlist.event.WaitlistChangedEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory FIFO of waitlist entry ids per slot. The database stays the source of truth: a queue is loaded on first use,
+ * dropped once it drains and polled ids are re-checked by the caller, so a stale or duplicated id is harmless. Joins, leaves
+ * and clears are applied once their transaction commits; a promotion polls right away, so its queue is dropped when the
+ * transaction rolls back and reloaded on next use.
+ */
+@Component
+public class WaitlistQueues {
+
+    private final Map<Long, LongQueue> queues = new ConcurrentHashMap<>();
+
+    public Long poll(Long slotId, Supplier<List<Long>> loader) {
+        Long[] polled = new Long[1];
+
+        queues.compute(slotId, (id, queue) -> {
+            LongQueue current = queue == null ? LongQueue.of(loader.get()) : queue;
+            polled[0] = current.poll();
+            return current.isEmpty() ? null : current;
+        });
+
+        return polled[0];
+    }
+
+    public void append(Long slotId, Long entryId) {
+        queues.computeIfPresent(slotId, (id, queue) -> {
+            queue.add(entryId);
+            return queue;
+        });
+    }
+
+    public void remove(Long slotId, Long entryId) {
+        queues.computeIfPresent(slotId, (id, queue) -> {
+            queue.remove(entryId);
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    public void invalidate(Long slotId) {
+        queues.remove(slotId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistChanged(WaitlistChangedEvent event) {
+        switch (event.type()) {
+            case JOINED -> append(event.slotId(), event.entryId());
+            case LEFT -> remove(event.slotId(), event.entryId());
+            case CLEARED -> invalidate(event.slotId());
+            case PROMOTED -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onWaitlistChangeRolledBack(WaitlistChangedEvent event) {
+        invalidate(event.slotId());
+    }
+
+    private static final class LongQueue {
+
+        private long[] elements = new long[4];
+        private int head;
+        private int size;
+
+        private static LongQueue of(List<Long> values) {
+            LongQueue queue = new LongQueue();
+            values.forEach(queue::add);
+            return queue;
+        }
+
+        private void add(long value) {
+            if (size == elements.length) {
+                long[] grown = new long[elements.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = elements[(head + i) % elements.length];
+                }
+                elements = grown;
+                head = 0;
+            }
+            elements[(head + size) % elements.length] = value;
+            size++;
+        }
+
+        private Long poll() {
+            if (size == 0) {
+                return null;
+            }
+            long value = elements[head];
+            head = (head + 1) % elements.length;
+            size--;
+            return value;
+        }
+
+        private void remove(long value) {
+            long[] remaining = new long[elements.length];
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                long element = elements[(head + i) % elements.length];
+                if (element != value) {
+                    remaining[kept++] = element;
+                }
+            }
+            elements = remaining;
+            head = 0;
+            size = kept;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
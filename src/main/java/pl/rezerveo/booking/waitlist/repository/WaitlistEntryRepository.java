@@ -0,0 +1,51 @@
+package pl.rezerveo.booking.waitlist.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.rezerveo.booking.waitlist.model.WaitlistEntry;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    @Query("""
+            SELECT COUNT(w) > 0
+            FROM WaitlistEntry w
+            WHERE w.slot.id = :slotId
+              AND w.client.id = :clientId
+            """)
+    boolean existsBySlotIdAndClientId(Long slotId, Long clientId);
+
+    @Query("""
+            SELECT w.id
+            FROM WaitlistEntry w
+            WHERE w.slot.id = :slotId
+            ORDER BY w.id
+            """)
+    List<Long> findAllIdsBySlotId(Long slotId);
+
+    @Query("""
+            SELECT w
+            FROM WaitlistEntry w
+                     JOIN FETCH w.client
+            WHERE w.id = :id
+            """)
+    Optional<WaitlistEntry> findWithClientById(Long id);
+
+    @Query("""
+            SELECT w.id
+            FROM WaitlistEntry w
+            WHERE w.slot.id = :slotId
+              AND w.client.id = :clientId
+            """)
+    Optional<Long> findIdBySlotIdAndClientId(Long slotId, Long clientId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM WaitlistEntry w
+            WHERE w.slot.id = :slotId
+            """)
+    int deleteAllBySlotId(Long slotId);
+}
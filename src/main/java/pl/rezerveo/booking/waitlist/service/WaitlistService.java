@@ -0,0 +1,22 @@
+package pl.rezerveo.booking.waitlist.service;
+
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.user.model.User;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WaitlistService {
+
+    BaseResponse joinWaitlist(UUID slotUuid);
+
+    BaseResponse leaveWaitlist(UUID slotUuid);
+
+    /**
+     * Removes the longest waiting client from the waitlist of the slot. Must be called in the transaction that frees the slot.
+     */
+    Optional<User> promoteNext(Slot slot);
+
+    void clearWaitlist(Slot slot);
+}
@@ -0,0 +1,153 @@
+package pl.rezerveo.booking.waitlist.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.rezerveo.booking.booking.repository.BookingRepository;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.waitlist.event.WaitlistChangeType;
+import pl.rezerveo.booking.waitlist.event.WaitlistChangedEvent;
+import pl.rezerveo.booking.waitlist.model.WaitlistEntry;
+import pl.rezerveo.booking.waitlist.queue.WaitlistQueues;
+import pl.rezerveo.booking.waitlist.repository.WaitlistEntryRepository;
+import pl.rezerveo.booking.waitlist.service.WaitlistService;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05003;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08000;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08002;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08003;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00003;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final SlotRepository slotRepository;
+    private final BookingRepository bookingRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistQueues waitlistQueues;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public BaseResponse joinWaitlist(UUID slotUuid) {
+        log.info("Attempting to join waitlist of slot UUID: {}", slotUuid);
+        User client = getLoggedUser();
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+
+        validateJoin(slot, client);
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                                           .slot(slot)
+                                           .client(client)
+                                           .build();
+        try {
+            waitlistEntryRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException ex) {
+            log.error("User UUID: {} joined waitlist of slot UUID: {} concurrently", client.getUuid(), slotUuid);
+            throw new ServiceException(E08000);
+        }
+
+        eventPublisher.publishEvent(new WaitlistChangedEvent(WaitlistChangeType.JOINED, slot.getId(), entry.getId()));
+
+        log.info("User UUID: {} joined waitlist of slot UUID: {}", client.getUuid(), slotUuid);
+        return new BaseResponse(S00003);
+    }
+
+    @Override
+    @Transactional
+    public BaseResponse leaveWaitlist(UUID slotUuid) {
+        log.info("Attempting to leave waitlist of slot UUID: {}", slotUuid);
+        User client = getLoggedUser();
+        Slot slot = getSlotWithMechanicOrElseThrow(slotUuid);
+
+        Long entryId = waitlistEntryRepository.findIdBySlotIdAndClientId(slot.getId(), client.getId())
+                                              .orElseThrow(() -> {
+                                                  log.error("User UUID: {} is not on waitlist of slot UUID: {}", client.getUuid(), slotUuid);
+                                                  return new ServiceException(E08002);
+                                              });
+
+        waitlistEntryRepository.deleteById(entryId);
+        eventPublisher.publishEvent(new WaitlistChangedEvent(WaitlistChangeType.LEFT, slot.getId(), entryId));
+
+        log.info("User UUID: {} left waitlist of slot UUID: {}", client.getUuid(), slotUuid);
+        return new BaseResponse(S00001);
+    }
+
+    @Override
+    public Optional<User> promoteNext(Slot slot) {
+        eventPublisher.publishEvent(WaitlistChangedEvent.of(WaitlistChangeType.PROMOTED, slot.getId()));
+
+        Long entryId;
+        while ((entryId = waitlistQueues.poll(slot.getId(), () -> waitlistEntryRepository.findAllIdsBySlotId(slot.getId()))) != null) {
+            Optional<WaitlistEntry> entry = waitlistEntryRepository.findWithClientById(entryId);
+
+            if (entry.isPresent()) {
+                waitlistEntryRepository.delete(entry.get());
+                log.info("Promoting user UUID: {} from waitlist of slot UUID: {}", entry.get().getClient().getUuid(), slot.getUuid());
+                return Optional.of(entry.get().getClient());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void clearWaitlist(Slot slot) {
+        int deleted = waitlistEntryRepository.deleteAllBySlotId(slot.getId());
+        eventPublisher.publishEvent(WaitlistChangedEvent.of(WaitlistChangeType.CLEARED, slot.getId()));
+        log.info("Removed {} waitlist entries of slot UUID: {}", deleted, slot.getUuid());
+    }
+
+    private void validateJoin(Slot slot, User client) {
+        if (slot.getMechanic().getUuid().equals(client.getUuid())) {
+            log.error("Logged-in user is the mechanic, cannot join waitlist of own slot UUID: {}", slot.getUuid());
+            throw new ServiceException(E06004);
+        }
+
+        if (SlotStatus.CANCELED == slot.getStatus()) {
+            log.error("Cannot join waitlist of canceled slot UUID: {}", slot.getUuid());
+            throw new ServiceException(E05003);
+        }
+
+        if (SlotStatus.BOOKED != slot.getStatus()) {
+            log.error("Cannot join waitlist of slot UUID: {} because status is {}", slot.getUuid(), slot.getStatus());
+            throw new ServiceException(E08001);
+        }
+
+        if (bookingRepository.existsConfirmedBySlotIdAndClientId(slot.getId(), client.getId())) {
+            log.error("User UUID: {} has already booked slot UUID: {}", client.getUuid(), slot.getUuid());
+            throw new ServiceException(E08003);
+        }
+
+        if (waitlistEntryRepository.existsBySlotIdAndClientId(slot.getId(), client.getId())) {
+            log.error("User UUID: {} is already on waitlist of slot UUID: {}", client.getUuid(), slot.getUuid());
+            throw new ServiceException(E08000);
+        }
+    }
+
+    private Slot getSlotWithMechanicOrElseThrow(UUID slotUuid) {
+        return slotRepository.findSlotWithMechanicByUuid(slotUuid)
+                             .orElseThrow(() -> {
+                                 log.error("Slot with UUID: [{}] not found", slotUuid);
+                                 return new ServiceException(E05001);
+                             });
+    }
+}
@@ -0,0 +1,53 @@
+package pl.rezerveo.booking.workinghours.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.idempotency.service.IdempotencyService;
+import pl.rezerveo.booking.openApi.workinghours.ApiBookVirtualSlotResponse;
+import pl.rezerveo.booking.openApi.workinghours.ApiGetAvailableVirtualSlotsResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.workinghours.dto.response.VirtualSlotResponse;
+import pl.rezerveo.booking.workinghours.service.VirtualSlotService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static pl.rezerveo.booking.common.constant.Headers.IDEMPOTENCY_KEY;
+import static pl.rezerveo.booking.common.constant.Urls.BOOKINGS_URL;
+
+@Slf4j
+@RestController
+@RequestMapping(BOOKINGS_URL)
+@RequiredArgsConstructor
+@Tag(name = "Wirtualne sloty", description = "Operacje związane ze slotami wyznaczanymi z godzin pracy mechaników")
+public class VirtualSlotController {
+
+    private final VirtualSlotService virtualSlotService;
+    private final IdempotencyService idempotencyService;
+
+    @GetMapping("/available/virtual")
+    @ApiGetAvailableVirtualSlotsResponse
+    public List<VirtualSlotResponse> getAvailableVirtualSlots(@RequestParam ServiceType serviceType,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate from,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate to,
+                                                              @RequestParam(defaultValue = "20") int size) {
+        return virtualSlotService.getAvailableVirtualSlots(serviceType, from, to, size);
+    }
+
+    @PostMapping("/virtual/{key}")
+    @ApiBookVirtualSlotResponse
+    public BaseResponse bookVirtualSlot(@PathVariable String key, @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return idempotencyService.execute(idempotencyKey, "bookVirtualSlot:" + key, () -> virtualSlotService.bookVirtualSlot(key));
+    }
+}
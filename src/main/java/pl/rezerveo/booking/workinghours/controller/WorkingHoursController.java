@@ -0,0 +1,42 @@
+package pl.rezerveo.booking.workinghours.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import pl.rezerveo.booking.openApi.workinghours.ApiGetWorkingHoursResponse;
+import pl.rezerveo.booking.openApi.workinghours.ApiReplaceWorkingHoursResponse;
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRequest;
+import pl.rezerveo.booking.workinghours.dto.response.WorkingHoursResponse;
+import pl.rezerveo.booking.workinghours.service.WorkingHoursService;
+
+import java.util.List;
+
+import static pl.rezerveo.booking.common.constant.Urls.WORKING_HOURS_URL;
+
+@Slf4j
+@RestController
+@RequestMapping(WORKING_HOURS_URL)
+@RequiredArgsConstructor
+@Tag(name = "Godziny pracy mechanika", description = "Operacje związane z godzinami pracy, z których wyznaczane są wirtualne sloty")
+public class WorkingHoursController {
+
+    private final WorkingHoursService workingHoursService;
+
+    @GetMapping
+    @ApiGetWorkingHoursResponse
+    public List<WorkingHoursResponse> getWorkingHours() {
+        return workingHoursService.getWorkingHours();
+    }
+
+    @PutMapping
+    @ApiReplaceWorkingHoursResponse
+    public List<WorkingHoursResponse> replaceWorkingHours(@RequestBody @Valid WorkingHoursRequest request) {
+        return workingHoursService.replaceWorkingHours(request);
+    }
+}
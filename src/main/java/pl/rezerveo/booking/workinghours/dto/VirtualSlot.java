@@ -0,0 +1,61 @@
+package pl.rezerveo.booking.workinghours.dto;
+
+import pl.rezerveo.booking.workinghours.model.WorkingHours;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Slot computed from working hours, not stored anywhere until it is booked.
+ */
+public record VirtualSlot(WorkingHours workingHours, LocalDate date, LocalTime startTime) {
+
+    /**
+     * Every slot of the rule's grid on that date, in start time order; empty when the rule does not apply to the weekday.
+     */
+    public static Stream<VirtualSlot> allOf(WorkingHours workingHours, LocalDate date) {
+        if (workingHours.getDayOfWeek() != date.getDayOfWeek()) {
+            return Stream.empty();
+        }
+
+        long count = minutesBetween(workingHours.getStartTime(), workingHours.getEndTime()) / workingHours.getSlotMinutes();
+        return IntStream.range(0, (int) count)
+                        .mapToObj(i -> new VirtualSlot(workingHours, date, workingHours.getStartTime().plusMinutes((long) i * workingHours.getSlotMinutes())));
+    }
+
+    public static VirtualSlot of(WorkingHours workingHours, VirtualSlotKey key) {
+        return new VirtualSlot(workingHours, key.date(), key.startTime());
+    }
+
+    public LocalTime endTime() {
+        return startTime.plusMinutes(workingHours.getSlotMinutes());
+    }
+
+    public VirtualSlotKey key() {
+        return new VirtualSlotKey(workingHours.getUuid(), date, startTime);
+    }
+
+    public boolean startsAfter(LocalDateTime dateTime) {
+        return date.atTime(startTime).isAfter(dateTime);
+    }
+
+    /**
+     * Whether the slot still lies on the rule's grid, which may have changed since the key was handed out.
+     */
+    public boolean isOffered() {
+        long offset = minutesBetween(workingHours.getStartTime(), startTime);
+
+        return workingHours.getDayOfWeek() == date.getDayOfWeek()
+               && offset >= 0
+               && offset % workingHours.getSlotMinutes() == 0
+               && minutesBetween(startTime, workingHours.getEndTime()) >= workingHours.getSlotMinutes();
+    }
+
+    private static long minutesBetween(LocalTime from, LocalTime to) {
+        return Duration.between(from, to).toMinutes();
+    }
+}
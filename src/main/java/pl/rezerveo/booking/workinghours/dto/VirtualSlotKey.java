@@ -0,0 +1,37 @@
+package pl.rezerveo.booking.workinghours.dto;
+
+import lombok.extern.slf4j.Slf4j;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E09001;
+
+/**
+ * Identity of a virtual slot: the working hours rule offering it and its position in the rule's grid. Clients only see it
+ * as an opaque token, which stays valid until the rule is replaced.
+ */
+@Slf4j
+public record VirtualSlotKey(UUID workingHoursUuid, LocalDate date, LocalTime startTime) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String value = workingHoursUuid + SEPARATOR + date + SEPARATOR + startTime;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VirtualSlotKey decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+            return new VirtualSlotKey(UUID.fromString(parts[0]), LocalDate.parse(parts[1]), LocalTime.parse(parts[2]));
+        } catch (RuntimeException ex) {
+            log.error("Invalid virtual slot key [{}]", token);
+            throw new ServiceException(E09001);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package pl.rezerveo.booking.workinghours.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record WorkingHoursRequest(@NotNull
+                                  @Size(max = 50)
+                                  List<@NotNull @Valid WorkingHoursRule> rules) {}
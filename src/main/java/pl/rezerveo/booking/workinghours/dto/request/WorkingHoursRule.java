@@ -0,0 +1,25 @@
+package pl.rezerveo.booking.workinghours.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record WorkingHoursRule(@NotNull
+                               DayOfWeek dayOfWeek,
+
+                               @NotNull
+                               LocalTime startTime,
+
+                               @NotNull
+                               LocalTime endTime,
+
+                               @NotNull
+                               ServiceType serviceType,
+
+                               @Min(5)
+                               @Max(480)
+                               int slotMinutes) {}
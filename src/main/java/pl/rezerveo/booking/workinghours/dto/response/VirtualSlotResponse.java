@@ -0,0 +1,26 @@
+package pl.rezerveo.booking.workinghours.dto.response;
+
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.workinghours.dto.VirtualSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record VirtualSlotResponse(
+        String key,
+        LocalDate date,
+        LocalTime startTime,
+        LocalTime endTime,
+        String serviceType,
+        String mechanicName
+) {
+    public static VirtualSlotResponse of(VirtualSlot slot) {
+        User mechanic = slot.workingHours().getMechanic();
+        return new VirtualSlotResponse(slot.key().encode(),
+                                       slot.date(),
+                                       slot.startTime(),
+                                       slot.endTime(),
+                                       slot.workingHours().getServiceType().getDescription(),
+                                       mechanic.getFirstName() + " " + mechanic.getLastName());
+    }
+}
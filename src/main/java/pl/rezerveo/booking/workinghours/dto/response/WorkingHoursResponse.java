@@ -0,0 +1,25 @@
+package pl.rezerveo.booking.workinghours.dto.response;
+
+import pl.rezerveo.booking.workinghours.model.WorkingHours;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record WorkingHoursResponse(
+        UUID uuid,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String serviceType,
+        int slotMinutes
+) {
+    public static WorkingHoursResponse of(WorkingHours workingHours) {
+        return new WorkingHoursResponse(workingHours.getUuid(),
+                                        workingHours.getDayOfWeek(),
+                                        workingHours.getStartTime(),
+                                        workingHours.getEndTime(),
+                                        workingHours.getServiceType().getDescription(),
+                                        workingHours.getSlotMinutes());
+    }
+}
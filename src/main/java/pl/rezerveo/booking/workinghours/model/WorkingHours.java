@@ -0,0 +1,65 @@
+package pl.rezerveo.booking.workinghours.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import pl.rezerveo.booking.common.entity.auditable.FullAuditEntity;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.user.model.User;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+
+/**
+ * Weekly rule offering back-to-back slots of {@code slotMinutes} between {@code startTime} and {@code endTime}. The slots
+ * are virtual: a {@code Slot} row is only created when a client books one of them.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_working_hours_mechanic_id", columnList = "mechanic_id"),
+        @Index(name = "idx_working_hours_service_type_day_of_week", columnList = "service_type, day_of_week")
+})
+public class WorkingHours extends FullAuditEntity {
+
+    @Column(nullable = false, unique = true, updatable = false)
+    private UUID uuid;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Enumerated(STRING)
+    @Column(nullable = false)
+    private ServiceType serviceType;
+
+    @Column(nullable = false)
+    private int slotMinutes;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "mechanic_id", nullable = false, updatable = false)
+    private User mechanic;
+}
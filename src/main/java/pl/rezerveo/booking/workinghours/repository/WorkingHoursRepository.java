@@ -0,0 +1,44 @@
+package pl.rezerveo.booking.workinghours.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.workinghours.model.WorkingHours;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WorkingHoursRepository extends JpaRepository<WorkingHours, Long> {
+
+    @Query("""
+            SELECT w
+            FROM WorkingHours w
+            WHERE w.mechanic.uuid = :mechanicUuid
+            """)
+    List<WorkingHours> findAllByMechanicUuid(UUID mechanicUuid);
+
+    @Query("""
+            SELECT w
+            FROM WorkingHours w
+                     JOIN FETCH w.mechanic
+            WHERE w.serviceType = :serviceType
+            """)
+    List<WorkingHours> findAllWithMechanicByServiceType(ServiceType serviceType);
+
+    @Query("""
+            SELECT w
+            FROM WorkingHours w
+                     JOIN FETCH w.mechanic
+            WHERE w.uuid = :uuid
+            """)
+    Optional<WorkingHours> findWithMechanicByUuid(UUID uuid);
+
+    @Modifying
+    @Query("""
+            DELETE FROM WorkingHours w
+            WHERE w.mechanic.id = :mechanicId
+            """)
+    int deleteAllByMechanicId(Long mechanicId);
+}
@@ -0,0 +1,15 @@
+package pl.rezerveo.booking.workinghours.service;
+
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.workinghours.dto.response.VirtualSlotResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface VirtualSlotService {
+
+    List<VirtualSlotResponse> getAvailableVirtualSlots(ServiceType serviceType, LocalDate from, LocalDate to, int size);
+
+    BaseResponse bookVirtualSlot(String key);
+}
@@ -0,0 +1,13 @@
+package pl.rezerveo.booking.workinghours.service;
+
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRequest;
+import pl.rezerveo.booking.workinghours.dto.response.WorkingHoursResponse;
+
+import java.util.List;
+
+public interface WorkingHoursService {
+
+    List<WorkingHoursResponse> getWorkingHours();
+
+    List<WorkingHoursResponse> replaceWorkingHours(WorkingHoursRequest request);
+}
@@ -0,0 +1,175 @@
+package pl.rezerveo.booking.workinghours.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.rezerveo.booking.booking.enumerated.BookingStatus;
+import pl.rezerveo.booking.booking.event.BookingChangedEvent;
+import pl.rezerveo.booking.booking.model.Booking;
+import pl.rezerveo.booking.booking.repository.BookingRepository;
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer;
+import pl.rezerveo.booking.exception.dto.response.BaseResponse;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent;
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex;
+import pl.rezerveo.booking.slot.enumerate.ServiceType;
+import pl.rezerveo.booking.slot.enumerate.SlotStatus;
+import pl.rezerveo.booking.slot.event.SlotChangeType;
+import pl.rezerveo.booking.slot.event.SlotChangedEvent;
+import pl.rezerveo.booking.slot.model.Slot;
+import pl.rezerveo.booking.slot.repository.SlotRepository;
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.workinghours.dto.VirtualSlot;
+import pl.rezerveo.booking.workinghours.dto.VirtualSlotKey;
+import pl.rezerveo.booking.workinghours.dto.response.VirtualSlotResponse;
+import pl.rezerveo.booking.workinghours.model.WorkingHours;
+import pl.rezerveo.booking.workinghours.repository.WorkingHoursRepository;
+import pl.rezerveo.booking.workinghours.service.VirtualSlotService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.groupingBy;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05007;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E09001;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VirtualSlotServiceImpl implements VirtualSlotService {
+
+    private static final int VIRTUAL_SLOTS_DEFAULT_DAYS = 14;
+    private static final int VIRTUAL_SLOTS_MAX_DAYS = 62;
+    private static final int VIRTUAL_SLOTS_MAX_SIZE = 100;
+
+    private final WorkingHoursRepository workingHoursRepository;
+    private final SlotRepository slotRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadCoalescer readCoalescer;
+    private final MechanicCalendarIndex mechanicCalendarIndex;
+
+    @Override
+    public List<VirtualSlotResponse> getAvailableVirtualSlots(ServiceType serviceType, LocalDate from, LocalDate to, int size) {
+        LocalDate start = isNull(from) ? LocalDate.now() : from;
+        LocalDate end = isNull(to) ? start.plusDays(VIRTUAL_SLOTS_DEFAULT_DAYS) : to;
+        int count = Math.clamp(size, 1, VIRTUAL_SLOTS_MAX_SIZE);
+        log.info("Fetching {} available virtual slots of service type {} from {} to {}", count, serviceType, start, end);
+
+        if (end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= VIRTUAL_SLOTS_MAX_DAYS) {
+            log.error("Invalid virtual slots date range from {} to {}", start, end);
+            throw new ServiceException(E05007);
+        }
+
+        List<VirtualSlotResponse> virtualSlots = readCoalescer.execute("getAvailableVirtualSlots",
+                                                                       () -> findAvailableVirtualSlots(serviceType, start, end, count),
+                                                                       serviceType, start, end, count);
+
+        log.info("Found {} available virtual slots of service type {}", virtualSlots.size(), serviceType);
+        return virtualSlots;
+    }
+
+    @Override
+    @Transactional
+    public BaseResponse bookVirtualSlot(String key) {
+        VirtualSlotKey slotKey = VirtualSlotKey.decode(key);
+        log.info("Attempting to book virtual slot: {}", slotKey);
+        User client = getLoggedUser();
+
+        WorkingHours workingHours = workingHoursRepository.findWithMechanicByUuid(slotKey.workingHoursUuid())
+                                                          .orElseThrow(() -> {
+                                                              log.error("Working hours with UUID: [{}] not found", slotKey.workingHoursUuid());
+                                                              return new ServiceException(E09001);
+                                                          });
+        VirtualSlot virtualSlot = VirtualSlot.of(workingHours, slotKey);
+
+        validateVirtualSlot(virtualSlot, client);
+
+        Slot slot = Slot.builder()
+                        .uuid(randomUUID())
+                        .date(virtualSlot.date())
+                        .startTime(virtualSlot.startTime())
+                        .endTime(virtualSlot.endTime())
+                        .serviceType(workingHours.getServiceType())
+                        .status(SlotStatus.BOOKED)
+                        .mechanic(workingHours.getMechanic())
+                        .build();
+        try {
+            slotRepository.saveAndFlush(slot);
+        } catch (DataIntegrityViolationException ex) {
+            log.error("Virtual slot: {} was claimed concurrently", slotKey);
+            throw new ServiceException(E05004);
+        }
+
+        Booking booking = Booking.builder()
+                                 .uuid(randomUUID())
+                                 .status(BookingStatus.CONFIRMED)
+                                 .slot(slot)
+                                 .client(client)
+                                 .build();
+        bookingRepository.save(booking);
+        eventPublisher.publishEvent(SlotChangedEvent.of(SlotChangeType.BOOKED, slot));
+        eventPublisher.publishEvent(BookingChangedEvent.of(booking));
+        eventPublisher.publishEvent(new BookingConfirmedEvent(client, slot));
+
+        log.info("Virtual slot booked successfully, slot UUID: {}, booking UUID: {}", slot.getUuid(), booking.getUuid());
+        return new BaseResponse(S00000);
+    }
+
+    /**
+     * Expands the working hours day by day and stops as soon as enough free slots are found, so only the days that are
+     * actually returned get their calendars loaded.
+     */
+    private List<VirtualSlotResponse> findAvailableVirtualSlots(ServiceType serviceType, LocalDate from, LocalDate to, int count) {
+        Map<DayOfWeek, List<WorkingHours>> workingHours = workingHoursRepository.findAllWithMechanicByServiceType(serviceType)
+                                                                                .stream()
+                                                                                .collect(groupingBy(WorkingHours::getDayOfWeek));
+        LocalDateTime now = LocalDateTime.now();
+
+        return from.datesUntil(to.plusDays(1))
+                   .flatMap(date -> workingHours.getOrDefault(date.getDayOfWeek(), List.of())
+                                                .stream()
+                                                .flatMap(rule -> VirtualSlot.allOf(rule, date))
+                                                .sorted(Comparator.comparing(VirtualSlot::startTime)))
+                   .filter(virtualSlot -> virtualSlot.startsAfter(now))
+                   .filter(virtualSlot -> !overlapsExistingSlot(virtualSlot))
+                   .limit(count)
+                   .map(VirtualSlotResponse::of)
+                   .toList();
+    }
+
+    private void validateVirtualSlot(VirtualSlot virtualSlot, User client) {
+        if (virtualSlot.workingHours().getMechanic().getUuid().equals(client.getUuid())) {
+            log.error("Logged-in user is the mechanic, cannot book own virtual slot: {}", virtualSlot.key());
+            throw new ServiceException(E06004);
+        }
+
+        if (!virtualSlot.isOffered() || !virtualSlot.startsAfter(LocalDateTime.now())) {
+            log.error("Virtual slot: {} is not offered by the working hours", virtualSlot.key());
+            throw new ServiceException(E05004);
+        }
+
+        if (overlapsExistingSlot(virtualSlot)) {
+            log.error("Virtual slot: {} overlaps an existing slot", virtualSlot.key());
+            throw new ServiceException(E05004);
+        }
+    }
+
+    private boolean overlapsExistingSlot(VirtualSlot virtualSlot) {
+        return mechanicCalendarIndex.overlaps(virtualSlot.workingHours().getMechanic(), virtualSlot.date(), virtualSlot.startTime(), virtualSlot.endTime());
+    }
+}
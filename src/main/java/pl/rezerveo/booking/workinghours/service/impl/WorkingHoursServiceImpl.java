@@ -0,0 +1,105 @@
+package pl.rezerveo.booking.workinghours.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.rezerveo.booking.exception.exception.ServiceException;
+import pl.rezerveo.booking.user.model.User;
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRequest;
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRule;
+import pl.rezerveo.booking.workinghours.dto.response.WorkingHoursResponse;
+import pl.rezerveo.booking.workinghours.model.WorkingHours;
+import pl.rezerveo.booking.workinghours.repository.WorkingHoursRepository;
+import pl.rezerveo.booking.workinghours.service.WorkingHoursService;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.UUID.randomUUID;
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E09000;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUser;
+import static pl.rezerveo.booking.security.util.SecurityUtils.getLoggedUserUUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkingHoursServiceImpl implements WorkingHoursService {
+
+    private static final Comparator<WorkingHours> BY_DAY_AND_START_TIME = Comparator.comparing(WorkingHours::getDayOfWeek)
+                                                                                    .thenComparing(WorkingHours::getStartTime);
+
+    private final WorkingHoursRepository workingHoursRepository;
+
+    @Override
+    public List<WorkingHoursResponse> getWorkingHours() {
+        UUID mechanicUuid = getLoggedUserUUID();
+        log.info("Fetching working hours of mechanic UUID: {}", mechanicUuid);
+
+        List<WorkingHoursResponse> workingHours = workingHoursRepository.findAllByMechanicUuid(mechanicUuid)
+                                                                        .stream()
+                                                                        .sorted(BY_DAY_AND_START_TIME)
+                                                                        .map(WorkingHoursResponse::of)
+                                                                        .toList();
+
+        log.info("Found {} working hours rules of mechanic UUID: {}", workingHours.size(), mechanicUuid);
+        return workingHours;
+    }
+
+    @Override
+    @Transactional
+    public List<WorkingHoursResponse> replaceWorkingHours(WorkingHoursRequest request) {
+        User loggedUser = getLoggedUser();
+        log.info("Replacing working hours of mechanic UUID: {} with {} rules", loggedUser.getUuid(), request.rules().size());
+
+        List<WorkingHours> workingHours = request.rules()
+                                                 .stream()
+                                                 .map(rule -> buildWorkingHours(rule, loggedUser))
+                                                 .sorted(BY_DAY_AND_START_TIME)
+                                                 .toList();
+        validateWorkingHours(workingHours);
+
+        int deleted = workingHoursRepository.deleteAllByMechanicId(loggedUser.getId());
+        workingHoursRepository.saveAll(workingHours);
+
+        log.info("Replaced {} working hours rules with {} of mechanic UUID: {}", deleted, workingHours.size(), loggedUser.getUuid());
+        return workingHours.stream().map(WorkingHoursResponse::of).toList();
+    }
+
+    /**
+     * Rules must fit at least one slot and must not overlap each other on the same day, even for different service types,
+     * since a mechanic cannot serve two clients at once. Sorted rules only need to be compared with their predecessor.
+     */
+    private static void validateWorkingHours(List<WorkingHours> workingHours) {
+        WorkingHours previous = null;
+
+        for (WorkingHours rule : workingHours) {
+            if (!rule.getStartTime().isBefore(rule.getEndTime())
+                || Duration.between(rule.getStartTime(), rule.getEndTime()).toMinutes() < rule.getSlotMinutes()) {
+                log.error("Working hours on {} from {} to {} do not fit a {} minutes slot", rule.getDayOfWeek(), rule.getStartTime(), rule.getEndTime(), rule.getSlotMinutes());
+                throw new ServiceException(E09000);
+            }
+
+            if (previous != null && previous.getDayOfWeek() == rule.getDayOfWeek() && previous.getEndTime().isAfter(rule.getStartTime())) {
+                log.error("Working hours on {} from {} to {} overlap hours from {} to {}", rule.getDayOfWeek(), rule.getStartTime(), rule.getEndTime(), previous.getStartTime(), previous.getEndTime());
+                throw new ServiceException(E09000);
+            }
+
+            previous = rule;
+        }
+    }
+
+    private static WorkingHours buildWorkingHours(WorkingHoursRule rule, User loggedUser) {
+        return WorkingHours.builder()
+                           .uuid(randomUUID())
+                           .dayOfWeek(rule.dayOfWeek())
+                           .startTime(rule.startTime())
+                           .endTime(rule.endTime())
+                           .serviceType(rule.serviceType())
+                           .slotMinutes(rule.slotMinutes())
+                           .mechanic(loggedUser)
+                           .build();
+    }
+}
@@ -0,0 +1,77 @@
+-- One-off cleanup of slots created before constraint excl_slot_mechanic_id_time_range, which schema.sql refuses to add while
+-- slots of the same mechanic overlap. It is not run by the application; run it against the database and check the reports:
+--
+--     psql -v ON_ERROR_STOP=1 -f cancel-overlapping-slots.sql rezerveo
+--
+-- Available slots that do not end after they start, or overlap a booked, held or earlier available slot of the same mechanic,
+-- are canceled. Available slots have no bookings, so nobody has to be notified. Booked and held slots are never touched;
+-- the second report lists those that still overlap and have to be resolved by hand before the application starts.
+
+BEGIN;
+
+CREATE TEMPORARY TABLE canceled_slot
+(
+    id     bigint PRIMARY KEY,
+    reason text NOT NULL
+) ON COMMIT DROP;
+
+WITH canceled AS (
+    UPDATE slot
+        SET status = 'CANCELED'
+        WHERE status = 'AVAILABLE'
+            AND start_time >= end_time
+        RETURNING id)
+INSERT
+INTO canceled_slot
+SELECT id, 'does not end after it starts'
+FROM canceled;
+
+DO $$
+DECLARE
+    slot_id bigint;
+BEGIN
+    FOR slot_id IN SELECT s.id
+                   FROM slot s
+                   WHERE s.status = 'AVAILABLE'
+                   ORDER BY s.id
+        LOOP
+            UPDATE slot s
+            SET status = 'CANCELED'
+            WHERE s.id = slot_id
+              AND EXISTS (SELECT 1
+                          FROM slot o
+                          WHERE o.mechanic_id = s.mechanic_id
+                            AND o.id <> s.id
+                            AND o.status <> 'CANCELED'
+                            AND o.start_time < o.end_time
+                            AND tsrange(o."date" + o.start_time, o."date" + o.end_time, '[)')
+                                && tsrange(s."date" + s.start_time, s."date" + s.end_time, '[)')
+                            AND (o.status <> 'AVAILABLE' OR o.id < s.id));
+
+            IF FOUND THEN
+                INSERT INTO canceled_slot VALUES (slot_id, 'overlaps another slot of the mechanic');
+            END IF;
+        END LOOP;
+END
+$$;
+
+-- Report 1: slots canceled by this script.
+SELECT s.id, s.uuid, s.mechanic_id, s."date", s.start_time, s.end_time, c.reason
+FROM canceled_slot c
+         JOIN slot s ON s.id = c.id
+ORDER BY s.mechanic_id, s."date", s.start_time;
+
+-- Report 2: booked or held slots that still overlap and block the constraint.
+SELECT s.id, s.uuid, s.status, o.id AS overlapping_id, o.uuid AS overlapping_uuid, o.status AS overlapping_status
+FROM slot s
+         JOIN slot o ON o.mechanic_id = s.mechanic_id
+    AND o.id < s.id
+    AND o.status <> 'CANCELED'
+    AND o.start_time < o.end_time
+    AND tsrange(o."date" + o.start_time, o."date" + o.end_time, '[)')
+        && tsrange(s."date" + s.start_time, s."date" + s.end_time, '[)')
+WHERE s.status <> 'CANCELED'
+  AND s.start_time < s.end_time
+ORDER BY s.mechanic_id, s."date", s.start_time;
+
+COMMIT;
@@ -0,0 +1,46 @@
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization) and must stay idempotent.
+-- Hibernate cannot express range columns or exclusion constraints, so they are maintained here.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Hibernate creates the check of slot.status with the table and never alters it, so databases created before slots could be
+-- held reject HELD.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM pg_constraint
+                   WHERE conrelid = 'slot'::regclass
+                     AND conname = 'slot_status_check'
+                     AND pg_get_constraintdef(oid) LIKE '%HELD%') THEN
+        ALTER TABLE slot DROP CONSTRAINT IF EXISTS slot_status_check;
+        ALTER TABLE slot
+            ADD CONSTRAINT slot_status_check
+                CHECK (status IN ('AVAILABLE', 'HELD', 'BOOKED', 'CANCELED'));
+    END IF;
+END
+$$;
+
+-- Half-open ranges, so back-to-back slots (09:00-09:30, 09:30-10:00) do not overlap. Legacy rows ending before they start
+-- have no range instead of failing the whole column.
+ALTER TABLE slot
+    ADD COLUMN IF NOT EXISTS time_range tsrange
+        GENERATED ALWAYS AS (CASE
+                                 WHEN start_time <= end_time THEN tsrange("date" + start_time, "date" + end_time, '[)')
+                             END) STORED;
+
+-- Slots created before the constraint may violate it. Startup then fails instead of changing slots behind everyone's back;
+-- db/manual/cancel-overlapping-slots.sql cancels the conflicting available slots and reports what it changed.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'excl_slot_mechanic_id_time_range') THEN
+        ALTER TABLE slot
+            ADD CONSTRAINT excl_slot_mechanic_id_time_range
+                EXCLUDE USING gist (mechanic_id WITH =, time_range WITH &&)
+                WHERE (status <> 'CANCELED');
+    END IF;
+EXCEPTION
+    WHEN exclusion_violation THEN
+        RAISE EXCEPTION 'Overlapping slots prevent adding constraint excl_slot_mechanic_id_time_range'
+            USING HINT = 'Run db/manual/cancel-overlapping-slots.sql and resolve the booked or held slots it reports.';
+END
+$$;
@@ -0,0 +1,130 @@
+package pl.rezerveo.booking.booking.availability
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.properties.AvailabilityStreamProperties
+import pl.rezerveo.booking.slot.enumerate.ServiceType
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalTime
+import java.util.concurrent.CountDownLatch
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05008
+
+class AvailabilityBroadcasterTest extends Specification {
+
+    AvailabilityStreamProperties properties = new AvailabilityStreamProperties(maxSubscribers: 2, bufferSize: 3, timeout: Duration.ofMinutes(1), heartbeat: "-")
+    List<RecordingEmitter> emitters = []
+
+    AvailabilityBroadcaster broadcaster = new AvailabilityBroadcaster(properties) {
+        @Override
+        SseEmitter createEmitter() {
+            return emitters.isEmpty() ? new RecordingEmitter() : emitters.remove(0)
+        }
+    }
+
+    def cleanup() {
+        broadcaster.shutdown()
+    }
+
+    def "onSlotChanged should push change to every subscriber"() {
+        given:
+        def first = broadcaster.subscribe() as RecordingEmitter
+        def second = broadcaster.subscribe() as RecordingEmitter
+
+        when:
+        broadcaster.onSlotChanged(event(SlotChangeType.CREATED))
+
+        then:
+        new PollingConditions(timeout: 2).eventually {
+            assert first.sent.size() == 1
+            assert second.sent.size() == 1
+        }
+    }
+
+    def "onSlotChanged should drop oldest changes of slow subscriber"() {
+        given:
+        def slow = new RecordingEmitter(new CountDownLatch(1))
+        emitters << slow
+        broadcaster.subscribe()
+
+        when:
+        broadcaster.onSlotChanged(event(SlotChangeType.BOOKED))
+        slow.entered.await()
+        5.times { broadcaster.onSlotChanged(event(SlotChangeType.BOOKED)) }
+        slow.unblock.countDown()
+
+        then:
+        new PollingConditions(timeout: 2).eventually {
+            assert slow.sent.size() == 4
+        }
+        slow.ids() == ["1", "4", "5", "6"]
+        broadcaster.droppedCount == 2
+    }
+
+    def "subscribe should reject subscribers over the limit"() {
+        given:
+        broadcaster.subscribe()
+        broadcaster.subscribe()
+
+        when:
+        broadcaster.subscribe()
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E05008
+        broadcaster.subscriberCount == 2
+    }
+
+    def "onSlotChanged should remove disconnected subscriber"() {
+        given:
+        emitters << new RecordingEmitter(null, true)
+        broadcaster.subscribe()
+
+        when:
+        broadcaster.onSlotChanged(event(SlotChangeType.RELEASED))
+
+        then:
+        new PollingConditions(timeout: 2).eventually {
+            assert broadcaster.subscriberCount == 0
+        }
+    }
+
+    private static SlotChangedEvent event(SlotChangeType type) {
+        return new SlotChangedEvent(type, randomUUID(), randomUUID(), LocalDate.now(), LocalTime.of(9, 0), LocalTime.of(10, 0),
+                                    ServiceType.OIL_CHANGE, "Jan Kowalski", null)
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<String> sent = Collections.synchronizedList([])
+        final CountDownLatch entered = new CountDownLatch(1)
+        final CountDownLatch unblock
+        final boolean disconnected
+
+        RecordingEmitter(CountDownLatch unblock = null, boolean disconnected = false) {
+            this.unblock = unblock
+            this.disconnected = disconnected
+        }
+
+        @Override
+        void send(SseEmitter.SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("Broken pipe")
+            }
+            entered.countDown()
+            unblock?.await()
+            sent << builder.build()*.data.join()
+        }
+
+        List<String> ids() {
+            return sent.collect { (it =~ /id:(\d+)/)[0][1] }
+        }
+    }
+}
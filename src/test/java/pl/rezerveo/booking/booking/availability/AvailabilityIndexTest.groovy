@@ -0,0 +1,79 @@
+package pl.rezerveo.booking.booking.availability
+
+import org.springframework.data.domain.PageRequest
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter
+import pl.rezerveo.booking.common.version.ChangePartition
+import pl.rezerveo.booking.common.version.ChangeVersions
+import pl.rezerveo.booking.properties.AvailabilityIndexProperties
+import pl.rezerveo.booking.slot.enumerate.ServiceType
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.event.MechanicRenamedEvent
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalTime
+
+import static java.util.UUID.randomUUID
+
+class AvailabilityIndexTest extends Specification {
+
+    SlotRepository slotRepository = Stub() {
+        findAllIndexedAvailableSlots() >> []
+    }
+    ChangeVersions changeVersions = Spy(ChangeVersions)
+
+    AvailabilityIndex availabilityIndex = new AvailabilityIndex(slotRepository, new AvailabilityIndexProperties(enabled: true, consistencyCheck: "-"), changeVersions)
+
+    def "onSlotChanged should bump slots version only after applying change"() {
+        given:
+        availabilityIndex.rebuild()
+        def event = new SlotChangedEvent(SlotChangeType.CREATED, randomUUID(), randomUUID(), LocalDate.now().plusDays(1),
+                                         LocalTime.of(9, 0), LocalTime.of(10, 0), ServiceType.OIL_CHANGE, "Jan Kowalski", null)
+
+        when:
+        availabilityIndex.onSlotChanged(event)
+
+        then:
+        1 * changeVersions.bump(ChangePartition.SLOTS) >> {
+            assert availabilityIndex.findAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 20)).get().content*.uuid() == [event.slotUuid()]
+            callRealMethod()
+        }
+    }
+
+    def "rebuild should bump slots version once the new snapshot is visible"() {
+        when:
+        availabilityIndex.rebuild()
+
+        then:
+        1 * changeVersions.bump(ChangePartition.SLOTS) >> {
+            assert availabilityIndex.findAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 20)).isPresent()
+            callRealMethod()
+        }
+    }
+
+    def "onMechanicRenamed should serve new name of the mechanic and bump slots version"() {
+        given:
+        availabilityIndex.rebuild()
+        def mechanicUuid = randomUUID()
+        def renamed = slotCreated(mechanicUuid, "Jan Kowalski")
+        def other = slotCreated(randomUUID(), "Adam Nowak")
+        availabilityIndex.onSlotChanged(renamed)
+        availabilityIndex.onSlotChanged(other)
+
+        when:
+        availabilityIndex.onMechanicRenamed(new MechanicRenamedEvent(mechanicUuid, "Jan Nowak"))
+
+        then:
+        1 * changeVersions.bump(ChangePartition.SLOTS)
+        def names = availabilityIndex.findAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 20)).get().content
+                                     .collectEntries { [it.uuid(), it.mechanicName()] }
+        names == [(renamed.slotUuid()): "Jan Nowak", (other.slotUuid()): "Adam Nowak"]
+    }
+
+    private static SlotChangedEvent slotCreated(UUID mechanicUuid, String mechanicName) {
+        return new SlotChangedEvent(SlotChangeType.CREATED, randomUUID(), mechanicUuid, LocalDate.now().plusDays(1),
+                                    LocalTime.of(9, 0), LocalTime.of(10, 0), ServiceType.OIL_CHANGE, mechanicName, null)
+    }
+}
@@ -0,0 +1,241 @@
+package pl.rezerveo.booking.booking.engine
+
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.properties.BookingEngineProperties
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import pl.rezerveo.booking.slot.model.Slot
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalTime
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.HELD
+
+class BookingEngineTest extends Specification {
+
+    SlotRepository slotRepository = Mock()
+    BookingRepository bookingRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    BookingEngineProperties properties = new BookingEngineProperties(enabled: true, partitions: 2, maxBatchSize: 10, persistTimeout: Duration.ofSeconds(5))
+
+    BookingEngineWriter writer = new BookingEngineWriter(slotRepository, bookingRepository, eventPublisher,
+                                                         new TransactionTemplate(Mock(PlatformTransactionManager)), properties)
+    BookingEngine bookingEngine = new BookingEngine(slotRepository, writer, properties)
+
+    def mechanic = new User(uuid: randomUUID(), firstName: "Jan", lastName: "Kowalski")
+    def client = user(1L)
+    def otherClient = user(2L)
+    def slot = new Slot(uuid: randomUUID(), date: LocalDate.now().plusDays(1), startTime: LocalTime.of(9, 0), endTime: LocalTime.of(10, 0),
+                        serviceType: OIL_CHANGE, mechanic: mechanic)
+
+    def setup() {
+        writer.start()
+        slotRepository.findAllWithMechanicByUuidIn(_) >> [slot]
+    }
+
+    def cleanup() {
+        bookingEngine.shutdown()
+        writer.stop()
+    }
+
+    def "book should decide booking in memory and answer once it is persisted"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+
+        when:
+        def bookingUuid = bookingEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        1 * slotRepository.claimAvailableSlot(slot.uuid, client.id) >> 1
+        1 * bookingRepository.save({ it.client == client && it.slot == slot })
+        bookingUuid != null
+    }
+
+    def "book should reject further clients once slot is decided without reaching the database"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        slotRepository.claimAvailableSlot(slot.uuid, client.id) >> 1
+        bookingEngine.book(slot.uuid, client, authentication(client))
+
+        when:
+        bookingEngine.book(slot.uuid, otherClient, authentication(otherClient))
+
+        then:
+        0 * slotRepository.findSlotOwnerAndStatusByUuid(_)
+        0 * slotRepository.claimAvailableSlot(_, _)
+        0 * bookingRepository.save(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "book should reject mechanic booking own slot"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        ReflectionTestUtils.setField(mechanic, "id", 3L)
+
+        when:
+        bookingEngine.book(slot.uuid, mechanic, authentication(mechanic))
+
+        then:
+        0 * slotRepository.claimAvailableSlot(_, _)
+        def ex = thrown(ServiceException)
+        ex.status == E06004
+    }
+
+    def "book should let next client book after released event was applied"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        bookingEngine.book(slot.uuid, client, authentication(client))
+        bookingEngine.onSlotChanged(SlotChangedEvent.of(SlotChangeType.RELEASED, slot))
+
+        when:
+        def bookingUuid = bookingEngine.book(slot.uuid, otherClient, authentication(otherClient))
+
+        then:
+        bookingUuid != null
+    }
+
+    def "book should reject slot after canceled event was applied"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        bookingEngine.book(slot.uuid, client, authentication(client))
+        bookingEngine.onSlotChanged(SlotChangedEvent.of(SlotChangeType.RELEASED, slot))
+        bookingEngine.onSlotChanged(SlotChangedEvent.of(SlotChangeType.CANCELED, slot))
+
+        when:
+        bookingEngine.book(slot.uuid, otherClient, authentication(otherClient))
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "book should reload slot from the database after the writer rejected the booking"() {
+        given:
+        slotRepository.claimAvailableSlot(slot.uuid, client.id) >> 0
+        slotRepository.claimAvailableSlot(slot.uuid, otherClient.id) >> 1
+
+        when:
+        bookingEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        1 * slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+
+        when:
+        def bookingUuid = bookingEngine.book(slot.uuid, otherClient, authentication(otherClient))
+
+        then:
+        1 * slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        bookingUuid != null
+    }
+
+    def "book should reject slot held by another client without reaching the database"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(HELD, otherClient.uuid))
+
+        when:
+        bookingEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        0 * slotRepository.claimAvailableSlot(_, _)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "book should book slot held by the same client"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(HELD, client.uuid))
+
+        when:
+        def bookingUuid = bookingEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        1 * slotRepository.claimAvailableSlot(slot.uuid, client.id) >> 1
+        1 * bookingRepository.save({ it.client == client && it.slot == slot })
+        bookingUuid != null
+    }
+
+    def "book should follow holder of slot held after it was loaded"() {
+        given:
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        bookingEngine.book(slot.uuid, client, authentication(client))
+        bookingEngine.onSlotChanged(SlotChangedEvent.of(SlotChangeType.RELEASED, slot))
+        bookingEngine.onSlotChanged(SlotChangedEvent.of(SlotChangeType.HELD, slot, otherClient.uuid))
+
+        when:
+        bookingEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+
+        when:
+        def bookingUuid = bookingEngine.book(slot.uuid, otherClient, authentication(otherClient))
+
+        then:
+        bookingUuid != null
+    }
+
+    def "book should withdraw booking that was not persisted in time"() {
+        given:
+        def timeoutProperties = new BookingEngineProperties(enabled: true, partitions: 1, maxBatchSize: 10, persistTimeout: Duration.ofMillis(50))
+        def idleWriter = new BookingEngineWriter(slotRepository, bookingRepository, eventPublisher,
+                                                 new TransactionTemplate(Mock(PlatformTransactionManager)), timeoutProperties)
+        def timingOutEngine = new BookingEngine(slotRepository, idleWriter, timeoutProperties)
+        slotRepository.findSlotOwnerAndStatusByUuid(slot.uuid) >> Optional.of(snapshot(AVAILABLE, null))
+
+        when:
+        timingOutEngine.book(slot.uuid, client, authentication(client))
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E00006
+
+        when:
+        idleWriter.flush(idleWriter.queue.toList())
+
+        then:
+        0 * slotRepository.claimAvailableSlot(_, _)
+        0 * bookingRepository.save(_)
+        0 * eventPublisher.publishEvent(_)
+
+        cleanup:
+        timingOutEngine.shutdown()
+    }
+
+    private SlotOwnerAndStatus snapshot(status, heldByUuid) {
+        return new SlotOwnerAndStatus(1L, slot.uuid, mechanic.uuid, slot.date, status, heldByUuid)
+    }
+
+    private static User user(Long id) {
+        def user = new User(uuid: randomUUID(), email: "client${id}@example.com")
+        ReflectionTestUtils.setField(user, "id", id)
+        return user
+    }
+
+    private static TestingAuthenticationToken authentication(User user) {
+        return new TestingAuthenticationToken(user, null)
+    }
+}
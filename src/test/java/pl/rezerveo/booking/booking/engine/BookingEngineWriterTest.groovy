@@ -0,0 +1,130 @@
+package pl.rezerveo.booking.booking.engine
+
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import pl.rezerveo.booking.booking.enumerated.BookingStatus
+import pl.rezerveo.booking.booking.event.BookingChangedEvent
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent
+import pl.rezerveo.booking.properties.BookingEngineProperties
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import pl.rezerveo.booking.slot.model.Slot
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalTime
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
+
+class BookingEngineWriterTest extends Specification {
+
+    SlotRepository slotRepository = Mock()
+    BookingRepository bookingRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    PlatformTransactionManager transactionManager = Mock(PlatformTransactionManager)
+    BookingEngineProperties properties = new BookingEngineProperties(enabled: true, partitions: 1, maxBatchSize: 10, persistTimeout: Duration.ofSeconds(5))
+
+    BookingEngineWriter writer = new BookingEngineWriter(slotRepository, bookingRepository, eventPublisher,
+                                                         new TransactionTemplate(transactionManager), properties)
+
+    def mechanic = new User(uuid: randomUUID(), firstName: "Jan", lastName: "Kowalski")
+    def client = new User(uuid: randomUUID(), email: "client@example.com")
+    def first = slot()
+    def second = slot()
+
+    def setup() {
+        ReflectionTestUtils.setField(client, "id", 1L)
+        slotRepository.findAllWithMechanicByUuidIn(_) >> [first, second]
+    }
+
+    def "should persist batch in one transaction and answer callers after commit"() {
+        given:
+        def firstPending = pending(first)
+        def secondPending = pending(second)
+
+        when:
+        writer.flush([firstPending, secondPending])
+        def outcomes = [outcome(firstPending), outcome(secondPending)]
+
+        then:
+        1 * transactionManager.getTransaction(_)
+        2 * slotRepository.claimAvailableSlot(_, client.id) >> 1
+        2 * bookingRepository.save({ it.client == client && it.status == BookingStatus.CONFIRMED })
+        1 * transactionManager.commit(_) >> {
+            assert !firstPending.result().done
+            assert !secondPending.result().done
+        }
+
+        then:
+        2 * eventPublisher.publishEvent({ it instanceof SlotChangedEvent && it.type() == SlotChangeType.BOOKED })
+        2 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, 1))
+        2 * eventPublisher.publishEvent({ it instanceof BookingConfirmedEvent && it.client() == client })
+        outcomes == [firstPending.bookingUuid(), secondPending.bookingUuid()]
+    }
+
+    def "should reject only bookings whose slot changed in the database"() {
+        given:
+        def firstPending = pending(first)
+        def secondPending = pending(second)
+        slotRepository.claimAvailableSlot(first.uuid, client.id) >> 0
+        slotRepository.claimAvailableSlot(second.uuid, client.id) >> 1
+
+        when:
+        writer.flush([firstPending, secondPending])
+        def outcomes = [outcome(firstPending), outcome(secondPending)]
+
+        then:
+        1 * bookingRepository.save({ it.uuid == secondPending.bookingUuid() })
+        1 * transactionManager.commit(_)
+        1 * eventPublisher.publishEvent({ it instanceof SlotChangedEvent && it.slotUuid() == second.uuid })
+        outcomes == [E05004, secondPending.bookingUuid()]
+    }
+
+    def "should roll back whole batch and fail its callers when persisting fails"() {
+        given:
+        def firstPending = pending(first)
+        def secondPending = pending(second)
+        slotRepository.claimAvailableSlot(_, client.id) >> 1
+        bookingRepository.save({ it.slot == second }) >> { throw new IllegalStateException("connection lost") }
+
+        when:
+        writer.flush([firstPending, secondPending])
+        def outcomes = [outcome(firstPending), outcome(secondPending)]
+
+        then:
+        1 * transactionManager.rollback(_)
+        0 * transactionManager.commit(_)
+        0 * eventPublisher.publishEvent(_)
+        outcomes == [E00006, E00006]
+    }
+
+    private Slot slot() {
+        return new Slot(uuid: randomUUID(), date: LocalDate.now().plusDays(1), startTime: LocalTime.of(9, 0), endTime: LocalTime.of(10, 0),
+                        serviceType: OIL_CHANGE, mechanic: mechanic)
+    }
+
+    private PendingBooking pending(Slot slot) {
+        return PendingBooking.of(randomUUID(), slot.uuid, client, new TestingAuthenticationToken(client, null))
+    }
+
+    private static Object outcome(PendingBooking pending) {
+        try {
+            return pending.result().get(5, TimeUnit.SECONDS)
+        } catch (ExecutionException ex) {
+            return (ex.cause as ServiceException).status
+        }
+    }
+}
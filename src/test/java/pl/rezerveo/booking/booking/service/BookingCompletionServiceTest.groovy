@@ -0,0 +1,43 @@
+package pl.rezerveo.booking.booking.service
+
+import org.springframework.context.ApplicationEventPublisher
+import pl.rezerveo.booking.booking.enumerated.BookingStatus
+import pl.rezerveo.booking.booking.event.BookingChangedEvent
+import pl.rezerveo.booking.booking.model.Booking
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import spock.lang.Specification
+
+import static java.util.UUID.randomUUID
+
+class BookingCompletionServiceTest extends Specification {
+
+    BookingRepository bookingRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+
+    BookingCompletionService bookingCompletionService = new BookingCompletionService(bookingRepository, eventPublisher)
+
+    def "completePastBookings should complete past bookings and announce the change"() {
+        given:
+        def bookings = [new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED), new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED)]
+        bookingRepository.findAllByStatusAndSlotEndTimeBefore(BookingStatus.CONFIRMED, _, _) >> bookings
+
+        when:
+        bookingCompletionService.completePastBookings()
+
+        then:
+        1 * bookingRepository.saveAll(bookings)
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.COMPLETED, 2))
+        bookings.every { it.status == BookingStatus.COMPLETED }
+    }
+
+    def "completePastBookings should not announce change when nothing was completed"() {
+        given:
+        bookingRepository.findAllByStatusAndSlotEndTimeBefore(BookingStatus.CONFIRMED, _, _) >> []
+
+        when:
+        bookingCompletionService.completePastBookings()
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+    }
+}
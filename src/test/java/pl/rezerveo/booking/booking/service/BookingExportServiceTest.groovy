@@ -0,0 +1,90 @@
+package pl.rezerveo.booking.booking.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.transaction.PlatformTransactionManager
+import pl.rezerveo.booking.booking.dto.response.MechanicBookingListResponse
+import pl.rezerveo.booking.booking.enumerated.BookingStatus
+import pl.rezerveo.booking.booking.enumerated.ExportFormat
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.booking.service.impl.BookingExportServiceImpl
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalTime
+import java.util.stream.Stream
+
+import static java.util.UUID.randomUUID
+
+class BookingExportServiceTest extends Specification {
+
+    BookingRepository bookingRepository = Mock()
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+
+    BookingExportService bookingExportService = new BookingExportServiceImpl(bookingRepository, objectMapper, Mock(PlatformTransactionManager))
+
+    def mechanic = new User(uuid: randomUUID(), email: "mechanic@example.com", password: "encoded-pass")
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(mechanic, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "exportMechanicBookingHistory should write one JSON object per line"() {
+        given:
+        def bookings = [booking("Jan Kowalski"), booking("Anna Nowak")]
+        def output = new ByteArrayOutputStream()
+
+        when:
+        bookingExportService.exportMechanicBookingHistory(ExportFormat.NDJSON).writeTo(output)
+
+        then:
+        1 * bookingRepository.streamMechanicBookingListBySlotMechanicUuid(mechanic.uuid) >> bookings.stream()
+        def lines = output.toString("UTF-8").readLines()
+        lines.size() == 2
+        lines.collect { objectMapper.readValue(it, MechanicBookingListResponse) } == bookings
+    }
+
+    def "exportMechanicBookingHistory should write CSV with header and quoted fields"() {
+        given:
+        def booking = booking('Jan "Złota Rączka", Kowalski')
+        def output = new ByteArrayOutputStream()
+
+        when:
+        bookingExportService.exportMechanicBookingHistory(ExportFormat.CSV).writeTo(output)
+
+        then:
+        1 * bookingRepository.streamMechanicBookingListBySlotMechanicUuid(mechanic.uuid) >> Stream.of(booking)
+        output.toString("UTF-8").readLines() == [
+                "bookingUuid,slotUuid,date,startTime,endTime,serviceType,mechanicName,status",
+                "${booking.bookingUuid()},${booking.slotUuid()},2025-10-15,09:00,10:00,Przegląd,\"Jan \"\"Złota Rączka\"\", Kowalski\",COMPLETED".toString()
+        ]
+    }
+
+    def "exportMechanicBookingHistory should close database stream after export"() {
+        given:
+        def closed = false
+        def bookings = Stream.of(booking("Jan Kowalski")).onClose { closed = true }
+
+        when:
+        bookingExportService.exportMechanicBookingHistory(ExportFormat.NDJSON).writeTo(new ByteArrayOutputStream())
+
+        then:
+        1 * bookingRepository.streamMechanicBookingListBySlotMechanicUuid(mechanic.uuid) >> bookings
+        closed
+    }
+
+    private static MechanicBookingListResponse booking(String mechanicName) {
+        return new MechanicBookingListResponse(randomUUID(), randomUUID(), LocalDate.of(2025, 10, 15), LocalTime.of(9, 0), LocalTime.of(10, 0),
+                                               "Przegląd", mechanicName, BookingStatus.COMPLETED)
+    }
+}
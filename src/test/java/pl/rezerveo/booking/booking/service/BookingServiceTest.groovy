@@ -1,28 +1,71 @@
 package pl.rezerveo.booking.booking.service
 
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.data.domain.Limit
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.SliceImpl
+import org.springframework.data.domain.Sort
 import org.springframework.security.authentication.TestingAuthenticationToken
 import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import pl.rezerveo.booking.booking.admission.SlotAdmissionGate
+import pl.rezerveo.booking.booking.availability.AvailabilityIndex
+import pl.rezerveo.booking.booking.availability.IndexedSlot
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter
+import pl.rezerveo.booking.booking.dto.request.BatchBookingRequest
+import pl.rezerveo.booking.booking.dto.response.BookingListResponse
+import pl.rezerveo.booking.booking.engine.BookingEngine
+import pl.rezerveo.booking.booking.event.BookingChangedEvent
 import pl.rezerveo.booking.booking.enumerated.BookingStatus
 import pl.rezerveo.booking.booking.model.Booking
 import pl.rezerveo.booking.booking.repository.BookingRepository
 import pl.rezerveo.booking.booking.service.impl.BookingServiceImpl
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer
+import pl.rezerveo.booking.common.dto.Cursor
+import pl.rezerveo.booking.common.version.ChangeVersions
 import pl.rezerveo.booking.exception.dto.response.BaseResponse
 import pl.rezerveo.booking.exception.exception.ServiceException
-import pl.rezerveo.booking.notification.NotificationPublisher
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent
+import pl.rezerveo.booking.notification.event.BookingRescheduledEvent
+import pl.rezerveo.booking.notification.event.BookingsConfirmedEvent
+import pl.rezerveo.booking.properties.AvailabilityIndexProperties
+import pl.rezerveo.booking.properties.MechanicCalendarProperties
+import pl.rezerveo.booking.properties.ReadCoalescingProperties
+import pl.rezerveo.booking.properties.SlotAdmissionProperties
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex
+import pl.rezerveo.booking.slot.dto.CalendarSlot
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus
+import pl.rezerveo.booking.slot.enumerate.ServiceType
 import pl.rezerveo.booking.slot.enumerate.SlotStatus
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
 import pl.rezerveo.booking.slot.model.Slot
 import pl.rezerveo.booking.slot.repository.SlotRepository
 import pl.rezerveo.booking.user.model.User
+import pl.rezerveo.booking.waitlist.service.WaitlistService
 import spock.lang.Specification
 
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.LocalTime
+import java.time.YearMonth
+
 import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00007
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05002
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05007
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06000
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06001
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06003
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06005
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06006
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001
 import static pl.rezerveo.booking.slot.enumerate.SlotStatus.BOOKED
@@ -32,9 +75,16 @@ class BookingServiceTest extends Specification {
 
     BookingRepository bookingRepository = Mock()
     SlotRepository slotRepository = Mock()
-    NotificationPublisher notificationPublisher = Mock(NotificationPublisher)
 
-    BookingService bookingService = new BookingServiceImpl(slotRepository, bookingRepository, notificationPublisher)
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    TransactionTemplate transactionTemplate = new TransactionTemplate(Mock(PlatformTransactionManager))
+    WaitlistService waitlistService = Mock(WaitlistService)
+    SlotAdmissionGate admissionGate = new SlotAdmissionGate(new SlotAdmissionProperties(enabled: true, maxWaiting: 10, waitTimeout: Duration.ofSeconds(1), claimedTtl: Duration.ofMinutes(1)))
+    AvailabilityIndex availabilityIndex = new AvailabilityIndex(slotRepository, new AvailabilityIndexProperties(enabled: true, consistencyCheck: "-"), new ChangeVersions())
+    ReadCoalescer readCoalescer = new ReadCoalescer(new ReadCoalescingProperties(enabled: true))
+    MechanicCalendarIndex mechanicCalendarIndex = new MechanicCalendarIndex(slotRepository, new MechanicCalendarProperties(enabled: true, maxEntries: 100, eviction: "-", cellMinutes: 15), new ChangeVersions())
+
+    BookingService bookingService = new BookingServiceImpl(slotRepository, bookingRepository, eventPublisher, transactionTemplate, waitlistService, admissionGate, availabilityIndex, readCoalescer, mechanicCalendarIndex, Optional.empty())
 
     def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
 
@@ -48,76 +98,461 @@ class BookingServiceTest extends Specification {
         SecurityContextHolder.clearContext()
     }
 
+    def "getAvailableSlots should serve chronological pages from availability index"() {
+        given:
+        def today = LocalDate.now()
+        def later = indexed(today.plusDays(1), LocalTime.of(8, 0))
+        def morning = indexed(today, LocalTime.of(9, 0))
+        def evening = indexed(today, LocalTime.of(17, 0))
+        slotRepository.findAllIndexedAvailableSlots() >> [later, evening, morning]
+        availabilityIndex.rebuild()
+
+        when:
+        def firstPage = bookingService.getAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 2, Sort.by("date", "startTime")))
+        def secondPage = bookingService.getAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(1, 2, Sort.by("date", "startTime")))
+
+        then:
+        0 * slotRepository.findAvailableSlots(_, _)
+        firstPage.content() == [morning.response(), evening.response()]
+        secondPage.content() == [later.response()]
+        firstPage.totalElements() == 3
+        secondPage.last()
+    }
+
+    def "getAvailableSlots should reflect slot changes without rebuilding index"() {
+        given:
+        def mechanic = new User(uuid: randomUUID(), firstName: "Jan", lastName: "Kowalski")
+        def booked = new Slot(uuid: randomUUID(), date: LocalDate.now(), startTime: LocalTime.of(9, 0), endTime: LocalTime.of(10, 0),
+                              serviceType: ServiceType.values()[0], mechanic: mechanic)
+        def created = new Slot(uuid: randomUUID(), date: LocalDate.now(), startTime: LocalTime.of(11, 0), endTime: LocalTime.of(12, 0),
+                               serviceType: ServiceType.values()[0], mechanic: mechanic)
+        slotRepository.findAllIndexedAvailableSlots() >> [indexed(booked.date, booked.startTime, booked.uuid)]
+        availabilityIndex.rebuild()
+
+        when:
+        availabilityIndex.onSlotChanged(SlotChangedEvent.of(SlotChangeType.BOOKED, booked))
+        availabilityIndex.onSlotChanged(SlotChangedEvent.of(SlotChangeType.CREATED, created))
+        def page = bookingService.getAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 10))
+
+        then:
+        0 * slotRepository.findAvailableSlots(_, _)
+        page.content()*.uuid() == [created.uuid]
+        page.content()[0].mechanicName() == "Jan Kowalski"
+    }
+
+    def "getAvailableSlots should fall back to database for sort not covered by index"() {
+        given:
+        slotRepository.findAllIndexedAvailableSlots() >> []
+        availabilityIndex.rebuild()
+        def pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate"))
+
+        when:
+        bookingService.getAvailableSlots(AvailableSlotsFilter.NONE, pageable)
+
+        then:
+        1 * slotRepository.findAvailableSlots(AvailableSlotsFilter.NONE, pageable) >> Page.empty(pageable)
+    }
+
+    def "getAvailableSlots should filter indexed slots by date range, service type, time window and mechanic"() {
+        given:
+        def today = LocalDate.now()
+        def mechanicUuid = randomUUID()
+        def matching = indexed(today.plusDays(1), LocalTime.of(9, 0), randomUUID(), ServiceType.values()[0], mechanicUuid)
+        slotRepository.findAllIndexedAvailableSlots() >> [
+                matching,
+                indexed(today, LocalTime.of(9, 0), randomUUID(), ServiceType.values()[0], mechanicUuid),
+                indexed(today.plusDays(1), LocalTime.of(9, 0), randomUUID(), ServiceType.values()[1], mechanicUuid),
+                indexed(today.plusDays(1), LocalTime.of(16, 0), randomUUID(), ServiceType.values()[0], mechanicUuid),
+                indexed(today.plusDays(1), LocalTime.of(9, 0), randomUUID(), ServiceType.values()[0], randomUUID()),
+                indexed(today.plusDays(3), LocalTime.of(9, 0), randomUUID(), ServiceType.values()[0], mechanicUuid)
+        ]
+        availabilityIndex.rebuild()
+        def filter = new AvailableSlotsFilter(today.plusDays(1), today.plusDays(2), ServiceType.values()[0], LocalTime.of(8, 0), LocalTime.of(16, 30), mechanicUuid)
+
+        when:
+        def page = bookingService.getAvailableSlots(filter, PageRequest.of(0, 10))
+
+        then:
+        0 * slotRepository.findAvailableSlots(_, _)
+        page.content() == [matching.response()]
+        page.totalElements() == 1
+    }
+
+    def "getAvailableSlots should pass filter to database when index is not used"() {
+        given:
+        def filter = new AvailableSlotsFilter(LocalDate.now(), null, ServiceType.values()[0], null, null, null)
+        def pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate"))
+
+        when:
+        bookingService.getAvailableSlotsSlice(filter, pageable)
+
+        then:
+        1 * slotRepository.findAvailableSlots(filter, pageable) >> new SliceImpl([], pageable, false)
+    }
+
+    def "getAvailableSlots should reject inverted date range"() {
+        given:
+        def filter = new AvailableSlotsFilter(LocalDate.now().plusDays(1), LocalDate.now(), null, null, null, null)
+
+        when:
+        bookingService.getAvailableSlots(filter, PageRequest.of(0, 10))
+
+        then:
+        0 * slotRepository.findAvailableSlots(_, _)
+        def ex = thrown(ServiceException)
+        ex.status == E05007
+    }
+
+    def "getEarliestAvailableSlots should return earliest slots of service type from availability index"() {
+        given:
+        def tomorrow = LocalDate.now().plusDays(1)
+        def serviceType = ServiceType.TIRE_REPLACEMENT
+        def tooEarly = indexed(tomorrow, LocalTime.of(7, 0), randomUUID(), serviceType)
+        def first = indexed(tomorrow, LocalTime.of(8, 0), randomUUID(), serviceType)
+        def second = indexed(tomorrow, LocalTime.of(13, 0), randomUUID(), serviceType)
+        def third = indexed(tomorrow.plusDays(1), LocalTime.of(6, 0), randomUUID(), serviceType)
+        def otherService = indexed(tomorrow, LocalTime.of(9, 0), randomUUID(), ServiceType.OIL_CHANGE)
+        slotRepository.findAllIndexedAvailableSlots() >> [third, otherService, second, tooEarly, first]
+        availabilityIndex.rebuild()
+
+        when:
+        def earliest = bookingService.getEarliestAvailableSlots(serviceType, tomorrow.atTime(8, 0), 2)
+
+        then:
+        0 * slotRepository.findEarliestAvailableSlots(*_)
+        earliest == [first.response(), second.response()]
+    }
+
+    def "getEarliestAvailableSlots should query database until availability index is built"() {
+        given:
+        def after = LocalDate.now().plusDays(1).atTime(8, 0)
+
+        when:
+        bookingService.getEarliestAvailableSlots(ServiceType.TIRE_REPLACEMENT, after, 500)
+
+        then:
+        1 * slotRepository.findEarliestAvailableSlots(ServiceType.TIRE_REPLACEMENT, after.toLocalDate(), after.toLocalTime(), Limit.of(50)) >> []
+    }
+
+    def "getMechanicCalendar should return month bitmap loaded with one query"() {
+        given:
+        def mechanicUuid = randomUUID()
+        def month = YearMonth.of(2025, 11)
+
+        when:
+        def calendar = bookingService.getMechanicCalendar(mechanicUuid, month, 60)
+
+        then:
+        1 * slotRepository.findCalendarSlots(mechanicUuid, month.atDay(1), month.atEndOfMonth()) >> [
+                new CalendarSlot(month.atDay(3), LocalTime.of(8, 0), LocalTime.of(9, 0), SlotStatus.AVAILABLE),
+                new CalendarSlot(month.atDay(3), LocalTime.of(9, 0), LocalTime.of(9, 30), SlotStatus.AVAILABLE),
+                new CalendarSlot(month.atDay(4), LocalTime.of(8, 0), LocalTime.of(8, 45), SlotStatus.AVAILABLE),
+                new CalendarSlot(month.atDay(5), LocalTime.of(8, 0), LocalTime.of(10, 0), SlotStatus.BOOKED)
+        ]
+        def cells = BitSet.valueOf(Base64.decoder.decode(calendar.availableCells()))
+        Base64.decoder.decode(calendar.availableCells()).length == 30 * 96 / 8
+        cells.stream().toArray() as List == ((2 * 96 + 32)..<(2 * 96 + 38)) + ((3 * 96 + 32)..<(3 * 96 + 35))
+        calendar.daysWithWindow() == 1 << 2
+        mechanicCalendarIndex.size == 30
+    }
+
+    def "getMechanicCalendar should reject invalid window"() {
+        when:
+        bookingService.getMechanicCalendar(randomUUID(), YearMonth.of(2025, 11), 0)
+
+        then:
+        0 * slotRepository.findCalendarSlots(*_)
+        def ex = thrown(ServiceException)
+        ex.status == E05007
+    }
+
+    def "getBookingList should count bookings only when page is full"() {
+        given:
+        def pageable = PageRequest.of(0, 2)
+        def rows = [Mock(BookingListResponse), Mock(BookingListResponse)]
+
+        when:
+        def response = bookingService.getBookingList(pageable)
+
+        then:
+        1 * bookingRepository.findAllByClientUuid(pageable, user.uuid) >> new SliceImpl(rows, pageable, true)
+        1 * bookingRepository.countByClientUuid(user.uuid) >> 5L
+        response.totalElements() == 5
+        response.totalPages() == 3
+    }
+
+    def "getBookingList should skip count query when page is not full"() {
+        given:
+        def pageable = PageRequest.of(0, 20)
+        def rows = [Mock(BookingListResponse)]
+
+        when:
+        def response = bookingService.getBookingList(pageable)
+
+        then:
+        1 * bookingRepository.findAllByClientUuid(pageable, user.uuid) >> new SliceImpl(rows, pageable, false)
+        0 * bookingRepository.countByClientUuid(_)
+        response.totalElements() == 1
+    }
+
+    def "getBookingListSlice should report next page without counting bookings"() {
+        given:
+        def pageable = PageRequest.of(0, 1)
+        def rows = [Mock(BookingListResponse)]
+
+        when:
+        def response = bookingService.getBookingListSlice(pageable)
+
+        then:
+        1 * bookingRepository.findAllByClientUuid(pageable, user.uuid) >> new SliceImpl(rows, pageable, true)
+        0 * bookingRepository.countByClientUuid(_)
+        response.content() == rows
+        response.hasNext()
+        !response.last()
+    }
+
+    def "getBookingList should return page after cursor with token of its last row"() {
+        given:
+        def createdDate = LocalDateTime.of(2025, 10, 18, 12, 0)
+        def after = new Cursor(createdDate, 50L)
+        def keys = [new Cursor(createdDate, 40L), new Cursor(createdDate.minusHours(1), 30L), new Cursor(createdDate.minusHours(2), 20L)]
+        def rows = [Mock(BookingListResponse), Mock(BookingListResponse)]
+
+        when:
+        def response = bookingService.getBookingList(after.encode(), 2)
+
+        then:
+        1 * bookingRepository.findKeysByClientUuidAfter(user.uuid, createdDate, 50L, Limit.of(3)) >> keys
+        1 * bookingRepository.findBookingListByIdIn([40L, 30L]) >> rows
+        response.content() == rows
+        response.hasNext()
+        Cursor.decode(response.nextCursor()) == keys[1]
+    }
+
+    def "getBookingList should start from first page for empty cursor and report last page"() {
+        when:
+        def response = bookingService.getBookingList("", 20)
+
+        then:
+        1 * bookingRepository.findKeysByClientUuidAfter(user.uuid, Cursor.FIRST.createdDate(), Cursor.FIRST.id(), Limit.of(21)) >> []
+        0 * bookingRepository.findBookingListByIdIn(_)
+        response.content().isEmpty()
+        !response.hasNext()
+        response.nextCursor() == null
+    }
+
+    def "getBookingList should reject malformed cursor"() {
+        when:
+        bookingService.getBookingList("not-a-cursor", 20)
+
+        then:
+        0 * bookingRepository._
+        def ex = thrown(ServiceException)
+        ex.status == E00007
+    }
+
     def "bookSlot should successfully book available slot"() {
         given:
-        def slot = new Slot(uuid: randomUUID(), status: SlotStatus.AVAILABLE, bookings: [], mechanic: new User(uuid: randomUUID()))
-        slotRepository.findSlotWithMechanicAndBookingByUuid(_ as UUID) >> Optional.of(slot)
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
 
         when:
         def response = bookingService.bookSlot(slot.uuid)
 
         then:
-        1 * bookingRepository.save(_)
-        1 * slotRepository.save(slot)
+        1 * bookingRepository.save({ it.slot == slot && it.client == user && it.status == BookingStatus.CONFIRMED })
+        0 * slotRepository.save(_)
+        1 * eventPublisher.publishEvent({ it instanceof SlotChangedEvent && it.type() == SlotChangeType.BOOKED })
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, 1))
+        response.status == S00000
+    }
+
+    def "bookSlot should reject further contenders without database access once slot is booked"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        bookingRepository.save(_) >> { admissionGate.onSlotChanged(SlotChangedEvent.of(SlotChangeType.BOOKED, slot)) }
+        bookingService.bookSlot(slot.uuid)
+
+        when:
+        bookingService.bookSlot(slot.uuid)
+
+        then:
+        0 * slotRepository._
+        0 * bookingRepository._
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+        admissionGate.rejectedCount == 1
+        admissionGate.rejectionRate == 0.5d
+    }
+
+    def "bookSlot should let contenders through again after slot is released"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        bookingRepository.save(_) >> { admissionGate.onSlotChanged(SlotChangedEvent.of(SlotChangeType.BOOKED, slot)) }
+        bookingService.bookSlot(slot.uuid)
+        admissionGate.onSlotChanged(SlotChangedEvent.of(SlotChangeType.RELEASED, slot))
+
+        when:
+        def response = bookingService.bookSlot(slot.uuid)
+
+        then:
+        1 * slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        response.status == S00000
+        admissionGate.rejectedCount == 0
+    }
+
+    def "bookSlot should not claim slot released before the booking call returned"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        slotRepository.claimAvailableSlot(slot.uuid, _) >> 1
+        bookingRepository.save(_) >> {
+            admissionGate.onSlotChanged(SlotChangedEvent.of(SlotChangeType.BOOKED, slot))
+            admissionGate.onSlotChanged(SlotChangedEvent.of(SlotChangeType.RELEASED, slot))
+        }
+        bookingService.bookSlot(slot.uuid)
+
+        when:
+        def response = bookingService.bookSlot(slot.uuid)
+
+        then:
+        response.status == S00000
+        admissionGate.rejectedCount == 0
+    }
+
+    def "bookSlot should delegate to booking engine when enabled"() {
+        given:
+        def bookingEngine = Mock(BookingEngine)
+        def engineBookingService = new BookingServiceImpl(slotRepository, bookingRepository, eventPublisher, transactionTemplate, waitlistService, admissionGate, availabilityIndex, readCoalescer, mechanicCalendarIndex, Optional.of(bookingEngine))
+        def slotUuid = randomUUID()
+
+        when:
+        def response = engineBookingService.bookSlot(slotUuid)
+
+        then:
+        1 * bookingEngine.book(slotUuid, user, _) >> randomUUID()
+        0 * slotRepository._
+        0 * bookingRepository._
         response.status == S00000
-        slot.status == BOOKED
     }
 
     def "bookSlot should throw exception if slot not found"() {
         given:
-        slotRepository.findSlotWithMechanicAndBookingByUuid(_ as UUID) >> Optional.empty()
+        slotRepository.claimAvailableSlot(_ as UUID, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(_ as UUID) >> Optional.empty()
 
         when:
         bookingService.bookSlot(randomUUID())
 
         then:
         0 * bookingRepository.save(_)
-        0 * slotRepository.save(_)
         def ex = thrown(ServiceException)
         ex.status == E05001
     }
 
     def "bookSlot should throw exception if slot already booked"() {
         given:
-        def slot = new Slot(uuid: randomUUID(), status: BOOKED, bookings: [], mechanic: new User(uuid: randomUUID()))
-        slotRepository.findSlotWithMechanicAndBookingByUuid(_ as UUID) >> Optional.of(slot)
+        def slotUuid = randomUUID()
+        slotRepository.claimAvailableSlot(slotUuid, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(slotUuid) >> Optional.of(new SlotOwnerAndStatus(1L, slotUuid, randomUUID(), LocalDate.now(), BOOKED, null))
 
         when:
-        bookingService.bookSlot(slot.uuid)
+        bookingService.bookSlot(slotUuid)
 
         then:
         0 * bookingRepository.save(_)
-        0 * slotRepository.save(_)
         def ex = thrown(ServiceException)
         ex.status == E05004
     }
 
     def "bookSlot should throw exception if user tries to book own slot"() {
         given:
-        def slot = new Slot(uuid: randomUUID(), status: SlotStatus.AVAILABLE, bookings: [], mechanic: user)
-        slotRepository.findSlotWithMechanicAndBookingByUuid(_ as UUID) >> Optional.of(slot)
+        def slotUuid = randomUUID()
+        slotRepository.claimAvailableSlot(slotUuid, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(slotUuid) >> Optional.of(new SlotOwnerAndStatus(1L, slotUuid, user.uuid, LocalDate.now(), SlotStatus.AVAILABLE, null))
 
         when:
-        bookingService.bookSlot(slot.uuid)
+        bookingService.bookSlot(slotUuid)
 
         then:
         0 * bookingRepository.save(_)
-        0 * slotRepository.save(_)
         def ex = thrown(ServiceException)
         ex.status == E06004
     }
 
+    def "bookSlot should reject client that lost the race for the slot"() {
+        given:
+        def slotUuid = randomUUID()
+        slotRepository.claimAvailableSlot(slotUuid, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(slotUuid) >> Optional.of(new SlotOwnerAndStatus(1L, slotUuid, randomUUID(), LocalDate.now(), SlotStatus.AVAILABLE, null))
+
+        when:
+        bookingService.bookSlot(slotUuid)
+
+        then:
+        0 * bookingRepository.save(_)
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "bookSlots should book available slots in one batch and report rejected ones"() {
+        given:
+        def mechanic = new User(uuid: randomUUID(), email: "mechanic@example.com")
+        def first = slotWithId(1L, SlotStatus.AVAILABLE, mechanic)
+        def second = slotWithId(2L, SlotStatus.AVAILABLE, mechanic)
+        def booked = slotWithId(3L, BOOKED, mechanic)
+        def missingUuid = randomUUID()
+        def request = new BatchBookingRequest([first.uuid, second.uuid, booked.uuid, missingUuid, first.uuid])
+
+        when:
+        def response = bookingService.bookSlots(request)
+
+        then:
+        1 * slotRepository.lockAllWithMechanicByUuidIn([first.uuid, second.uuid, booked.uuid, missingUuid]) >> [first, second, booked]
+        1 * slotRepository.markAllBooked([1L, 2L], _)
+        1 * bookingRepository.insertAll({ it*.slot == [first, second] && it.every { b -> b.client == user && b.status == BookingStatus.CONFIRMED } })
+        2 * eventPublisher.publishEvent(_ as SlotChangedEvent)
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, 2))
+        1 * eventPublisher.publishEvent(new BookingsConfirmedEvent(user, [first, second]))
+        0 * bookingRepository.save(_)
+        response.results()*.slotUuid() == [first.uuid, second.uuid, booked.uuid, missingUuid]
+        response.results()*.status() == [S00000, S00000, E05004, E05001]
+        response.results()[0].bookingUuid() != null
+        response.results()[2].bookingUuid() == null
+    }
+
+    def "bookSlots should not write anything when no slot can be booked"() {
+        given:
+        def ownSlot = slotWithId(1L, SlotStatus.AVAILABLE, user)
+
+        when:
+        def response = bookingService.bookSlots(new BatchBookingRequest([ownSlot.uuid]))
+
+        then:
+        1 * slotRepository.lockAllWithMechanicByUuidIn(_) >> [ownSlot]
+        0 * slotRepository.markAllBooked(_, _)
+        0 * bookingRepository.insertAll(_)
+        0 * eventPublisher.publishEvent(_)
+        response.results()*.status() == [E06004]
+    }
+
     def "cancelBooking should successfully cancel booking and update slot status"() {
         given:
         def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
         def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: slot, client: user)
-        slot.bookings << booking
         bookingRepository.findBookingWithClientAndSlotByUuid(_ as UUID) >> Optional.of(booking)
 
         when:
         def response = bookingService.cancelBooking(booking.uuid)
 
         then:
+        1 * waitlistService.promoteNext(slot) >> Optional.empty()
         1 * bookingRepository.save(_)
         1 * slotRepository.save(_)
         response.status == S00001
@@ -125,6 +560,30 @@ class BookingServiceTest extends Specification {
         slot.status == SlotStatus.AVAILABLE
     }
 
+    def "cancelBooking should hand slot over to next client from waitlist"() {
+        given:
+        def waitingClient = new User(uuid: randomUUID(), email: "waiting@example.com")
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: new User(uuid: randomUUID()))
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: slot, client: user)
+        bookingRepository.findBookingWithClientAndSlotByUuid(_ as UUID) >> Optional.of(booking)
+
+        when:
+        def response = bookingService.cancelBooking(booking.uuid)
+
+        then:
+        1 * waitlistService.promoteNext(slot) >> Optional.of(waitingClient)
+        1 * bookingRepository.save(booking)
+        1 * bookingRepository.save({ it.client == waitingClient && it.slot == slot && it.status == BookingStatus.CONFIRMED })
+        1 * eventPublisher.publishEvent(new BookingConfirmedEvent(waitingClient, slot))
+        0 * slotRepository.save(_)
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CANCELED, 1))
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CONFIRMED, 1))
+        0 * eventPublisher.publishEvent(_ as SlotChangedEvent)
+        response.status == S00001
+        booking.status == BookingStatus.CANCELED
+        slot.status == BOOKED
+    }
+
     def "cancelBooking should throw exception if booking not found"() {
         given:
         bookingRepository.findBookingWithClientAndSlotByUuid(_ as UUID) >> Optional.empty()
@@ -171,6 +630,120 @@ class BookingServiceTest extends Specification {
         ex.status == E06001
     }
 
+    def "rescheduleBooking should move booking to new slot and release previous one"() {
+        given:
+        def mechanic = new User(uuid: randomUUID())
+        def previousSlot = slotWithId(1L, BOOKED, mechanic)
+        def newSlot = slotWithId(2L, SlotStatus.AVAILABLE, mechanic)
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: previousSlot, client: user)
+        bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+        slotRepository.lockAllWithMechanicByUuidIn([previousSlot.uuid, newSlot.uuid]) >> [previousSlot, newSlot]
+
+        when:
+        def response = bookingService.rescheduleBooking(booking.uuid, newSlot.uuid)
+
+        then:
+        1 * bookingRepository.save(booking)
+        1 * waitlistService.promoteNext(previousSlot) >> Optional.empty()
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.BOOKED && it.slotUuid() == newSlot.uuid })
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.RELEASED && it.slotUuid() == previousSlot.uuid })
+        1 * eventPublisher.publishEvent(new BookingRescheduledEvent(user, previousSlot, newSlot))
+        0 * eventPublisher.publishEvent(_ as BookingConfirmedEvent)
+        response.status == S00000
+        booking.slot == newSlot
+        newSlot.status == BOOKED
+        previousSlot.status == SlotStatus.AVAILABLE
+    }
+
+    def "rescheduleBooking should throw exception if new slot is not available"() {
+        given:
+        def mechanic = new User(uuid: randomUUID())
+        def previousSlot = slotWithId(1L, BOOKED, mechanic)
+        def newSlot = slotWithId(2L, BOOKED, mechanic)
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: previousSlot, client: user)
+        bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+        slotRepository.lockAllWithMechanicByUuidIn(_) >> [previousSlot, newSlot]
+
+        when:
+        bookingService.rescheduleBooking(booking.uuid, newSlot.uuid)
+
+        then:
+        0 * bookingRepository.save(_)
+        0 * eventPublisher.publishEvent(_ as BookingRescheduledEvent)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+        booking.slot == previousSlot
+    }
+
+    def "rescheduleBooking should throw exception if booking is already assigned to the slot"() {
+        given:
+        def slot = slotWithId(1L, BOOKED, new User(uuid: randomUUID()))
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: slot, client: user)
+        bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+
+        when:
+        bookingService.rescheduleBooking(booking.uuid, slot.uuid)
+
+        then:
+        0 * slotRepository.lockAllWithMechanicByUuidIn(_)
+        def ex = thrown(ServiceException)
+        ex.status == E06006
+    }
+
+    def "rescheduleBooking should throw exception if booking is canceled"() {
+        given:
+        def slot = slotWithId(1L, BOOKED, new User(uuid: randomUUID()))
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CANCELED, slot: slot, client: user)
+        bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+
+        when:
+        bookingService.rescheduleBooking(booking.uuid, randomUUID())
+
+        then:
+        0 * slotRepository.lockAllWithMechanicByUuidIn(_)
+        def ex = thrown(ServiceException)
+        ex.status == E06005
+    }
+
+    def "rescheduleBooking should start from slot assigned by concurrent reschedule of the same booking"() {
+        given:
+        def mechanic = new User(uuid: randomUUID())
+        def originalSlot = slotWithId(1L, SlotStatus.AVAILABLE, mechanic)
+        def movedToSlot = slotWithId(2L, BOOKED, mechanic)
+        def newSlot = slotWithId(3L, SlotStatus.AVAILABLE, mechanic)
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: movedToSlot, client: user)
+
+        when:
+        bookingService.rescheduleBooking(booking.uuid, newSlot.uuid)
+
+        then:
+        1 * bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+        0 * bookingRepository.findBookingWithClientAndSlotByUuid(_)
+        1 * slotRepository.lockAllWithMechanicByUuidIn([movedToSlot.uuid, newSlot.uuid]) >> [movedToSlot, newSlot]
+        1 * waitlistService.promoteNext(movedToSlot) >> Optional.empty()
+        0 * waitlistService.promoteNext(originalSlot)
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.RELEASED && it.slotUuid() == movedToSlot.uuid })
+        0 * eventPublisher.publishEvent({ it.slotUuid() == originalSlot.uuid })
+        booking.slot == newSlot
+        movedToSlot.status == SlotStatus.AVAILABLE
+    }
+
+    def "rescheduleBooking should reject second reschedule to the slot already assigned by the first one"() {
+        given:
+        def movedToSlot = slotWithId(2L, BOOKED, new User(uuid: randomUUID()))
+        def booking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: movedToSlot, client: user)
+        bookingRepository.lockBookingByUuid(booking.uuid) >> Optional.of(booking)
+
+        when:
+        bookingService.rescheduleBooking(booking.uuid, movedToSlot.uuid)
+
+        then:
+        0 * slotRepository.lockAllWithMechanicByUuidIn(_)
+        0 * waitlistService.promoteNext(_)
+        def ex = thrown(ServiceException)
+        ex.status == E06006
+    }
+
     def "should cancel confirmed booking by mechanic"() {
         given:
         def clientUuid = randomUUID()
@@ -179,14 +752,15 @@ class BookingServiceTest extends Specification {
 
         def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user)
         def booking = new Booking(uuid: bookingUuid, status: BookingStatus.CONFIRMED, slot: slot, client: new User(uuid: clientUuid))
-        slot.bookings = [booking]
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.findSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+        bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid) >> Optional.of(booking)
 
         when:
         def response = bookingService.cancelBookingByMechanic(slot.getUuid(), bookingUuid)
 
         then:
+        1 * waitlistService.promoteNext(slot) >> Optional.empty()
         1 * bookingRepository.save(_ as Booking)
         1 * slotRepository.save(_ as Slot)
         response instanceof BaseResponse
@@ -197,7 +771,7 @@ class BookingServiceTest extends Specification {
 
     def "should throw exception when slot not found"() {
         given:
-        slotRepository.findSlotWithMechanicAndBookingByUuid(_ as UUID) >> Optional.empty()
+        slotRepository.findSlotWithMechanicByUuid(_ as UUID) >> Optional.empty()
 
         when:
         bookingService.cancelBookingByMechanic(randomUUID(), randomUUID())
@@ -217,9 +791,9 @@ class BookingServiceTest extends Specification {
 
         def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: new User(uuid: randomUUID()))
         def booking = new Booking(uuid: bookingUuid, status: BookingStatus.CONFIRMED, slot: slot, client: new User(uuid: clientUuid))
-        slot.bookings = [booking]
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.findSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+        bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid) >> Optional.of(booking)
 
         when:
         bookingService.cancelBookingByMechanic(slotUuid, bookingUuid)
@@ -236,9 +810,10 @@ class BookingServiceTest extends Specification {
         def bookingUuid = randomUUID()
         def slotUuid = randomUUID()
 
-        def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user, bookings: [])
+        def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user)
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.findSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+        bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid) >> Optional.empty()
 
         when:
         bookingService.cancelBookingByMechanic(slotUuid, bookingUuid)
@@ -258,9 +833,9 @@ class BookingServiceTest extends Specification {
 
         def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user)
         def booking = new Booking(uuid: bookingUuid, status: BookingStatus.CANCELED, slot: slot, client: new User(uuid: clientUuid))
-        slot.bookings = [booking]
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.findSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+        bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid) >> Optional.of(booking)
 
         when:
         bookingService.cancelBookingByMechanic(slotUuid, bookingUuid)
@@ -280,19 +855,33 @@ class BookingServiceTest extends Specification {
 
         def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user)
         def booking = new Booking(uuid: bookingUuid, status: BookingStatus.CONFIRMED, slot: slot, client: new User(uuid: clientUuid))
-        def otherBooking = new Booking(uuid: randomUUID(), status: BookingStatus.CONFIRMED, slot: slot, client: new User(uuid: randomUUID()))
-        slot.bookings = [booking, otherBooking]
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.findSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+        bookingRepository.findBookingWithClientBySlotUuidAndUuid(slotUuid, bookingUuid) >> Optional.of(booking)
+        bookingRepository.existsBySlotIdAndStatus(_, BookingStatus.CONFIRMED) >> true
 
         when:
         def response = bookingService.cancelBookingByMechanic(slotUuid, bookingUuid)
 
         then:
         1 * bookingRepository.save(_)
+        1 * eventPublisher.publishEvent(new BookingChangedEvent(BookingStatus.CANCELED, 1))
+        0 * eventPublisher.publishEvent(_ as SlotChangedEvent)
+        0 * waitlistService.promoteNext(_)
         0 * slotRepository.save(_)
         booking.status == BookingStatus.CANCELED
         slot.status == BOOKED
         response.status == S00001
     }
-}
\ No newline at end of file
+
+    private static IndexedSlot indexed(LocalDate date, LocalTime startTime, UUID uuid = randomUUID(),
+                                       ServiceType serviceType = ServiceType.values()[0], UUID mechanicUuid = randomUUID()) {
+        return new IndexedSlot(uuid, date, startTime, startTime.plusHours(1), serviceType, mechanicUuid, "Jan", "Kowalski")
+    }
+
+    private static Slot slotWithId(Long id, SlotStatus status, User mechanic) {
+        def slot = new Slot(uuid: randomUUID(), status: status, mechanic: mechanic, date: LocalDate.now())
+        ReflectionTestUtils.setField(slot, "id", id)
+        return slot
+    }
+}
@@ -0,0 +1,159 @@
+package pl.rezerveo.booking.booking.service
+
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import pl.rezerveo.booking.booking.service.impl.SlotHoldServiceImpl
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.properties.SlotHoldProperties
+import pl.rezerveo.booking.slot.dto.HeldSlot
+import pl.rezerveo.booking.slot.dto.SlotOwnerAndStatus
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.model.Slot
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05005
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.HELD
+
+class SlotHoldServiceTest extends Specification {
+
+    SlotRepository slotRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    TransactionTemplate transactionTemplate = new TransactionTemplate(Mock(PlatformTransactionManager))
+    SlotHoldProperties properties = new SlotHoldProperties(duration: Duration.ofMinutes(5), tick: Duration.ofMillis(10), wheelSize: 64)
+
+    SlotHoldServiceImpl slotHoldService = new SlotHoldServiceImpl(slotRepository, eventPublisher, transactionTemplate, properties)
+
+    def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        slotHoldService.shutdown()
+        SecurityContextHolder.clearContext()
+    }
+
+    def "holdSlot should hold available slot until hold duration passes"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: HELD, mechanic: new User(uuid: randomUUID()))
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        def response = slotHoldService.holdSlot(slot.uuid)
+
+        then:
+        1 * slotRepository.holdAvailableSlot(slot.uuid, user, _ as LocalDateTime) >> 1
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.HELD && it.slotUuid() == slot.uuid })
+        response.slotUuid() == slot.uuid
+        response.expiresAt().isAfter(LocalDateTime.now().plusMinutes(4))
+    }
+
+    def "holdSlot should throw exception if slot not found"() {
+        given:
+        slotRepository.holdAvailableSlot(_, _, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(_) >> Optional.empty()
+
+        when:
+        slotHoldService.holdSlot(randomUUID())
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05001
+    }
+
+    def "holdSlot should throw exception if slot is already held"() {
+        given:
+        def slotUuid = randomUUID()
+        slotRepository.holdAvailableSlot(slotUuid, _, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(slotUuid) >> Optional.of(new SlotOwnerAndStatus(1L, slotUuid, randomUUID(), LocalDate.now(), HELD, null))
+
+        when:
+        slotHoldService.holdSlot(slotUuid)
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "holdSlot should throw exception if user tries to hold own slot"() {
+        given:
+        def slotUuid = randomUUID()
+        slotRepository.holdAvailableSlot(slotUuid, _, _) >> 0
+        slotRepository.findSlotOwnerAndStatusByUuid(slotUuid) >> Optional.of(new SlotOwnerAndStatus(1L, slotUuid, user.uuid, LocalDate.now(), AVAILABLE, null))
+
+        when:
+        slotHoldService.holdSlot(slotUuid)
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E06004
+    }
+
+    def "releaseHold should make slot available again"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: AVAILABLE, mechanic: new User(uuid: randomUUID()))
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        def response = slotHoldService.releaseHold(slot.uuid)
+
+        then:
+        1 * slotRepository.releaseHold(slot.uuid, _) >> 1
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.RELEASED })
+        response.status == S00001
+    }
+
+    def "releaseHold should throw exception if slot is not held by user"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: HELD, mechanic: new User(uuid: randomUUID()))
+        slotRepository.releaseHold(slot.uuid, _) >> 0
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        slotHoldService.releaseHold(slot.uuid)
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05005
+    }
+
+    def "expired holds should be released by the timing wheel"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: AVAILABLE, mechanic: new User(uuid: randomUUID()))
+        def expiresAt = LocalDateTime.now().minusSeconds(1)
+        slotRepository.findAllHeldSlots() >> [new HeldSlot(slot.uuid, expiresAt)]
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        def released = false
+        slotRepository.releaseExpiredHold(slot.uuid, expiresAt) >> { released = true; 1 }
+
+        when:
+        slotHoldService.rescheduleHolds()
+
+        then:
+        new PollingConditions(timeout: 2).eventually {
+            assert released
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package pl.rezerveo.booking.common.cache
+
+import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.data.domain.PageRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import pl.rezerveo.booking.booking.availability.AvailabilityIndex
+import pl.rezerveo.booking.booking.dto.request.AvailableSlotsFilter
+import pl.rezerveo.booking.common.version.ChangePartition
+import pl.rezerveo.booking.common.version.ChangeVersions
+import pl.rezerveo.booking.properties.AvailabilityIndexProperties
+import pl.rezerveo.booking.properties.ResponseCacheProperties
+import pl.rezerveo.booking.slot.enumerate.ServiceType
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.event.MechanicRenamedEvent
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalTime
+import java.util.zip.GZIPInputStream
+
+import static java.util.UUID.randomUUID
+
+class ResponseCacheFilterTest extends Specification {
+
+    static final String BODY = '{"content":[' + (['{"uuid":"b05b23d1-f661-4bef-ba3e-63565c8bb217"}'] * 40).join(",") + ']}'
+
+    ChangeVersions changeVersions = new ChangeVersions()
+    ResponseCacheProperties properties = new ResponseCacheProperties(enabled: true, maxEntries: 16, maxPages: 2, minGzipSize: 256)
+
+    ResponseCacheFilter filter = new ResponseCacheFilter(properties, changeVersions)
+
+    int controllerCalls = 0
+    FilterChain controller = { request, response ->
+        controllerCalls++
+        response.contentType = "application/json"
+        response.outputStream.write(BODY.bytes)
+    } as FilterChain
+
+    def "doFilter should serve repeated first page from cache"() {
+        given:
+        def first = execute(request([page: "0", size: "10"]))
+
+        when:
+        def second = execute(request([size: "10", page: "0"]))
+
+        then:
+        controllerCalls == 1
+        first.contentAsString == BODY
+        second.contentAsString == BODY
+        second.contentType.startsWith("application/json")
+        filter.hitCount == 1
+    }
+
+    def "doFilter should miss cache after slot change"() {
+        given:
+        execute(request([:]))
+        changeVersions.bump(ChangePartition.SLOTS)
+
+        when:
+        execute(request([:]))
+
+        then:
+        controllerCalls == 2
+    }
+
+    def "doFilter should miss cache after mechanic rename even when pages are read from the database"() {
+        given:
+        def availabilityIndex = new AvailabilityIndex(Stub(SlotRepository), new AvailabilityIndexProperties(enabled: false, consistencyCheck: "-"),
+                                                      changeVersions)
+        execute(request([:]))
+
+        when:
+        availabilityIndex.onMechanicRenamed(new MechanicRenamedEvent(randomUUID(), "Jan Nowak"))
+        execute(request([:]))
+
+        then:
+        controllerCalls == 2
+    }
+
+    def "doFilter should not keep serving page rendered while slot change was applied"() {
+        given:
+        def availabilityIndex = new AvailabilityIndex(Stub(SlotRepository) { findAllIndexedAvailableSlots() >> [] },
+                                                      new AvailabilityIndexProperties(enabled: true, consistencyCheck: "-"),
+                                                      changeVersions)
+        availabilityIndex.rebuild()
+        def event = new SlotChangedEvent(SlotChangeType.CREATED, randomUUID(), randomUUID(), LocalDate.now().plusDays(1),
+                                         LocalTime.of(9, 0), LocalTime.of(10, 0), ServiceType.OIL_CHANGE, "Jan Kowalski", null)
+        boolean applied = false
+        FilterChain indexController = { request, response ->
+            def total = availabilityIndex.findAvailableSlots(AvailableSlotsFilter.NONE, PageRequest.of(0, 20)).get().totalElements
+            if (!applied) {
+                applied = true
+                availabilityIndex.onSlotChanged(event)
+            }
+            response.outputStream.write("$total".bytes)
+        } as FilterChain
+
+        when:
+        def first = new MockHttpServletResponse()
+        filter.doFilter(request([:]), first, indexController)
+        def second = new MockHttpServletResponse()
+        filter.doFilter(request([:]), second, indexController)
+
+        then:
+        first.contentAsString == "0"
+        second.contentAsString == "1"
+    }
+
+    def "doFilter should return gzip compressed body when client accepts it"() {
+        given:
+        execute(request([:]))
+        def request = request([:])
+        request.addHeader("Accept-Encoding", "gzip, deflate")
+
+        when:
+        def response = execute(request)
+
+        then:
+        response.getHeader("Content-Encoding") == "gzip"
+        new GZIPInputStream(new ByteArrayInputStream(response.contentAsByteArray)).text == BODY
+        response.contentAsByteArray.length < BODY.bytes.length
+    }
+
+    def "doFilter should bypass cache for deep pages and cursor requests"() {
+        when:
+        2.times { execute(request([page: "5"])) }
+        2.times { execute(request([after: "MjAyNS0xMC0xNVQxMDowMHwxMA"])) }
+
+        then:
+        controllerCalls == 4
+        filter.cachedPages == 0
+    }
+
+    def "doFilter should bypass cache for page sizes and orders other than the defaults"() {
+        when:
+        2.times { execute(request([size: "50"])) }
+        2.times { execute(request([sort: "startTime,desc"])) }
+
+        then:
+        controllerCalls == 4
+        filter.cachedPages == 0
+    }
+
+    def "doFilter should cache explicitly requested default order"() {
+        when:
+        execute(request([sort: sort]))
+
+        then:
+        filter.cachedPages == 1
+
+        where:
+        sort << ["date,startTime", "date,startTime,ASC", "date,startTime,asc"]
+    }
+
+    def "doFilter should not cache unsuccessful responses"() {
+        given:
+        FilterChain failing = { request, response -> controllerCalls++; response.status = HttpServletResponse.SC_BAD_REQUEST } as FilterChain
+
+        when:
+        filter.doFilter(request([:]), new MockHttpServletResponse(), failing)
+        filter.doFilter(request([:]), new MockHttpServletResponse(), failing)
+
+        then:
+        controllerCalls == 2
+        filter.cachedPages == 0
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) {
+        def response = new MockHttpServletResponse()
+        filter.doFilter(request, response, controller)
+        return response
+    }
+
+    private static MockHttpServletRequest request(Map<String, String> parameters) {
+        def request = new MockHttpServletRequest("GET", "/api/v1/bookings/available")
+        parameters.each { name, value -> request.addParameter(name, value) }
+        return request
+    }
+}
@@ -0,0 +1,126 @@
+package pl.rezerveo.booking.common.coalescing
+
+import pl.rezerveo.booking.properties.ReadCoalescingProperties
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import static java.util.UUID.randomUUID
+
+class ReadCoalescerTest extends Specification {
+
+    ReadCoalescer readCoalescer = new ReadCoalescer(new ReadCoalescingProperties(enabled: true))
+
+    def executor = Executors.newVirtualThreadPerTaskExecutor()
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def "concurrent identical calls should share one computation"() {
+        given:
+        def userUuid = randomUUID()
+        def executions = new AtomicInteger()
+        def started = new CountDownLatch(1)
+        def unblock = new CountDownLatch(1)
+        def call = {
+            executions.incrementAndGet()
+            started.countDown()
+            unblock.await(5, TimeUnit.SECONDS)
+            return "result"
+        }
+
+        when:
+        def first = executor.submit({ readCoalescer.execute("getBookingList", call, userUuid, 0) } as Callable)
+        started.await(5, TimeUnit.SECONDS)
+        def others = (1..4).collect { executor.submit({ readCoalescer.execute("getBookingList", call, userUuid, 0) } as Callable) }
+        waitUntil { readCoalescer.calls["getBookingList"] == 5 }
+        unblock.countDown()
+
+        then:
+        ([first] + others)*.get(5, TimeUnit.SECONDS) == ["result"] * 5
+        executions.get() == 1
+        readCoalescer.coalescedCalls["getBookingList"] == 4
+        readCoalescer.inFlight == 0
+    }
+
+    def "calls with different arguments should not be coalesced"() {
+        given:
+        def executions = new AtomicInteger()
+        def started = new CountDownLatch(2)
+        def unblock = new CountDownLatch(1)
+        def call = {
+            executions.incrementAndGet()
+            started.countDown()
+            unblock.await(5, TimeUnit.SECONDS)
+            return "result"
+        }
+
+        when:
+        def first = executor.submit({ readCoalescer.execute("getBookingList", call, randomUUID(), 0) } as Callable)
+        def second = executor.submit({ readCoalescer.execute("getBookingList", call, randomUUID(), 0) } as Callable)
+        def bothStarted = started.await(5, TimeUnit.SECONDS)
+        unblock.countDown()
+
+        then:
+        bothStarted
+        first.get(5, TimeUnit.SECONDS) == "result"
+        second.get(5, TimeUnit.SECONDS) == "result"
+        executions.get() == 2
+        readCoalescer.coalescedCalls["getBookingList"] == 0
+    }
+
+    def "failure should be propagated to coalesced callers"() {
+        given:
+        def started = new CountDownLatch(1)
+        def unblock = new CountDownLatch(1)
+        def call = {
+            started.countDown()
+            unblock.await(5, TimeUnit.SECONDS)
+            throw new IllegalStateException("query failed")
+        }
+
+        when:
+        def first = executor.submit({ readCoalescer.execute("getAvailableSlots", call, 0) } as Callable)
+        started.await(5, TimeUnit.SECONDS)
+        def second = executor.submit({ readCoalescer.execute("getAvailableSlots", call, 0) } as Callable)
+        waitUntil { readCoalescer.calls["getAvailableSlots"] == 2 }
+        unblock.countDown()
+        def failures = [first, second].collect {
+            try {
+                it.get(5, TimeUnit.SECONDS)
+                null
+            } catch (Exception ex) {
+                ex.cause
+            }
+        }
+
+        then:
+        failures.every { it instanceof IllegalStateException && it.message == "query failed" }
+        readCoalescer.inFlight == 0
+    }
+
+    def "disabled coalescer should run every call"() {
+        given:
+        def disabled = new ReadCoalescer(new ReadCoalescingProperties(enabled: false))
+        def executions = new AtomicInteger()
+
+        when:
+        2.times { disabled.execute("getAvailableSlots", { executions.incrementAndGet() }, 0) }
+
+        then:
+        executions.get() == 2
+        disabled.calls.isEmpty()
+    }
+
+    private static void waitUntil(Closure<Boolean> condition) {
+        def deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (!condition() && System.nanoTime() < deadline) {
+            Thread.sleep(5)
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package pl.rezerveo.booking.common.version
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.web.method.HandlerMethod
+import pl.rezerveo.booking.booking.enumerated.BookingStatus
+import pl.rezerveo.booking.booking.event.BookingChangedEvent
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.version.ChangePartition.BOOKINGS
+import static pl.rezerveo.booking.common.version.ChangePartition.SLOTS
+
+class ConditionalGetInterceptorTest extends Specification {
+
+    ChangeVersions changeVersions = new ChangeVersions()
+
+    ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(changeVersions)
+
+    def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "preHandle should answer not modified when partition did not change"() {
+        given:
+        def etag = firstResponse("availableSlots").getHeader("ETag")
+
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(etag), response, handler("availableSlots"))
+
+        then:
+        etag.startsWith('W/"')
+        !proceed
+        response.status == 304
+    }
+
+    def "preHandle should run handler after partition changed"() {
+        given:
+        def etag = firstResponse("availableSlots").getHeader("ETag")
+        changeVersions.bump(SLOTS)
+
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(etag), response, handler("availableSlots"))
+
+        then:
+        proceed
+        response.status == 200
+        response.getHeader("ETag") != etag
+    }
+
+    def "preHandle should not invalidate bookings when only slots changed"() {
+        given:
+        def etag = firstResponse("bookingList").getHeader("ETag")
+        changeVersions.bump(SLOTS)
+
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(etag), response, handler("bookingList"))
+
+        then:
+        !proceed
+        response.status == 304
+    }
+
+    def "preHandle should invalidate bookings after booking changed without slot change"() {
+        given:
+        def etag = firstResponse("bookingList").getHeader("ETag")
+        changeVersions.onBookingChanged(new BookingChangedEvent(BookingStatus.COMPLETED, 3))
+
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(etag), response, handler("bookingList"))
+
+        then:
+        proceed
+        response.getHeader("ETag") != etag
+    }
+
+    def "preHandle should issue different tags to different users of user scoped endpoint"() {
+        given:
+        def etag = firstResponse("bookingList").getHeader("ETag")
+        def otherUser = new TestingAuthenticationToken(new User(uuid: randomUUID()), null)
+        otherUser.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(otherUser)
+
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(etag), response, handler("bookingList"))
+
+        then:
+        proceed
+        response.getHeader("ETag") != etag
+    }
+
+    def "preHandle should scope tag with the whole user uuid"() {
+        when:
+        def etag = firstResponse("bookingList").getHeader("ETag")
+
+        then:
+        etag.endsWith("-${user.uuid}\"")
+    }
+
+    def "preHandle should ignore endpoints without conditional get"() {
+        when:
+        def response = new MockHttpServletResponse()
+        def proceed = interceptor.preHandle(request(null), response, handler("plain"))
+
+        then:
+        proceed
+        response.getHeader("ETag") == null
+    }
+
+    private MockHttpServletResponse firstResponse(String method) {
+        def response = new MockHttpServletResponse()
+        assert interceptor.preHandle(request(null), response, handler(method))
+        return response
+    }
+
+    private static MockHttpServletRequest request(String ifNoneMatch) {
+        def request = new MockHttpServletRequest("GET", "/api/v1/bookings")
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch)
+        }
+        return request
+    }
+
+    private static HandlerMethod handler(String method) {
+        return new HandlerMethod(new Endpoints(), Endpoints.getMethod(method))
+    }
+
+    static class Endpoints {
+
+        @ConditionalGet(SLOTS)
+        void availableSlots() {}
+
+        @ConditionalGet(value = BOOKINGS, userScoped = true)
+        void bookingList() {}
+
+        void plain() {}
+    }
+}
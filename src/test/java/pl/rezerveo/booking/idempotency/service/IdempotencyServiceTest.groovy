@@ -0,0 +1,306 @@
+package pl.rezerveo.booking.idempotency.service
+
+import org.springframework.dao.DataAccessResourceFailureException
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.test.util.ReflectionTestUtils
+import pl.rezerveo.booking.common.enumerated.ResponseCode
+import pl.rezerveo.booking.exception.dto.response.BaseResponse
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.idempotency.model.IdempotencyRecord
+import pl.rezerveo.booking.idempotency.repository.IdempotencyRecordRepository
+import pl.rezerveo.booking.idempotency.service.impl.IdempotencyServiceImpl
+import pl.rezerveo.booking.properties.IdempotencyProperties
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.function.Supplier
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00005
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00006
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05006
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E07000
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E07001
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000
+
+class IdempotencyServiceTest extends Specification {
+
+    IdempotencyRecordRepository idempotencyRecordRepository = Mock(IdempotencyRecordRepository)
+    IdempotencyProperties properties = new IdempotencyProperties(cacheSize: 100, retention: Duration.ofDays(1), inFlightTimeout: Duration.ofMillis(200),
+                                                                   claimTimeout: Duration.ofMinutes(1))
+
+    IdempotencyService idempotencyService = new IdempotencyServiceImpl(idempotencyRecordRepository, properties)
+
+    def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+        idempotencyRecordRepository.saveAndFlush(_) >> { IdempotencyRecord record -> claimed(record) }
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "should execute action without idempotency key"() {
+        given:
+        def action = Mock(Supplier)
+
+        when:
+        def response = idempotencyService.execute(null, "bookSlot:1", action)
+
+        then:
+        1 * action.get() >> new BaseResponse(S00000)
+        0 * idempotencyRecordRepository._
+        response.status == S00000
+    }
+
+    def "should execute action once and replay response for the same key"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+
+        when:
+        def first = idempotencyService.execute("key-1", "bookSlot:1", action)
+        def second = idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * action.get() >> new BaseResponse(S00000)
+        1 * idempotencyRecordRepository.saveAndFlush({ IdempotencyRecord record -> record.pending && record.userUuid == user.uuid }) >> { IdempotencyRecord record -> claimed(record) }
+        1 * idempotencyRecordRepository.completeClaim(1L, S00000)
+        first.status == S00000
+        second.status == S00000
+    }
+
+    def "should replay stored business error"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+        action.get() >> { throw new ServiceException(E05004) }
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        thrown(ServiceException)
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        0 * action.get()
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "should not store server errors so the request can be retried"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * action.get() >> { throw new ServiceException(E00006) }
+        1 * idempotencyRecordRepository.deleteById(1L)
+        0 * idempotencyRecordRepository.completeClaim(_, _)
+        thrown(ServiceException)
+    }
+
+    def "should not store rejection of a full admission queue so the request can be retried"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * action.get() >> { throw new ServiceException(E05006) }
+        1 * idempotencyRecordRepository.deleteById(1L)
+        0 * idempotencyRecordRepository.completeClaim(_, _)
+        def ex = thrown(ServiceException)
+        ex.status == E05006
+
+        when:
+        def response = idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * action.get() >> new BaseResponse(S00000)
+        response.status == S00000
+    }
+
+    def "should claim key before running action and complete the claim afterwards"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * idempotencyRecordRepository.saveAndFlush({ IdempotencyRecord record -> record.pending }) >> { IdempotencyRecord record -> claimed(record) }
+
+        then:
+        1 * action.get() >> new BaseResponse(S00000)
+
+        then:
+        1 * idempotencyRecordRepository.completeClaim(1L, S00000)
+    }
+
+    def "should replay outcome of concurrent request that claimed the key first"() {
+        given:
+        def action = Mock(Supplier)
+        def record = record(S00000)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >>> [Optional.empty(), Optional.of(record)]
+
+        when:
+        def response = idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * idempotencyRecordRepository.saveAndFlush(_) >> { throw new DataIntegrityViolationException("duplicate key") }
+        1 * idempotencyRecordRepository.deleteExpired(user.uuid, "key-1", _, _) >> 0
+        0 * action.get()
+        response.status == S00000
+    }
+
+    def "should reject request while another instance holds the claim"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.of(record(null))
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * idempotencyRecordRepository.saveAndFlush(_) >> { throw new DataIntegrityViolationException("duplicate key") }
+        1 * idempotencyRecordRepository.deleteExpired(user.uuid, "key-1", _, _) >> 0
+        0 * action.get()
+        def ex = thrown(ServiceException)
+        ex.status == E07001
+    }
+
+    def "should take over claim left pending after claim timeout"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >>> [Optional.empty(), Optional.of(record(null)), Optional.empty()]
+
+        when:
+        def response = idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * idempotencyRecordRepository.saveAndFlush(_) >> { throw new DataIntegrityViolationException("duplicate key") }
+        1 * idempotencyRecordRepository.deleteExpired(user.uuid, "key-1", _, _) >> 1
+
+        then:
+        1 * idempotencyRecordRepository.saveAndFlush(_) >> { IdempotencyRecord record -> claimed(record) }
+        1 * action.get() >> new BaseResponse(S00000)
+        1 * idempotencyRecordRepository.completeClaim(1L, S00000)
+        response.status == S00000
+    }
+
+    def "should keep business error when storing it fails"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+        action.get() >> { throw new ServiceException(E05004) }
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        1 * idempotencyRecordRepository.completeClaim(1L, E05004) >> { throw new DataAccessResourceFailureException("connection lost") }
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "should stop waiting for request in progress with the same key after timeout"() {
+        given:
+        def started = new CountDownLatch(1)
+        def release = new CountDownLatch(1)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+        def authentication = SecurityContextHolder.getContext().getAuthentication()
+        def executor = Executors.newSingleThreadExecutor()
+        def first = executor.submit({
+            SecurityContextHolder.getContext().setAuthentication(authentication)
+            idempotencyService.execute("key-1", "bookSlot:1", {
+                started.countDown()
+                release.await()
+                new BaseResponse(S00000)
+            } as Supplier)
+        } as Callable)
+        started.await()
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:1", Mock(Supplier))
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E07001
+
+        cleanup:
+        release.countDown()
+        first.get()
+        executor.shutdown()
+    }
+
+    def "should replay response persisted by a previous run"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.of(record(S00000))
+
+        when:
+        def response = idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        then:
+        0 * action.get()
+        response.status == S00000
+    }
+
+    def "should reject key reused for a different request"() {
+        given:
+        def action = Mock(Supplier)
+        idempotencyRecordRepository.findByUserUuidAndIdempotencyKey(user.uuid, "key-1") >> Optional.empty()
+        action.get() >> new BaseResponse(S00000)
+        idempotencyService.execute("key-1", "bookSlot:1", action)
+
+        when:
+        idempotencyService.execute("key-1", "bookSlot:2", action)
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E07000
+    }
+
+    def "should reject blank idempotency key"() {
+        when:
+        idempotencyService.execute(" ", "bookSlot:1", Mock(Supplier))
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E00005
+    }
+
+    private IdempotencyRecord record(ResponseCode responseCode) {
+        def record = new IdempotencyRecord(userUuid: user.uuid, idempotencyKey: "key-1", request: "bookSlot:1", responseCode: responseCode)
+        ReflectionTestUtils.setField(record, "createdDate", LocalDateTime.now())
+        return record
+    }
+
+    private static IdempotencyRecord claimed(IdempotencyRecord record) {
+        ReflectionTestUtils.setField(record, "id", 1L)
+        ReflectionTestUtils.setField(record, "createdDate", LocalDateTime.now())
+        return record
+    }
+}
@@ -0,0 +1,96 @@
+package pl.rezerveo.booking.notification
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+import org.springframework.transaction.event.TransactionalEventListenerFactory
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent
+import pl.rezerveo.booking.notification.event.BookingsConfirmedEvent
+import pl.rezerveo.booking.slot.model.Slot
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import static java.util.UUID.randomUUID
+
+class NotificationEventListenerTest extends Specification {
+
+    NotificationPublisher notificationPublisher = Mock()
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()
+
+    def client = new User(uuid: randomUUID(), email: "client@example.com")
+    def mechanic = new User(uuid: randomUUID(), email: "mechanic@example.com")
+    def slot = new Slot(uuid: randomUUID(), mechanic: mechanic)
+
+    def setup() {
+        context.register(TransactionalEventListenerFactory)
+        context.registerBean(NotificationEventListener, notificationPublisher)
+        context.refresh()
+    }
+
+    def cleanup() {
+        context.close()
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false)
+    }
+
+    def "should notify only after the transaction has committed"() {
+        given:
+        beginTransaction()
+
+        when:
+        context.publishEvent(new BookingConfirmedEvent(client, slot))
+
+        then:
+        0 * notificationPublisher._
+
+        when:
+        TransactionSynchronizationManager.getSynchronizations()*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        1 * notificationPublisher.notifyBookingConfirmedToMechanic(client, slot)
+        1 * notificationPublisher.notifyBookingConfirmedToClient(client, slot)
+    }
+
+    def "should not notify about changes that were rolled back"() {
+        given:
+        beginTransaction()
+
+        when:
+        context.publishEvent(new BookingConfirmedEvent(client, slot))
+        TransactionSynchronizationManager.getSynchronizations()*.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK)
+
+        then:
+        0 * notificationPublisher._
+    }
+
+    def "should notify right away when published outside of a transaction"() {
+        when:
+        context.publishEvent(new BookingConfirmedEvent(client, slot))
+
+        then:
+        1 * notificationPublisher.notifyBookingConfirmedToMechanic(client, slot)
+        1 * notificationPublisher.notifyBookingConfirmedToClient(client, slot)
+    }
+
+    def "should notify every mechanic about their own slots of a batch"() {
+        given:
+        def otherMechanic = new User(uuid: randomUUID(), email: "other@example.com")
+        def second = new Slot(uuid: randomUUID(), mechanic: otherMechanic)
+        def third = new Slot(uuid: randomUUID(), mechanic: mechanic)
+
+        when:
+        context.publishEvent(new BookingsConfirmedEvent(client, [slot, second, third]))
+
+        then:
+        1 * notificationPublisher.notifyBookingsConfirmedToMechanic(client, [slot, third])
+        1 * notificationPublisher.notifyBookingsConfirmedToMechanic(client, [second])
+        1 * notificationPublisher.notifyBookingsConfirmedToClient(client, [slot, second, third])
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization()
+        TransactionSynchronizationManager.setActualTransactionActive(true)
+    }
+}
@@ -0,0 +1,204 @@
+package pl.rezerveo.booking.slot.calendar
+
+import org.springframework.test.util.ReflectionTestUtils
+import pl.rezerveo.booking.common.version.ChangePartition
+import pl.rezerveo.booking.common.version.ChangeVersions
+import pl.rezerveo.booking.properties.MechanicCalendarProperties
+import pl.rezerveo.booking.slot.dto.CalendarSlot
+import pl.rezerveo.booking.slot.enumerate.SlotStatus
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.event.SlotChangedEvent
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalTime
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.BOOKED
+
+class MechanicCalendarIndexTest extends Specification {
+
+    SlotRepository slotRepository = Mock()
+    MechanicCalendarProperties properties = new MechanicCalendarProperties(enabled: true, maxEntries: 100, eviction: "-", cellMinutes: 15)
+    ChangeVersions changeVersions = Spy(ChangeVersions)
+
+    MechanicCalendarIndex mechanicCalendarIndex = new MechanicCalendarIndex(slotRepository, properties, changeVersions)
+
+    def mechanic = mechanic()
+    def date = LocalDate.now().plusDays(1)
+
+    def "overlaps should load mechanic day once and answer from memory afterwards"() {
+        when:
+        def results = [overlaps(9, 30, 11, 0), overlaps(12, 0, 13, 0), overlaps(13, 30, 14, 30)]
+
+        then:
+        1 * slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> [slot(9, 0, 10, 0, AVAILABLE), slot(14, 0, 15, 0, BOOKED)]
+        0 * slotRepository.existsByMechanicAndDateAndTimeOverlap(*_)
+        results == [true, false, true]
+        mechanicCalendarIndex.misses == 1
+        mechanicCalendarIndex.hits == 2
+    }
+
+    def "overlaps should detect ranges containing or contained in existing slots but allow touching ends"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> [slot(9, 0, 10, 0, AVAILABLE), slot(12, 0, 13, 0, BOOKED)]
+
+        expect:
+        overlaps(8, 0, 16, 0)
+        overlaps(12, 15, 12, 45)
+        overlaps(9, 59, 11, 0)
+        overlaps(11, 0, 12, 1)
+        !overlaps(10, 0, 12, 0)
+        !overlaps(7, 0, 9, 0)
+    }
+
+    def "slot changes should keep loaded day up to date"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> [slot(9, 0, 10, 0, AVAILABLE)]
+        overlaps(9, 0, 10, 0)
+
+        when:
+        mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.CREATED, 11, 0, 12, 0))
+
+        then:
+        overlaps(11, 30, 11, 45)
+
+        when:
+        mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.CANCELED, 9, 0, 10, 0))
+
+        then:
+        !overlaps(9, 0, 10, 0)
+        overlaps(11, 30, 11, 45)
+    }
+
+    def "slot changes should bump slots version only after loaded day was updated"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> []
+        overlaps(9, 0, 10, 0)
+
+        when:
+        mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.CREATED, 9, 0, 10, 0))
+
+        then:
+        1 * changeVersions.bump(ChangePartition.SLOTS) >> { assert overlaps(9, 0, 10, 0); callRealMethod() }
+    }
+
+    def "findAvailableWindow should find runs spanning adjacent slots and skip unavailable ones"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> [slot(8, 0, 8, 30, AVAILABLE), slot(8, 30, 9, 0, BOOKED),
+                                                                        slot(13, 0, 13, 40, AVAILABLE), slot(13, 40, 14, 20, AVAILABLE)]
+        def calendar = mechanicCalendarIndex.getCalendars(mechanic.uuid, date, date).first()
+
+        expect:
+        calendar.findAvailableWindow(30).asInt == 8 * 60
+        calendar.findAvailableWindow(60).asInt == 13 * 60
+        calendar.findAvailableWindow(80).asInt == 13 * 60
+        calendar.findAvailableWindow(81).isEmpty()
+    }
+
+    def "booking and releasing should toggle availability but keep time occupied"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date) >> [slot(8, 0, 9, 0, AVAILABLE)]
+        mechanicCalendarIndex.getCalendars(mechanic.uuid, date, date)
+
+        when:
+        mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.BOOKED, 8, 0, 9, 0))
+        def booked = mechanicCalendarIndex.getCalendars(mechanic.uuid, date, date).first()
+        mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.RELEASED, 8, 0, 9, 0))
+        def released = mechanicCalendarIndex.getCalendars(mechanic.uuid, date, date).first()
+
+        then:
+        booked.findAvailableWindow(60).isEmpty()
+        booked.overlaps(LocalTime.of(8, 30), LocalTime.of(8, 45))
+        released.findAvailableWindow(60).asInt == 8 * 60
+    }
+
+    def "getCalendars should not cache days loaded while a slot changed"() {
+        given:
+        slotRepository.findCalendarSlots(mechanic.uuid, date, date.plusDays(1)) >> {
+            mechanicCalendarIndex.onSlotChanged(event(SlotChangeType.BOOKED, 8, 0, 9, 0))
+            [slot(8, 0, 9, 0, AVAILABLE)]
+        }
+
+        when:
+        def calendars = mechanicCalendarIndex.getCalendars(mechanic.uuid, date, date.plusDays(1))
+
+        then:
+        calendars.size() == 2
+        mechanicCalendarIndex.size == 0
+    }
+
+    def "full index should evict least recently used day"() {
+        given:
+        properties.maxEntries = 2
+        def index = new MechanicCalendarIndex(slotRepository, properties, changeVersions)
+        def second = date.plusDays(1)
+        def third = date.plusDays(2)
+        slotRepository.findCalendarSlots(mechanic.uuid, _, _) >> []
+        index.overlaps(mechanic, date, LocalTime.of(9, 0), LocalTime.of(10, 0))
+        index.overlaps(mechanic, second, LocalTime.of(9, 0), LocalTime.of(10, 0))
+        index.overlaps(mechanic, date, LocalTime.of(9, 0), LocalTime.of(10, 0))
+
+        when:
+        index.overlaps(mechanic, third, LocalTime.of(9, 0), LocalTime.of(10, 0))
+        index.overlaps(mechanic, date, LocalTime.of(9, 0), LocalTime.of(10, 0))
+        index.overlaps(mechanic, second, LocalTime.of(9, 0), LocalTime.of(10, 0))
+
+        then:
+        1 * slotRepository.findCalendarSlots(mechanic.uuid, third, third) >> []
+        0 * slotRepository.findCalendarSlots(mechanic.uuid, date, date)
+        1 * slotRepository.findCalendarSlots(mechanic.uuid, second, second) >> []
+        0 * slotRepository.existsByMechanicAndDateAndTimeOverlap(*_)
+        index.size == 2
+    }
+
+    def "disabled index should answer overlaps from database"() {
+        given:
+        properties.enabled = false
+
+        when:
+        def overlapping = overlaps(9, 0, 10, 0)
+
+        then:
+        1 * slotRepository.existsByMechanicAndDateAndTimeOverlap(mechanic.id, date, LocalTime.of(9, 0), LocalTime.of(10, 0)) >> true
+        0 * slotRepository.findCalendarSlots(*_)
+        overlapping
+        mechanicCalendarIndex.size == 0
+    }
+
+    def "evictPastDays should drop days before today"() {
+        given:
+        def yesterday = LocalDate.now().minusDays(1)
+        slotRepository.findCalendarSlots(mechanic.uuid, _, _) >> []
+        mechanicCalendarIndex.overlaps(mechanic, yesterday, LocalTime.of(9, 0), LocalTime.of(10, 0))
+        overlaps(9, 0, 10, 0)
+
+        when:
+        mechanicCalendarIndex.evictPastDays()
+
+        then:
+        mechanicCalendarIndex.size == 1
+    }
+
+    private boolean overlaps(int startHour, int startMinute, int endHour, int endMinute) {
+        mechanicCalendarIndex.overlaps(mechanic, date, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute))
+    }
+
+    private SlotChangedEvent event(SlotChangeType type, int startHour, int startMinute, int endHour, int endMinute) {
+        new SlotChangedEvent(type, randomUUID(), mechanic.uuid, date, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), OIL_CHANGE, "John Doe", null)
+    }
+
+    private CalendarSlot slot(int startHour, int startMinute, int endHour, int endMinute, SlotStatus status) {
+        new CalendarSlot(date, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute), status)
+    }
+
+    private static User mechanic() {
+        def mechanic = new User(uuid: randomUUID())
+        ReflectionTestUtils.setField(mechanic, "id", 1L)
+        return mechanic
+    }
+}
@@ -0,0 +1,146 @@
+package pl.rezerveo.booking.slot.schema
+
+import org.springframework.core.io.ClassPathResource
+import org.springframework.core.io.support.EncodedResource
+import org.springframework.jdbc.datasource.init.ScriptException
+import org.springframework.jdbc.datasource.init.ScriptUtils
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.DriverManager
+import java.sql.SQLException
+
+/**
+ * Runs schema.sql against a PostgreSQL database given in SCHEMA_TEST_DATABASE_URL, e.g.
+ * {@code jdbc:postgresql://localhost:5432/rezerveo?user=postgres&password=postgres}. Every feature works in its own schema.
+ */
+@Requires({ System.getenv("SCHEMA_TEST_DATABASE_URL") })
+class SlotSchemaTest extends Specification {
+
+    Connection connection
+    String schema = "slot_schema_test_" + System.nanoTime()
+
+    def setup() {
+        connection = DriverManager.getConnection(System.getenv("SCHEMA_TEST_DATABASE_URL"))
+        execute("CREATE SCHEMA ${schema}")
+        execute("SET search_path TO ${schema}, public")
+    }
+
+    def cleanup() {
+        execute("DROP SCHEMA ${schema} CASCADE")
+        connection.close()
+    }
+
+    def "should allow held slots on a database created before slots could be held"() {
+        given:
+        createSlotTableWithoutHeld()
+
+        when:
+        runSchemaScript()
+        insertSlot("HELD")
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "should keep rejecting unknown slot statuses after the migration"() {
+        given:
+        createSlotTableWithoutHeld()
+        runSchemaScript()
+
+        when:
+        insertSlot("UNKNOWN")
+
+        then:
+        thrown(SQLException)
+    }
+
+    def "should leave migrated check untouched when schema script runs again"() {
+        given:
+        createSlotTableWithoutHeld()
+        runSchemaScript()
+
+        when:
+        runSchemaScript()
+        insertSlot("HELD")
+
+        then:
+        noExceptionThrown()
+    }
+
+    def "should fail instead of changing slots when slots of a mechanic overlap"() {
+        given:
+        createSlotTableWithoutHeld()
+        insertSlot("BOOKED", "09:00", "10:00")
+        insertSlot("AVAILABLE", "09:30", "10:30")
+
+        when:
+        runSchemaScript()
+
+        then:
+        thrown(ScriptException)
+        statuses() == ["BOOKED", "AVAILABLE"]
+    }
+
+    def "should add overlap constraint once cleanup canceled overlapping available slots"() {
+        given:
+        createSlotTableWithoutHeld()
+        insertSlot("BOOKED", "09:00", "10:00")
+        insertSlot("AVAILABLE", "09:30", "10:30")
+        insertSlot("AVAILABLE", "10:00", "11:00")
+
+        when:
+        runScript("db/manual/cancel-overlapping-slots.sql")
+        runSchemaScript()
+
+        then:
+        statuses() == ["BOOKED", "CANCELED", "AVAILABLE"]
+    }
+
+    /**
+     * The slot table as Hibernate created it before {@code SlotStatus.HELD} existed.
+     */
+    private void createSlotTableWithoutHeld() {
+        execute("""
+                CREATE TABLE slot (
+                    id bigserial PRIMARY KEY,
+                    uuid uuid NOT NULL DEFAULT gen_random_uuid(),
+                    mechanic_id bigint NOT NULL,
+                    "date" date NOT NULL,
+                    start_time time NOT NULL,
+                    end_time time NOT NULL,
+                    status varchar(255) NOT NULL CHECK (status IN ('AVAILABLE', 'BOOKED', 'CANCELED'))
+                )
+                """)
+    }
+
+    private void insertSlot(String status, String startTime = "09:00", String endTime = "10:00") {
+        execute("INSERT INTO slot (mechanic_id, \"date\", start_time, end_time, status) VALUES (1, current_date, '${startTime}', '${endTime}', '${status}')")
+    }
+
+    private List<String> statuses() {
+        return connection.createStatement().withCloseable { statement ->
+            def resultSet = statement.executeQuery("SELECT status FROM slot ORDER BY id")
+            def statuses = []
+            while (resultSet.next()) {
+                statuses << resultSet.getString(1)
+            }
+            statuses
+        }
+    }
+
+    private void runSchemaScript() {
+        runScript("schema.sql")
+    }
+
+    private void runScript(String path) {
+        ScriptUtils.executeSqlScript(connection, new EncodedResource(new ClassPathResource(path)), false, false,
+                                     ScriptUtils.DEFAULT_COMMENT_PREFIX, "^^^ END OF SCRIPT ^^^",
+                                     ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER)
+    }
+
+    private void execute(String sql) {
+        connection.createStatement().withCloseable { it.execute(sql) }
+    }
+}
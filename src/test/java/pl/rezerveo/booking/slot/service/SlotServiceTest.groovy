@@ -1,28 +1,46 @@
 package pl.rezerveo.booking.slot.service
 
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.domain.Limit
 import org.springframework.security.authentication.TestingAuthenticationToken
 import org.springframework.security.core.context.SecurityContextHolder
-import pl.rezerveo.booking.booking.enumerated.BookingStatus
-import pl.rezerveo.booking.booking.model.Booking
+import org.springframework.test.util.ReflectionTestUtils
+import pl.rezerveo.booking.booking.dto.CanceledBooking
 import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer
+import pl.rezerveo.booking.common.dto.Cursor
+import pl.rezerveo.booking.common.version.ChangeVersions
 import pl.rezerveo.booking.exception.exception.ServiceException
-import pl.rezerveo.booking.notification.NotificationPublisher
+import pl.rezerveo.booking.notification.event.SlotCanceledEvent
+import pl.rezerveo.booking.properties.MechanicCalendarProperties
+import pl.rezerveo.booking.properties.ReadCoalescingProperties
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex
+import pl.rezerveo.booking.slot.dto.CalendarSlot
+import pl.rezerveo.booking.slot.dto.request.CreateRecurringSlotsRequest
 import pl.rezerveo.booking.slot.dto.request.CreateSlotRequest
+import pl.rezerveo.booking.slot.dto.request.RecurringSlotTemplate
+import pl.rezerveo.booking.slot.dto.response.MechanicSlotsResponse
+import pl.rezerveo.booking.slot.event.SlotChangeType
 import pl.rezerveo.booking.slot.model.Slot
 import pl.rezerveo.booking.slot.repository.SlotRepository
 import pl.rezerveo.booking.slot.service.impl.SlotServiceImpl
 import pl.rezerveo.booking.user.model.User
+import pl.rezerveo.booking.waitlist.service.WaitlistService
 import spock.lang.Specification
 
+import java.time.DayOfWeek
 import java.time.LocalDate
+import java.time.LocalDateTime
 import java.time.LocalTime
 
 import static java.util.UUID.randomUUID
-import static pl.rezerveo.booking.booking.enumerated.BookingStatus.CONFIRMED
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05000
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05001
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05002
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05003
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05009
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05010
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00003
 import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
@@ -34,9 +52,13 @@ class SlotServiceTest extends Specification {
 
     SlotRepository slotRepository = Mock(SlotRepository)
     BookingRepository bookingRepository = Mock(BookingRepository)
-    NotificationPublisher notificationPublisher = Mock(NotificationPublisher)
 
-    SlotService slotService = new SlotServiceImpl(slotRepository, bookingRepository, notificationPublisher)
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    WaitlistService waitlistService = Mock(WaitlistService)
+    ReadCoalescer readCoalescer = new ReadCoalescer(new ReadCoalescingProperties(enabled: true))
+    MechanicCalendarIndex mechanicCalendarIndex = new MechanicCalendarIndex(slotRepository, new MechanicCalendarProperties(enabled: true, maxEntries: 100, eviction: "-", cellMinutes: 15), new ChangeVersions())
+
+    SlotService slotService = new SlotServiceImpl(slotRepository, bookingRepository, eventPublisher, waitlistService, readCoalescer, mechanicCalendarIndex)
 
     def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
 
@@ -53,53 +75,192 @@ class SlotServiceTest extends Specification {
     def "should create slot successfully"() {
         given:
         def request = new CreateSlotRequest(LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0), OIL_CHANGE)
-        slotRepository.existsByMechanicAndDateAndTimeOverlap(_ as User, _ as LocalDate, _ as LocalTime, _ as LocalTime) >> false
+        slotRepository.findCalendarSlots(user.uuid, request.date(), request.date()) >> [new CalendarSlot(request.date(), LocalTime.of(8, 0), LocalTime.of(9, 0), AVAILABLE)]
 
         when:
         def response = slotService.createSlot(request)
 
         then:
-        1 * slotRepository.save(_)
+        1 * slotRepository.saveAndFlush(_)
         response.status == S00003
     }
 
     def "should fail to create overlapping slot"() {
         given:
         def request = new CreateSlotRequest(LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0), OIL_CHANGE)
-        slotRepository.existsByMechanicAndDateAndTimeOverlap(_ as User, _ as LocalDate, _ as LocalTime, _ as LocalTime) >> true
+        slotRepository.findCalendarSlots(user.uuid, request.date(), request.date()) >> [new CalendarSlot(request.date(), LocalTime.of(10, 30), LocalTime.of(12, 0), BOOKED)]
+
+        when:
+        slotService.createSlot(request)
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E05000
+    }
+
+    def "should fail to create slot that does not end after it starts"() {
+        given:
+        def request = new CreateSlotRequest(LocalDate.now().plusDays(1), startTime, LocalTime.of(10, 0), OIL_CHANGE)
+
+        when:
+        slotService.createSlot(request)
+
+        then:
+        0 * slotRepository.saveAndFlush(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05010
+
+        where:
+        startTime << [LocalTime.of(10, 0), LocalTime.of(11, 0)]
+    }
+
+    def "should fail to create slot overlapping one created concurrently"() {
+        given:
+        def request = new CreateSlotRequest(LocalDate.now().plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0), OIL_CHANGE)
+        slotRepository.findCalendarSlots(user.uuid, request.date(), request.date()) >> [new CalendarSlot(request.date(), LocalTime.of(8, 0), LocalTime.of(9, 0), AVAILABLE)]
+        slotRepository.saveAndFlush(_) >> { throw new DataIntegrityViolationException("excl_slot_mechanic_id_time_range") }
 
         when:
         slotService.createSlot(request)
 
         then:
+        0 * eventPublisher.publishEvent(_)
         def ex = thrown(ServiceException)
         ex.status == E05000
+        mechanicCalendarIndex.size == 0
+    }
+
+    def "createRecurringSlots should expand templates and skip overlapping slots"() {
+        given:
+        def monday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY)
+        def request = new CreateRecurringSlotsRequest(monday, monday.plusDays(13), [
+                new RecurringSlotTemplate(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0), OIL_CHANGE),
+                new RecurringSlotTemplate(DayOfWeek.MONDAY, LocalTime.of(8, 30), LocalTime.of(9, 30), OIL_CHANGE),
+                new RecurringSlotTemplate(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(12, 0), OIL_CHANGE)
+        ])
+
+        when:
+        def response = slotService.createRecurringSlots(request)
+
+        then:
+        1 * slotRepository.findCalendarSlots(user.uuid, request.from(), request.to()) >> [new CalendarSlot(monday.plusDays(2), LocalTime.of(11, 0), LocalTime.of(13, 0), BOOKED)]
+        1 * slotRepository.insertAll({ List<Slot> slots ->
+            slots*.date == [monday, monday.plusDays(7), monday.plusDays(9)] && slots.every { it.mechanic == user && it.status == AVAILABLE }
+        })
+        3 * eventPublisher.publishEvent({ it.type() == SlotChangeType.CREATED })
+        response.created() == 3
+        response.skipped() == 3
+    }
+
+    def "createRecurringSlots should drop cached days of slots rejected by overlap constraint"() {
+        given:
+        def monday = LocalDate.now().plusWeeks(1).with(DayOfWeek.MONDAY)
+        def request = new CreateRecurringSlotsRequest(monday, monday.plusDays(13), [
+                new RecurringSlotTemplate(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0), OIL_CHANGE),
+                new RecurringSlotTemplate(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(12, 0), OIL_CHANGE)
+        ])
+        slotRepository.findCalendarSlots(user.uuid, request.from(), request.to()) >> []
+        slotRepository.insertAll(_) >> { throw new DataIntegrityViolationException("excl_slot_mechanic_id_time_range") }
+
+        when:
+        slotService.createRecurringSlots(request)
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05000
+        mechanicCalendarIndex.size == 10
+    }
+
+    def "createRecurringSlots should reject template ending before it starts"() {
+        given:
+        def from = LocalDate.now().plusDays(1)
+        def request = new CreateRecurringSlotsRequest(from, from.plusDays(7), [new RecurringSlotTemplate(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(8, 0), OIL_CHANGE)])
+
+        when:
+        slotService.createRecurringSlots(request)
+
+        then:
+        0 * slotRepository.insertAll(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05009
+    }
+
+    def "createRecurringSlots should reject too long date range"() {
+        given:
+        def from = LocalDate.now().plusDays(1)
+        def request = new CreateRecurringSlotsRequest(from, from.plusDays(366), [new RecurringSlotTemplate(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0), OIL_CHANGE)])
+
+        when:
+        slotService.createRecurringSlots(request)
+
+        then:
+        0 * slotRepository.findCalendarSlots(*_)
+        def ex = thrown(ServiceException)
+        ex.status == E05009
+    }
+
+    def "should return mechanic slots after cursor"() {
+        given:
+        def createdDate = LocalDateTime.of(2025, 10, 18, 12, 0)
+        def row = new MechanicSlotsResponse(randomUUID(), LocalDate.now(), LocalTime.of(10, 0), LocalTime.of(11, 0), OIL_CHANGE, AVAILABLE)
+
+        when:
+        def response = slotService.getMechanicSlots(new Cursor(createdDate, 7L).encode(), 1)
+
+        then:
+        1 * slotRepository.findKeysByMechanicUuidAfter(user.uuid, createdDate, 7L, Limit.of(2)) >> [new Cursor(createdDate, 6L)]
+        1 * slotRepository.findMechanicSlotsByIdIn([6L]) >> [row]
+        response.content() == [row]
+        !response.hasNext()
+        response.nextCursor() == null
     }
 
     def "should cancel slot successfully with booked bookings"() {
         given:
         def slotUuid = randomUUID()
         def slot = new Slot(uuid: slotUuid, status: BOOKED, mechanic: user)
-        def booking = new Booking(uuid: randomUUID(), status: CONFIRMED, slot: slot)
-        slot.setBookings(List.of(booking))
+        ReflectionTestUtils.setField(slot, "id", 10L)
+        def canceledBookings = [new CanceledBooking(randomUUID(), "client@example.com")]
+
+        slotRepository.lockSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
+
+        when:
+        def response = slotService.cancelSlot(slotUuid)
+
+        then:
+        1 * bookingRepository.cancelAllConfirmedBySlotId(10L, _) >> [1L]
+        1 * bookingRepository.findCanceledBookingsByIdIn([1L]) >> canceledBookings
+        1 * eventPublisher.publishEvent(new SlotCanceledEvent(slot, canceledBookings))
+        1 * waitlistService.clearWaitlist(slot)
+        1 * slotRepository.save(_)
+        0 * bookingRepository.saveAll(_)
+        slot.status == CANCELED
+        response.status == S00001
+    }
+
+    def "should cancel available slot without touching bookings"() {
+        given:
+        def slotUuid = randomUUID()
+        def slot = new Slot(uuid: slotUuid, status: AVAILABLE, mechanic: user)
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.lockSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
 
         when:
         def response = slotService.cancelSlot(slotUuid)
 
         then:
+        0 * bookingRepository._
+        0 * eventPublisher.publishEvent(_ as SlotCanceledEvent)
         1 * slotRepository.save(_)
-        1 * bookingRepository.saveAll(_)
         slot.status == CANCELED
-        slot.bookings.get(0).status == BookingStatus.CANCELED
         response.status == S00001
     }
 
     def "should fail to cancel slot not found"() {
         given:
         def slotUuid = randomUUID()
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.empty()
+        slotRepository.lockSlotWithMechanicByUuid(slotUuid) >> Optional.empty()
 
         when:
         slotService.cancelSlot(slotUuid)
@@ -116,7 +277,7 @@ class SlotServiceTest extends Specification {
         def slotUuid = randomUUID()
         def slot = new Slot(uuid: slotUuid, status: AVAILABLE, mechanic: new User(uuid: randomUUID()))
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.lockSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
 
         when:
         slotService.cancelSlot(slotUuid)
@@ -133,7 +294,7 @@ class SlotServiceTest extends Specification {
         def slotUuid = randomUUID()
         def slot = new Slot(uuid: slotUuid, status: CANCELED, mechanic: user)
 
-        slotRepository.findSlotWithMechanicAndBookingByUuid(slotUuid) >> Optional.of(slot)
+        slotRepository.lockSlotWithMechanicByUuid(slotUuid) >> Optional.of(slot)
 
         when:
         slotService.cancelSlot(slotUuid)
@@ -1,5 +1,6 @@
 package pl.rezerveo.booking.user.service
 
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.security.authentication.TestingAuthenticationToken
 import org.springframework.security.core.context.SecurityContextHolder
 import org.springframework.security.crypto.password.PasswordEncoder
@@ -8,6 +9,7 @@ import pl.rezerveo.booking.exception.exception.ServiceException
 import pl.rezerveo.booking.security.encryption.EncryptionService
 import pl.rezerveo.booking.user.dto.request.ChangePasswordRequest
 import pl.rezerveo.booking.user.dto.request.UpdateUserRequest
+import pl.rezerveo.booking.user.event.MechanicRenamedEvent
 import pl.rezerveo.booking.user.model.User
 import pl.rezerveo.booking.user.repository.UserRepository
 import pl.rezerveo.booking.user.service.impl.UserServiceImpl
@@ -18,14 +20,17 @@ import static pl.rezerveo.booking.common.enumerated.ResponseCode.E00000
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E03001
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.E03006
 import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000
+import static pl.rezerveo.booking.user.enumerated.Role.CLIENT
+import static pl.rezerveo.booking.user.enumerated.Role.MECHANIC
 
 class UserServiceTest extends Specification {
 
     def userRepository = Mock(UserRepository)
     def passwordEncoder = Mock(PasswordEncoder)
     def encryptionService = Mock(EncryptionService)
+    def eventPublisher = Mock(ApplicationEventPublisher)
 
-    def userService = new UserServiceImpl(userRepository, passwordEncoder, encryptionService)
+    def userService = new UserServiceImpl(userRepository, passwordEncoder, encryptionService, eventPublisher)
 
     def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
 
@@ -91,6 +96,41 @@ class UserServiceTest extends Specification {
         user.email == "new@example.com"
     }
 
+    def "updateUser should publish new name of renamed mechanic"() {
+        given:
+        user.role = MECHANIC
+        user.firstName = "Jan"
+        user.lastName = "Kowalski"
+        def request = new UpdateUserRequest("Jan", "Nowak", user.email, null)
+
+        when:
+        userService.updateUser(request)
+
+        then:
+        1 * userRepository.save(user)
+
+        then:
+        1 * eventPublisher.publishEvent(new MechanicRenamedEvent(user.uuid, "Jan Nowak"))
+    }
+
+    def "updateUser should not publish rename when name is unchanged or user is not a mechanic"() {
+        given:
+        user.role = role
+        user.firstName = "Jan"
+        user.lastName = "Kowalski"
+
+        when:
+        userService.updateUser(new UpdateUserRequest("Jan", lastName, user.email, "123456789"))
+
+        then:
+        0 * eventPublisher.publishEvent(_)
+
+        where:
+        role     | lastName
+        MECHANIC | "Kowalski"
+        CLIENT   | "Nowak"
+    }
+
     def "updateUser should throw when email already taken"() {
         given:
         def request = new UpdateUserRequest("newFirstName", "NewLastName", "new@example.com", "123456789")
@@ -0,0 +1,38 @@
+package pl.rezerveo.booking.waitlist.queue
+
+import pl.rezerveo.booking.waitlist.event.WaitlistChangedEvent
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.JOINED
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.LEFT
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.PROMOTED
+
+class WaitlistQueuesTest extends Specification {
+
+    WaitlistQueues waitlistQueues = new WaitlistQueues()
+
+    def "should apply committed joins and leaves to loaded queue"() {
+        given:
+        waitlistQueues.poll(1L, { [3L, 5L] } as Supplier)
+
+        when:
+        waitlistQueues.onWaitlistChanged(new WaitlistChangedEvent(JOINED, 1L, 8L))
+        waitlistQueues.onWaitlistChanged(new WaitlistChangedEvent(LEFT, 1L, 5L))
+
+        then:
+        waitlistQueues.poll(1L, { [] } as Supplier) == 8L
+    }
+
+    def "should reload queue after promotion was rolled back"() {
+        given:
+        waitlistQueues.poll(1L, { [3L, 5L] } as Supplier)
+
+        when:
+        waitlistQueues.onWaitlistChangeRolledBack(WaitlistChangedEvent.of(PROMOTED, 1L))
+
+        then:
+        waitlistQueues.poll(1L, { [3L, 5L] } as Supplier) == 3L
+    }
+}
@@ -0,0 +1,205 @@
+package pl.rezerveo.booking.waitlist.service
+
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.test.util.ReflectionTestUtils
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.slot.model.Slot
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import pl.rezerveo.booking.waitlist.event.WaitlistChangedEvent
+import pl.rezerveo.booking.waitlist.model.WaitlistEntry
+import pl.rezerveo.booking.waitlist.queue.WaitlistQueues
+import pl.rezerveo.booking.waitlist.repository.WaitlistEntryRepository
+import pl.rezerveo.booking.waitlist.service.impl.WaitlistServiceImpl
+import spock.lang.Specification
+
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08000
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08001
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08002
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E08003
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00001
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00003
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.AVAILABLE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.BOOKED
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.CLEARED
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.JOINED
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.LEFT
+import static pl.rezerveo.booking.waitlist.event.WaitlistChangeType.PROMOTED
+
+class WaitlistServiceTest extends Specification {
+
+    SlotRepository slotRepository = Mock()
+    BookingRepository bookingRepository = Mock()
+    WaitlistEntryRepository waitlistEntryRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock()
+
+    WaitlistService waitlistService = new WaitlistServiceImpl(slotRepository, bookingRepository, waitlistEntryRepository, new WaitlistQueues(), eventPublisher)
+
+    def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "joinWaitlist should add user to waitlist of booked slot"() {
+        given:
+        def slot = slot(BOOKED)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        def response = waitlistService.joinWaitlist(slot.uuid)
+
+        then:
+        1 * waitlistEntryRepository.saveAndFlush({ it.slot == slot && it.client == user }) >> { WaitlistEntry entry -> ReflectionTestUtils.setField(entry, "id", 7L); entry }
+        1 * eventPublisher.publishEvent(new WaitlistChangedEvent(JOINED, slot.id, 7L))
+        response.status == S00003
+    }
+
+    def "joinWaitlist should reject slot that can be booked directly"() {
+        given:
+        def slot = slot(AVAILABLE)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        waitlistService.joinWaitlist(slot.uuid)
+
+        then:
+        0 * waitlistEntryRepository.saveAndFlush(_)
+        0 * eventPublisher.publishEvent(_)
+        def ex = thrown(ServiceException)
+        ex.status == E08001
+    }
+
+    def "joinWaitlist should reject mechanic joining waitlist of own slot"() {
+        given:
+        def slot = new Slot(uuid: randomUUID(), status: BOOKED, mechanic: user)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+
+        when:
+        waitlistService.joinWaitlist(slot.uuid)
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E06004
+    }
+
+    def "joinWaitlist should reject user who already booked the slot"() {
+        given:
+        def slot = slot(BOOKED)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        bookingRepository.existsConfirmedBySlotIdAndClientId(slot.id, _) >> true
+
+        when:
+        waitlistService.joinWaitlist(slot.uuid)
+
+        then:
+        0 * waitlistEntryRepository.saveAndFlush(_)
+        def ex = thrown(ServiceException)
+        ex.status == E08003
+    }
+
+    def "joinWaitlist should reject user already on waitlist"() {
+        given:
+        def slot = slot(BOOKED)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        waitlistEntryRepository.existsBySlotIdAndClientId(slot.id, _) >> true
+
+        when:
+        waitlistService.joinWaitlist(slot.uuid)
+
+        then:
+        0 * waitlistEntryRepository.saveAndFlush(_)
+        def ex = thrown(ServiceException)
+        ex.status == E08000
+    }
+
+    def "leaveWaitlist should remove user from waitlist"() {
+        given:
+        def slot = slot(BOOKED)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        waitlistEntryRepository.findIdBySlotIdAndClientId(slot.id, _) >> Optional.of(7L)
+
+        when:
+        def response = waitlistService.leaveWaitlist(slot.uuid)
+
+        then:
+        1 * waitlistEntryRepository.deleteById(7L)
+        1 * eventPublisher.publishEvent(new WaitlistChangedEvent(LEFT, slot.id, 7L))
+        response.status == S00001
+    }
+
+    def "leaveWaitlist should throw exception if user is not on waitlist"() {
+        given:
+        def slot = slot(BOOKED)
+        slotRepository.findSlotWithMechanicByUuid(slot.uuid) >> Optional.of(slot)
+        waitlistEntryRepository.findIdBySlotIdAndClientId(slot.id, _) >> Optional.empty()
+
+        when:
+        waitlistService.leaveWaitlist(slot.uuid)
+
+        then:
+        0 * waitlistEntryRepository.deleteById(_)
+        def ex = thrown(ServiceException)
+        ex.status == E08002
+    }
+
+    def "promoteNext should promote longest waiting client and skip entries that left"() {
+        given:
+        def slot = slot(BOOKED)
+        def waitingClient = new User(uuid: randomUUID())
+        def entry = new WaitlistEntry(slot: slot, client: waitingClient)
+        waitlistEntryRepository.findAllIdsBySlotId(slot.id) >> [3L, 5L, 8L]
+        waitlistEntryRepository.findWithClientById(3L) >> Optional.empty()
+        waitlistEntryRepository.findWithClientById(5L) >> Optional.of(entry)
+
+        when:
+        def promoted = waitlistService.promoteNext(slot)
+
+        then:
+        1 * waitlistEntryRepository.delete(entry)
+        1 * eventPublisher.publishEvent(WaitlistChangedEvent.of(PROMOTED, slot.id))
+        promoted == Optional.of(waitingClient)
+    }
+
+    def "promoteNext should return empty result when nobody is waiting"() {
+        given:
+        def slot = slot(BOOKED)
+        waitlistEntryRepository.findAllIdsBySlotId(slot.id) >> []
+
+        when:
+        def promoted = waitlistService.promoteNext(slot)
+
+        then:
+        0 * waitlistEntryRepository.delete(_)
+        promoted.isEmpty()
+    }
+
+    def "clearWaitlist should remove all entries of slot"() {
+        given:
+        def slot = slot(BOOKED)
+
+        when:
+        waitlistService.clearWaitlist(slot)
+
+        then:
+        1 * waitlistEntryRepository.deleteAllBySlotId(slot.id) >> 2
+        1 * eventPublisher.publishEvent(WaitlistChangedEvent.of(CLEARED, slot.id))
+    }
+
+    private static Slot slot(status) {
+        def slot = new Slot(uuid: randomUUID(), status: status, mechanic: new User(uuid: randomUUID()))
+        ReflectionTestUtils.setField(slot, "id", 1L)
+        return slot
+    }
+}
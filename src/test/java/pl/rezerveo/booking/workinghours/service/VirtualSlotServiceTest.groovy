@@ -0,0 +1,156 @@
+package pl.rezerveo.booking.workinghours.service
+
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import pl.rezerveo.booking.booking.enumerated.BookingStatus
+import pl.rezerveo.booking.booking.repository.BookingRepository
+import pl.rezerveo.booking.common.coalescing.ReadCoalescer
+import pl.rezerveo.booking.common.version.ChangeVersions
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.notification.event.BookingConfirmedEvent
+import pl.rezerveo.booking.properties.MechanicCalendarProperties
+import pl.rezerveo.booking.properties.ReadCoalescingProperties
+import pl.rezerveo.booking.slot.calendar.MechanicCalendarIndex
+import pl.rezerveo.booking.slot.dto.CalendarSlot
+import pl.rezerveo.booking.slot.event.SlotChangeType
+import pl.rezerveo.booking.slot.repository.SlotRepository
+import pl.rezerveo.booking.user.model.User
+import pl.rezerveo.booking.workinghours.dto.VirtualSlotKey
+import pl.rezerveo.booking.workinghours.model.WorkingHours
+import pl.rezerveo.booking.workinghours.repository.WorkingHoursRepository
+import pl.rezerveo.booking.workinghours.service.impl.VirtualSlotServiceImpl
+import spock.lang.Specification
+
+import java.time.DayOfWeek
+import java.time.LocalDate
+import java.time.LocalTime
+
+import static java.time.DayOfWeek.MONDAY
+import static java.time.DayOfWeek.WEDNESDAY
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E05004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E06004
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E09001
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.S00000
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
+import static pl.rezerveo.booking.slot.enumerate.SlotStatus.BOOKED
+
+class VirtualSlotServiceTest extends Specification {
+
+    WorkingHoursRepository workingHoursRepository = Mock()
+    SlotRepository slotRepository = Mock()
+    BookingRepository bookingRepository = Mock()
+    ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+    ReadCoalescer readCoalescer = new ReadCoalescer(new ReadCoalescingProperties(enabled: true))
+    MechanicCalendarIndex mechanicCalendarIndex = new MechanicCalendarIndex(slotRepository, new MechanicCalendarProperties(enabled: true, maxEntries: 100, eviction: "-", cellMinutes: 15), new ChangeVersions())
+
+    VirtualSlotService virtualSlotService = new VirtualSlotServiceImpl(workingHoursRepository, slotRepository, bookingRepository, eventPublisher, readCoalescer, mechanicCalendarIndex)
+
+    def user = new User(uuid: randomUUID(), email: "user@example.com", password: "encoded-pass")
+    def mechanic = new User(uuid: randomUUID(), firstName: "Jan", lastName: "Kowalski")
+    def monday = LocalDate.now().plusWeeks(1).with(MONDAY)
+
+    def setup() {
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "getAvailableVirtualSlots should skip taken time and stop once enough slots are found"() {
+        given:
+        def otherMechanic = new User(uuid: randomUUID(), firstName: "Anna", lastName: "Nowak")
+        workingHoursRepository.findAllWithMechanicByServiceType(OIL_CHANGE) >> [workingHours(mechanic, MONDAY, 8, 10, 30), workingHours(otherMechanic, WEDNESDAY, 8, 10, 30)]
+
+        when:
+        def slots = virtualSlotService.getAvailableVirtualSlots(OIL_CHANGE, monday, monday.plusDays(6), 3)
+
+        then:
+        1 * slotRepository.findCalendarSlots(mechanic.uuid, monday, monday) >> [new CalendarSlot(monday, LocalTime.of(8, 30), LocalTime.of(9, 0), BOOKED)]
+        0 * slotRepository.findCalendarSlots(otherMechanic.uuid, *_)
+        slots*.startTime == [LocalTime.of(8, 0), LocalTime.of(9, 0), LocalTime.of(9, 30)]
+        slots.every { it.date == monday && it.mechanicName == "Jan Kowalski" }
+        VirtualSlotKey.decode(slots[1].key()).startTime() == LocalTime.of(9, 0)
+    }
+
+    def "bookVirtualSlot should create booked slot with booking"() {
+        given:
+        def rule = workingHours(mechanic, MONDAY, 8, 10, 30)
+        workingHoursRepository.findWithMechanicByUuid(rule.uuid) >> Optional.of(rule)
+        slotRepository.findCalendarSlots(mechanic.uuid, monday, monday) >> []
+
+        when:
+        def response = virtualSlotService.bookVirtualSlot(new VirtualSlotKey(rule.uuid, monday, LocalTime.of(9, 30)).encode())
+
+        then:
+        1 * slotRepository.saveAndFlush({ it.status == BOOKED && it.mechanic == mechanic && it.startTime == LocalTime.of(9, 30) && it.endTime == LocalTime.of(10, 0) })
+        1 * bookingRepository.save({ it.status == BookingStatus.CONFIRMED && it.client == user })
+        1 * eventPublisher.publishEvent({ it.type() == SlotChangeType.BOOKED })
+        1 * eventPublisher.publishEvent({ it instanceof BookingConfirmedEvent && it.client() == user })
+        response.status == S00000
+    }
+
+    def "bookVirtualSlot should reject slot off the working hours grid"() {
+        given:
+        def rule = workingHours(mechanic, MONDAY, 8, 10, 30)
+        workingHoursRepository.findWithMechanicByUuid(rule.uuid) >> Optional.of(rule)
+
+        when:
+        virtualSlotService.bookVirtualSlot(new VirtualSlotKey(rule.uuid, monday, startTime).encode())
+
+        then:
+        0 * slotRepository.saveAndFlush(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+
+        where:
+        startTime << [LocalTime.of(8, 15), LocalTime.of(10, 0), LocalTime.of(7, 30)]
+    }
+
+    def "bookVirtualSlot should reject slot claimed concurrently"() {
+        given:
+        def rule = workingHours(mechanic, MONDAY, 8, 10, 30)
+        workingHoursRepository.findWithMechanicByUuid(rule.uuid) >> Optional.of(rule)
+        slotRepository.findCalendarSlots(mechanic.uuid, monday, monday) >> []
+        slotRepository.saveAndFlush(_) >> { throw new DataIntegrityViolationException("excl_slot_mechanic_id_time_range") }
+
+        when:
+        virtualSlotService.bookVirtualSlot(new VirtualSlotKey(rule.uuid, monday, LocalTime.of(8, 0)).encode())
+
+        then:
+        0 * bookingRepository.save(_)
+        def ex = thrown(ServiceException)
+        ex.status == E05004
+    }
+
+    def "bookVirtualSlot should reject mechanic booking own working hours"() {
+        given:
+        def rule = workingHours(user, MONDAY, 8, 10, 30)
+        workingHoursRepository.findWithMechanicByUuid(rule.uuid) >> Optional.of(rule)
+
+        when:
+        virtualSlotService.bookVirtualSlot(new VirtualSlotKey(rule.uuid, monday, LocalTime.of(8, 0)).encode())
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E06004
+    }
+
+    def "bookVirtualSlot should reject malformed key"() {
+        when:
+        virtualSlotService.bookVirtualSlot("not-a-key")
+
+        then:
+        def ex = thrown(ServiceException)
+        ex.status == E09001
+    }
+
+    private static WorkingHours workingHours(User mechanic, DayOfWeek dayOfWeek, int startHour, int endHour, int slotMinutes) {
+        return new WorkingHours(uuid: randomUUID(), mechanic: mechanic, dayOfWeek: dayOfWeek, startTime: LocalTime.of(startHour, 0), endTime: LocalTime.of(endHour, 0), serviceType: OIL_CHANGE, slotMinutes: slotMinutes)
+    }
+}
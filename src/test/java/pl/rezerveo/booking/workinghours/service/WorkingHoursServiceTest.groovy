@@ -0,0 +1,91 @@
+package pl.rezerveo.booking.workinghours.service
+
+import org.springframework.security.authentication.TestingAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.test.util.ReflectionTestUtils
+import pl.rezerveo.booking.exception.exception.ServiceException
+import pl.rezerveo.booking.user.model.User
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRequest
+import pl.rezerveo.booking.workinghours.dto.request.WorkingHoursRule
+import pl.rezerveo.booking.workinghours.model.WorkingHours
+import pl.rezerveo.booking.workinghours.repository.WorkingHoursRepository
+import pl.rezerveo.booking.workinghours.service.impl.WorkingHoursServiceImpl
+import spock.lang.Specification
+
+import java.time.LocalTime
+
+import static java.time.DayOfWeek.FRIDAY
+import static java.time.DayOfWeek.MONDAY
+import static java.util.UUID.randomUUID
+import static pl.rezerveo.booking.common.enumerated.ResponseCode.E09000
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.GENERAL_CHECKUP
+import static pl.rezerveo.booking.slot.enumerate.ServiceType.OIL_CHANGE
+
+class WorkingHoursServiceTest extends Specification {
+
+    WorkingHoursRepository workingHoursRepository = Mock()
+
+    WorkingHoursService workingHoursService = new WorkingHoursServiceImpl(workingHoursRepository)
+
+    def user = new User(uuid: randomUUID(), email: "mechanic@example.com", password: "encoded-pass")
+
+    def setup() {
+        ReflectionTestUtils.setField(user, "id", 1L)
+        def authentication = new TestingAuthenticationToken(user, null)
+        authentication.setAuthenticated(true)
+        SecurityContextHolder.getContext().setAuthentication(authentication)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "replaceWorkingHours should replace all rules of mechanic"() {
+        given:
+        def request = new WorkingHoursRequest([
+                rule(FRIDAY, 8, 12, OIL_CHANGE, 30),
+                rule(MONDAY, 12, 16, GENERAL_CHECKUP, 60),
+                rule(MONDAY, 8, 12, OIL_CHANGE, 30)
+        ])
+
+        when:
+        def response = workingHoursService.replaceWorkingHours(request)
+
+        then:
+        1 * workingHoursRepository.deleteAllByMechanicId(1L) >> 2
+        1 * workingHoursRepository.saveAll({ List<WorkingHours> rules -> rules.size() == 3 && rules.every { it.mechanic == user && it.uuid } })
+        response*.dayOfWeek == [MONDAY, MONDAY, FRIDAY]
+        response*.startTime == [LocalTime.of(8, 0), LocalTime.of(12, 0), LocalTime.of(8, 0)]
+    }
+
+    def "replaceWorkingHours should reject rules overlapping on the same day"() {
+        given:
+        def request = new WorkingHoursRequest([rule(MONDAY, 8, 12, OIL_CHANGE, 30), rule(MONDAY, 11, 14, GENERAL_CHECKUP, 60)])
+
+        when:
+        workingHoursService.replaceWorkingHours(request)
+
+        then:
+        0 * workingHoursRepository.deleteAllByMechanicId(_)
+        0 * workingHoursRepository.saveAll(_)
+        def ex = thrown(ServiceException)
+        ex.status == E09000
+    }
+
+    def "replaceWorkingHours should reject rules shorter than a single slot"() {
+        given:
+        def request = new WorkingHoursRequest([rule(MONDAY, 8, 9, OIL_CHANGE, 90)])
+
+        when:
+        workingHoursService.replaceWorkingHours(request)
+
+        then:
+        0 * workingHoursRepository.saveAll(_)
+        def ex = thrown(ServiceException)
+        ex.status == E09000
+    }
+
+    private static WorkingHoursRule rule(dayOfWeek, int startHour, int endHour, serviceType, int slotMinutes) {
+        return new WorkingHoursRule(dayOfWeek, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), serviceType, slotMinutes)
+    }
+}